@@ -0,0 +1,40 @@
+package com.employeemanagement.employeemanagementsystem.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of benchmarks.jar
+ * Accepts the usual JMH command line (e.g. -p size=1000,100000 -p idType=INTEGER) and,
+ * unless -rf/-rff are given, writes the results as JSON to jmh-results/employee-db-<timestamp>.json
+ * so runs from different releases can be compared
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            new java.io.File("jmh-results").mkdirs();
+            options.result("jmh-results/employee-db-" + timestamp + ".json");
+        }
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(EmployeeDatabaseBenchmark.class.getSimpleName());
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,143 @@
+package com.employeemanagement.employeemanagementsystem.benchmark;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeSortOrder;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the EmployeeDatabase operations used by the UI and reports
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class EmployeeDatabaseBenchmark {
+
+    private final Random random = new Random(7);
+
+    // Picks an existing employee ID
+    private Object existingId(EmployeeDatabaseState state) {
+        return state.ids[ThreadLocalRandom.current().nextInt(state.ids.length)];
+    }
+
+    // CRUD
+
+    //Adds a new employee and deletes it again so the roster size stays constant
+    @Benchmark
+    public boolean addEmployee(EmployeeDatabaseState state) {
+        Object id = state.freshId();
+        boolean added = state.database.addEmployee(EmployeeDatabaseState.randomEmployee(id, random));
+        state.database.deleteEmployee(id);
+        return added;
+    }
+
+    @Benchmark
+    public boolean updateEmployeeDetails(EmployeeDatabaseState state) {
+        return state.database.updateEmployeeDetails(existingId(state), "employeeSalary",
+                30_000.0 + ThreadLocalRandom.current().nextInt(120_000));
+    }
+
+    @Benchmark
+    public Employee<Object> getEmployee(EmployeeDatabaseState state) {
+        return state.database.getEmployee(existingId(state));
+    }
+
+    // Search
+
+    @Benchmark
+    public List<Employee<Object>> findEmployeesByDepartment(EmployeeDatabaseState state) {
+        return state.database.findEmployeesByDepartment("IT");
+    }
+
+    @Benchmark
+    public List<Employee<Object>> findEmployeesByName(EmployeeDatabaseState state) {
+        return state.database.findEmployeesByName("ali");
+    }
+
+    @Benchmark
+    public List<Employee<Object>> findEmployeesByMinRating(EmployeeDatabaseState state) {
+        return state.database.findEmployeesByMinRating(4.5);
+    }
+
+    @Benchmark
+    public List<Employee<Object>> findEmployeesBySalaryRange(EmployeeDatabaseState state) {
+        return state.database.findEmployeesBySalaryRange(50_000, 60_000);
+    }
+
+    @Benchmark
+    public List<Employee<Object>> findEmployees(EmployeeDatabaseState state) {
+        return state.database.findEmployees(employee -> employee.isActive() && employee.yearsOfExperience() > 20);
+    }
+
+    // Sorting
+
+    @Benchmark
+    public List<Employee<Object>> getEmployeesSortedByExperience(EmployeeDatabaseState state) {
+        return state.database.getEmployeesSortedByExperience();
+    }
+
+    @Benchmark
+    public List<Employee<Object>> getEmployeesSortedBySalary(EmployeeDatabaseState state) {
+        return state.database.getEmployeesSortedBySalary();
+    }
+
+    @Benchmark
+    public List<Employee<Object>> getEmployeesSortedByPerformance(EmployeeDatabaseState state) {
+        return state.database.getEmployeesSortedByPerformance();
+    }
+
+    //Reads one page of the maintained salary order
+    @Benchmark
+    public List<Employee<Object>> getEmployeesSortedPage(EmployeeDatabaseState state) {
+        return state.database.getEmployeesSorted(EEmployeeSortOrder.SALARY, state.size / 2, 100);
+    }
+
+    // Salary management and aggregates
+
+    @Benchmark
+    public List<Employee<Object>> getTopPaidEmployees(EmployeeDatabaseState state) {
+        return state.database.getTopPaidEmployees(10);
+    }
+
+    @Benchmark
+    public int giveSalaryRaiseToHighPerformers(EmployeeDatabaseState state) {
+        return state.database.giveSalaryRaiseToHighPerformers();
+    }
+
+    @Benchmark
+    public double calculateAverageSalaryByDepartment(EmployeeDatabaseState state) {
+        return state.database.calculateAverageSalaryByDepartment("FINANCE");
+    }
+
+    @Benchmark
+    public int getActiveEmployeeCount(EmployeeDatabaseState state) {
+        return state.database.getActiveEmployeeCount();
+    }
+
+    //Walks the whole roster through the iterator
+    @Benchmark
+    public double iterateEmployees(EmployeeDatabaseState state) {
+        double total = 0;
+        Iterator<Employee<Object>> iterator = state.database.getEmployeeIterator();
+        while (iterator.hasNext()) {
+            total += iterator.next().employeeSalary();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,61 @@
+package com.employeemanagement.employeemanagementsystem.benchmark;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Pre-populated EmployeeDatabase shared by the benchmarks, parameterized by roster size and ID type
+ */
+@State(Scope.Benchmark)
+public class EmployeeDatabaseState {
+
+    private static final String[] NAMES = {
+            "Alice", "Bob", "Carol", "David", "Eve", "Frank", "Grace", "Heidi", "Ivan", "Judy",
+            "Kevin", "Laura", "Mallory", "Niaj", "Olivia", "Peggy", "Rupert", "Sybil", "Trent", "Victor"
+    };
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"INTEGER", "STRING", "UUID"})
+    public IdType idType;
+
+    public EmployeeDatabase<Object> database;
+    public Object[] ids;
+    private int nextSequence;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        database = new EmployeeDatabase<>();
+        ids = new Object[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            ids[i] = idType.id(i);
+            database.addEmployee(randomEmployee(ids[i], random));
+        }
+        nextSequence = size;
+    }
+
+    //Creates an employee with reproducible random attributes
+    public static <T> Employee<T> randomEmployee(T id, Random random) {
+        String name = NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)];
+        EEmployeeDepartment department = EEmployeeDepartment.values()[random.nextInt(EEmployeeDepartment.values().length)];
+        double salary = 30_000 + random.nextInt(120_000);
+        double rating = random.nextInt(51) / 10.0;
+        int experience = random.nextInt(40);
+        return new Employee<>(id, name, department, salary, rating, experience, random.nextInt(10) != 0);
+    }
+
+    //Gets an ID that is not in the database yet
+    public Object freshId() {
+        return idType.id(nextSequence++);
+    }
+}
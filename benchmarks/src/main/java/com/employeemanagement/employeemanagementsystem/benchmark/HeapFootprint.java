@@ -0,0 +1,64 @@
+package com.employeemanagement.employeemanagementsystem.benchmark;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.IntEmployeeDatabase;
+
+import java.lang.ref.Reference;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Measures the retained heap per employee of EmployeeDatabase<Integer> and IntEmployeeDatabase
+ * Run with java -Xmx4g -cp target/benchmarks.jar com.employeemanagement.employeemanagementsystem.benchmark.HeapFootprint [size]
+ * (default 1000000). Each roster is built from the same seed and the live heap is read after repeated full GCs.
+ */
+public class HeapFootprint {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long employees = measureEmployees(size);
+        long generic = measureDatabase(size, EmployeeDatabase::new);
+        long specialized = measureDatabase(size, IntEmployeeDatabase::new);
+
+        System.out.printf("%,d employees%n", size);
+        System.out.printf("  employee objects alone:     %6.1f bytes/employee%n", (double) employees / size);
+        System.out.printf("  EmployeeDatabase<Integer>:  %6.1f bytes/employee%n", (double) generic / size);
+        System.out.printf("  IntEmployeeDatabase:        %6.1f bytes/employee%n", (double) specialized / size);
+        System.out.printf("  saved by the int ID map:    %6.1f bytes/employee%n", (double) (generic - specialized) / size);
+    }
+
+    // Gets the heap retained by the employee objects themselves
+    private static long measureEmployees(int size) {
+        long before = liveHeap();
+        Employee<?>[] employees = new Employee<?>[size];
+        Random random = new Random(42);
+        for (int id = 0; id < size; id++) {
+            employees[id] = EmployeeDatabaseState.randomEmployee(id, random);
+        }
+        long retained = liveHeap() - before - (16L + 4L * size); // minus the holding array
+        Reference.reachabilityFence(employees);
+        return retained;
+    }
+
+    // Gets the heap retained by a database holding the employees, indexes included
+    private static long measureDatabase(int size, Supplier<EmployeeDatabase<Integer>> factory) {
+        long before = liveHeap();
+        EmployeeDatabase<Integer> database = factory.get();
+        Random random = new Random(42);
+        for (int id = 0; id < size; id++) {
+            database.addEmployee(EmployeeDatabaseState.randomEmployee(id, random));
+        }
+        long retained = liveHeap() - before;
+        Reference.reachabilityFence(database);
+        return retained;
+    }
+
+    private static long liveHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
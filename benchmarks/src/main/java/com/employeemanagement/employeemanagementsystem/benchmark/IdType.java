@@ -0,0 +1,31 @@
+package com.employeemanagement.employeemanagementsystem.benchmark;
+
+import java.util.UUID;
+
+/**
+ * Employee ID types exercised by the benchmarks (Employee<T> is generic over its ID)
+ * Each type maps a sequence number to a distinct, reproducible ID
+ */
+public enum IdType {
+    INTEGER {
+        @Override
+        public Object id(int sequence) {
+            return sequence;
+        }
+    },
+    STRING {
+        @Override
+        public Object id(int sequence) {
+            return "EMP-" + sequence;
+        }
+    },
+    UUID {
+        @Override
+        public Object id(int sequence) {
+            return new java.util.UUID(0x454d504c4f594545L, sequence);
+        }
+    };
+
+    //Gets the ID for the given sequence number
+    public abstract Object id(int sequence);
+}
@@ -0,0 +1,114 @@
+package com.employeemanagement.employeemanagementsystem.benchmark;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.IntEmployeeDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the ID lookups of IntEmployeeDatabase against the generic EmployeeDatabase<Integer>
+ * Both databases hold the same roster with IDs 0..size-1; callers pass int IDs, as the UI does after parsing
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntEmployeeDatabaseBenchmark {
+
+    /**
+     * The same roster in a generic and in an int-keyed database
+     */
+    @State(Scope.Benchmark)
+    public static class Databases {
+
+        @Param({"10000", "1000000"})
+        public int size;
+
+        public EmployeeDatabase<Integer> generic;
+        public IntEmployeeDatabase specialized;
+        private int nextId;
+
+        @Setup(Level.Trial)
+        public void populate() {
+            generic = new EmployeeDatabase<>();
+            specialized = new IntEmployeeDatabase();
+            Random genericRandom = new Random(42);
+            Random specializedRandom = new Random(42);
+            for (int id = 0; id < size; id++) {
+                generic.addEmployee(EmployeeDatabaseState.randomEmployee(id, genericRandom));
+                specialized.addEmployee(EmployeeDatabaseState.randomEmployee(id, specializedRandom));
+            }
+            nextId = size;
+        }
+
+        //Gets an ID that is not in either database yet
+        public int freshId() {
+            return nextId++;
+        }
+    }
+
+    private final Random random = new Random(7);
+
+    // Picks an existing employee ID
+    private static int existingId(Databases databases) {
+        return ThreadLocalRandom.current().nextInt(databases.size);
+    }
+
+    // Lookups
+
+    @Benchmark
+    public Employee<Integer> genericGetEmployee(Databases databases) {
+        return databases.generic.getEmployee(existingId(databases)); // boxes the ID
+    }
+
+    @Benchmark
+    public Employee<Integer> intGetEmployee(Databases databases) {
+        return databases.specialized.getEmployee(existingId(databases));
+    }
+
+    //Looks up an ID that is not stored (walks a whole probe sequence / bucket)
+    @Benchmark
+    public Employee<Integer> genericGetMissingEmployee(Databases databases) {
+        return databases.generic.getEmployee(databases.size + existingId(databases));
+    }
+
+    @Benchmark
+    public Employee<Integer> intGetMissingEmployee(Databases databases) {
+        return databases.specialized.getEmployee(databases.size + existingId(databases));
+    }
+
+    // Writes (the roster size stays constant)
+
+    @Benchmark
+    public boolean genericAddAndDeleteEmployee(Databases databases) {
+        int id = databases.freshId();
+        boolean added = databases.generic.addEmployee(EmployeeDatabaseState.randomEmployee(id, random));
+        databases.generic.deleteEmployee(id);
+        return added;
+    }
+
+    @Benchmark
+    public boolean intAddAndDeleteEmployee(Databases databases) {
+        int id = databases.freshId();
+        boolean added = databases.specialized.addEmployee(EmployeeDatabaseState.randomEmployee(id, random));
+        databases.specialized.deleteEmployee(id);
+        return added;
+    }
+}
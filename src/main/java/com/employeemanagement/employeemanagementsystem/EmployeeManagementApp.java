@@ -2,34 +2,124 @@ package com.employeemanagement.employeemanagementsystem;
 
 import com.employeemanagement.employeemanagementsystem.controller.EmployeeController;
 import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.IntEmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.persistence.EmployeeSnapshot;
+import com.employeemanagement.employeemanagementsystem.model.persistence.IdCodec;
+import com.employeemanagement.employeemanagementsystem.model.persistence.IdReservationFile;
+import com.employeemanagement.employeemanagementsystem.model.persistence.Snapshotter;
+import com.employeemanagement.employeemanagementsystem.model.persistence.WriteAheadLog;
 import com.employeemanagement.employeemanagementsystem.view.MainView;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
 /**
  * Main application class for the Employee Management System
  */
 public class EmployeeManagementApp extends Application {
 
-    private static EmployeeDatabase<Integer> employeeDatabase;
+    // Directory holding the persistent data, override with -Dems.dataDir=...
+    private static final Path DATA_DIR = Path.of(System.getProperty("ems.dataDir",
+            System.getProperty("user.home") + "/.employee-management"));
+    // How often the database is snapshotted so startup replays only a short log
+    private static final Duration SNAPSHOT_INTERVAL = Duration.ofMinutes(5);
+
+    private static IntEmployeeDatabase employeeDatabase;
+    private EmployeeController controller;
+    private WriteAheadLog<Integer> writeAheadLog;
+    private Snapshotter<Integer> snapshotter;
+    private Thread startup; // restores the database when the application starts
 
     @Override
     public void start(Stage primaryStage) {
-        // Initialize the database
-        employeeDatabase = new EmployeeDatabase<>();
-
         // Create the main view
         MainView mainView = new MainView();
-
-        // Create and set up the controller
-        EmployeeController controller = new EmployeeController(employeeDatabase, mainView);
+        mainView.getTableView().setBusy(true);
 
         // Create scene and set stage
         Scene scene = new Scene(mainView, 1366, 660);
         primaryStage.setTitle("Employee Management System");
         primaryStage.setScene(scene);
         primaryStage.show();
+
+        // Restore the database from the latest snapshot and the write-ahead log off the FX thread,
+        // then set up the controller on it
+        employeeDatabase = new IntEmployeeDatabase();
+        startup = new Thread(() -> {
+            try {
+                openPersistence();
+            } catch (IOException | RuntimeException e) {
+                Platform.runLater(() -> failStartup(e));
+                return;
+            }
+            Platform.runLater(() -> {
+                // Create and set up the controller
+                controller = new EmployeeController(employeeDatabase, mainView);
+                writeAheadLog.setFailureListener(failure ->
+                        Platform.runLater(() -> controller.showPersistenceFailure(failure)));
+            });
+        }, "startup");
+        startup.setDaemon(true);
+        startup.start();
+    }
+
+    // Loads the latest snapshot and replays the log written after it, then logs and snapshots every later change
+    private void openPersistence() throws IOException {
+        Path snapshotFile = DATA_DIR.resolve("employees.snapshot");
+        Files.createDirectories(DATA_DIR);
+        long snapshotLsn = EmployeeSnapshot.load(snapshotFile, IdCodec.INTEGER, employeeDatabase);
+        writeAheadLog = WriteAheadLog.open(DATA_DIR.resolve("employees.wal"), IdCodec.INTEGER,
+                WriteAheadLog.Options.defaults(), employeeDatabase, snapshotLsn);
+        employeeDatabase.setMutationLog(writeAheadLog);
+        employeeDatabase.setIdReservations(new IdReservationFile(DATA_DIR.resolve("employees.ids")));
+        snapshotter = Snapshotter.start(snapshotFile, IdCodec.INTEGER, employeeDatabase,
+                writeAheadLog, SNAPSHOT_INTERVAL);
+    }
+
+    // The saved data could not be restored: running on without it would show partial data and lose changes,
+    // so the files are left untouched for inspection and the application quits
+    private void failStartup(Exception error) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Startup Failed");
+        alert.setHeaderText("Could not restore the saved employee data");
+        alert.setContentText(error.getMessage() + "\nThe files in " + DATA_DIR
+                + " were left unchanged. The application will close.");
+        alert.showAndWait();
+        Platform.exit();
+    }
+
+    @Override
+    public void stop() {
+        // Let a restore in progress finish, so nothing is opened after it is closed here
+        if (startup != null) {
+            try {
+                startup.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Stop background database work
+        if (controller != null) {
+            controller.shutdown();
+        }
+        // Stop snapshotting and flush outstanding log records
+        if (snapshotter != null) {
+            snapshotter.close();
+        }
+        if (writeAheadLog != null) {
+            try {
+                writeAheadLog.close();
+            } catch (IOException e) {
+                System.err.println("Could not close the write-ahead log: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -37,7 +127,7 @@ public class EmployeeManagementApp extends Application {
      */
     public static EmployeeDatabase<Integer> getEmployeeDatabase() {
         if (employeeDatabase == null) {
-            employeeDatabase = new EmployeeDatabase<>();
+            employeeDatabase = new IntEmployeeDatabase();
         }
         return employeeDatabase;
     }
@@ -0,0 +1,100 @@
+package com.employeemanagement.employeemanagementsystem.controller;
+
+import javafx.application.Platform;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Runs database work off the JavaFX application thread
+ * Each task runs on its own virtual thread and its result (or error) is handed back on the FX thread
+ * with Platform.runLater. Tasks submitted under the same key replace each other: a new task cancels
+ * the one still in flight and the stale result is never published. Writes go through execute instead:
+ * they are never cancelled, since the change may already be applied when the cancellation arrives.
+ * submit() and execute() must be called on the FX thread, which also owns all bookkeeping here.
+ */
+public class BackgroundTaskRunner {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Future<?>> inFlight = new HashMap<>();
+    private final Map<String, Long> generations = new HashMap<>();
+    private int writesInFlight;
+    private final Consumer<Boolean> busyListener;
+
+    //Constructor, busyListener is told (on the FX thread) when work starts and when everything has finished
+    public BackgroundTaskRunner(Consumer<Boolean> busyListener) {
+        this.busyListener = busyListener;
+    }
+
+    //Runs work in the background and passes its result to onSuccess, or its error to onFailure, on the FX thread
+    public <R> void submit(String key, Callable<R> work, Consumer<R> onSuccess, Consumer<Throwable> onFailure) {
+        Future<?> stale = inFlight.remove(key);
+        if (stale != null) {
+            stale.cancel(true);
+        }
+        long generation = generations.merge(key, 1L, Long::sum);
+        inFlight.put(key, start(work, (result, failure) -> complete(key, generation, result, failure, onSuccess, onFailure)));
+        busyListener.accept(true);
+    }
+
+    //Runs a write in the background and passes its result to onSuccess, or its error to onFailure, on the FX thread
+    public <R> void execute(Callable<R> work, Consumer<R> onSuccess, Consumer<Throwable> onFailure) {
+        writesInFlight++;
+        start(work, (result, failure) -> {
+            writesInFlight--;
+            busyListener.accept(isBusy());
+            if (failure != null) {
+                onFailure.accept(failure);
+            } else {
+                onSuccess.accept(result);
+            }
+        });
+        busyListener.accept(true);
+    }
+
+    // Runs work on a virtual thread and hands its result or error to done on the FX thread
+    private <R> Future<?> start(Callable<R> work, BiConsumer<R, Throwable> done) {
+        return executor.submit(() -> {
+            R result = null;
+            Throwable failure = null;
+            try {
+                result = work.call();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            R finalResult = result;
+            Throwable finalFailure = failure;
+            Platform.runLater(() -> done.accept(finalResult, finalFailure));
+        });
+    }
+
+    private boolean isBusy() {
+        return !inFlight.isEmpty() || writesInFlight > 0;
+    }
+
+    // Publishes a finished task unless a newer task with the same key replaced it
+    private <R> void complete(String key, long generation, R result, Throwable failure,
+                              Consumer<R> onSuccess, Consumer<Throwable> onFailure) {
+        if (generations.get(key) != generation) {
+            return; // stale
+        }
+        inFlight.remove(key);
+        busyListener.accept(isBusy());
+        if (failure != null) {
+            onFailure.accept(failure);
+        } else {
+            onSuccess.accept(result);
+        }
+    }
+
+    //Stops accepting work and interrupts running tasks
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,29 +1,71 @@
 package com.employeemanagement.employeemanagementsystem.controller;
 
 import com.employeemanagement.employeemanagementsystem.model.Employee;
-import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
 import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeSortOrder;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeStatistics;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeValidator;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePageSource;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePatch;
+import com.employeemanagement.employeemanagementsystem.model.IntEmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.batch.RaiseSummary;
+import com.employeemanagement.employeemanagementsystem.model.batch.SalaryPolicy;
+import com.employeemanagement.employeemanagementsystem.model.io.EmployeeExporter;
+import com.employeemanagement.employeemanagementsystem.model.io.EmployeeImporter;
+import com.employeemanagement.employeemanagementsystem.model.io.ExportFormat;
+import com.employeemanagement.employeemanagementsystem.model.io.ImportResult;
+import com.employeemanagement.employeemanagementsystem.model.events.ChangeRingBuffer;
+import com.employeemanagement.employeemanagementsystem.model.events.EmployeeChange;
+import com.employeemanagement.employeemanagementsystem.model.query.EmployeeQuery;
+import com.employeemanagement.employeemanagementsystem.view.EmployeeSearchView;
 import com.employeemanagement.employeemanagementsystem.view.MainView;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.io.UncheckedIOException;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Controller class that handles interaction between views and the employee database
+ * Searches, sorts, salary operations and reports run on background threads so the window keeps repainting
  */
 public class EmployeeController {
 
-    private EmployeeDatabase<Integer> employeeDB;
+    // Background task keys: tasks sharing a key cancel each other
+    private static final String TABLE_TASK = "table";
+    private static final String RAISE_PREVIEW_TASK = "raisePreview";
+    private static final String AVERAGE_TASK = "average";
+    private static final String REPORT_TASK = "report";
+    private static final String STATISTICS_TASK = "statistics";
+    private static final String IMPORT_TASK = "import";
+    private static final String EXPORT_TASK = "export";
+    // Rejected rows listed in the import summary dialog
+    private static final int IMPORT_ERRORS_SHOWN = 10;
+
+    private IntEmployeeDatabase employeeDB;
     private MainView mainView;
+    private final BackgroundTaskRunner taskRunner;
+    // Change events waiting for the FX thread, drained by one scheduled pass at a time
+    private final ConcurrentLinkedQueue<List<EmployeeChange<Integer>>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // IDs whose change this window already put into the table itself (FX thread only)
+    private final Set<Integer> shownChanges = new HashSet<>();
+    private final ChangeRingBuffer.Subscription changeSubscription;
 
     //Constructor
-    public EmployeeController(EmployeeDatabase<Integer> employeeDB, MainView mainView) {
+    public EmployeeController(IntEmployeeDatabase employeeDB, MainView mainView) {
         this.employeeDB = employeeDB;
         this.mainView = mainView;
+        this.taskRunner = new BackgroundTaskRunner(busy -> mainView.getTableView().setBusy(busy));
 
         // Initialize the table with data
         refreshEmployeeTable();
@@ -33,6 +75,32 @@ public class EmployeeController {
 
         // Set up event handlers
         setupEventHandlers();
+
+        // Follow changes made outside the form (imports, raises, other writers)
+        changeSubscription = employeeDB.subscribe("employee-table", changes -> {
+            pendingChanges.add(changes);
+            if (drainScheduled.compareAndSet(false, true)) {
+                Platform.runLater(this::applyPendingChanges);
+            }
+        });
+    }
+
+    //Re-reads the live table once for all change events that arrived since the last pass;
+    //events for changes the form handlers already applied are skipped
+    private void applyPendingChanges() {
+        drainScheduled.set(false);
+        Set<Integer> changed = new HashSet<>();
+        List<EmployeeChange<Integer>> changes;
+        while ((changes = pendingChanges.poll()) != null) {
+            for (EmployeeChange<Integer> change : changes) {
+                changed.addAll(change.employeeIds());
+            }
+        }
+        boolean external = !shownChanges.containsAll(changed);
+        shownChanges.removeAll(changed);
+        if (external) {
+            mainView.getTableView().sourceChanged();
+        }
     }
 
     //Set up all event handlers for the UI components
@@ -57,7 +125,10 @@ public class EmployeeController {
         // Search view event handlers
         mainView.getSearchView().getSearchButton().setOnAction(e -> searchEmployees());
         mainView.getSearchView().getSortButton().setOnAction(e -> sortEmployees());
-        mainView.getSearchView().getResetButton().setOnAction(e -> refreshEmployeeTable());
+        mainView.getSearchView().getResetButton().setOnAction(e -> {
+            mainView.getSearchView().clearFilters();
+            refreshEmployeeTable();
+        });
         mainView.getSearchView().getRefreshButton().setOnAction(e -> refreshEmployeeTable());
 
         // Table selection event handler
@@ -69,35 +140,49 @@ public class EmployeeController {
 
         // Salary management event handlers
         mainView.getSalaryManagementView().getSalaryRaiseButton().setOnAction(e -> giveRaisesToHighPerformers());
+        mainView.getSalaryManagementView().getRaisePreviewButton().setOnAction(e -> previewRaisesToHighPerformers());
         mainView.getSalaryManagementView().getTopPaidButton().setOnAction(e -> showTopPaidEmployees());
         mainView.getSalaryManagementView().getAvgSalaryButton().setOnAction(e -> calculateAverageSalary());
+        mainView.getSalaryManagementView().getStatisticsButton().setOnAction(e -> showStatistics());
 
         // Initialize department dropdown in salary management view
         mainView.getSalaryManagementView().populateDepartments(getDepartmentNames());
+        mainView.getSearchView().populateDepartments(getDepartmentNames());
 
         // Console report button handler
         mainView.getTableView().getConsoleReportButton().setOnAction(e -> printEmployeeReportsToConsole());
+
+        // Bulk import button handler
+        mainView.getTableView().getImportButton().setOnAction(e -> importEmployees());
+        mainView.getTableView().getExportButton().setOnAction(e -> exportEmployees());
     }
 
-    //Refreshes the employee table with all employees
+    //Refreshes the employee table with all employees (paged from the default experience order)
     public void refreshEmployeeTable() {
-        List<Employee<Integer>> employees = employeeDB.getAllEmployees();
-        mainView.getTableView().updateEmployeeTable(employees);
         mainView.getFormView().clearForm();
+        showSortedView(EEmployeeSortOrder.EXPERIENCE);
+    }
+
+    //Loads a sort order in the background, then pages it into the table
+    private void showSortedView(EEmployeeSortOrder sortOrder) {
+        taskRunner.submit(TABLE_TASK, () -> employeeDB.getSortedView(sortOrder),
+                view -> mainView.getTableView().showEmployees(view), this::showError);
     }
 
-    //Generates a unique random Id
-    private Integer generateRandomId() {
-        // Generate a random ID between 1000 and 9999
-        int min = 1000;
-        int max = 9999;
-        return (int) (Math.random() * (max - min + 1) + min);
+    //Stops background work when the application closes
+    public void shutdown() {
+        changeSubscription.close();
+        taskRunner.shutdown();
     }
 
-    // Add a method to generate and display a new ID
+    // Takes a fresh ID from the database's ID sequence and shows it in the form
+    // (an ID that ends up unused is simply skipped, never handed out twice)
     private void generateAndDisplayNewId() {
-        Integer newId = generateRandomId();
-        mainView.getFormView().getIdField().setText(newId.toString());
+        try {
+            mainView.getFormView().getIdField().setText(Integer.toString(employeeDB.allocateId()));
+        } catch (RuntimeException e) { // the reservation could not be saved, or the ID space is used up
+            showError(e);
+        }
     }
 
     //Adds a new employee from the form data
@@ -112,33 +197,30 @@ public class EmployeeController {
             int experience = Integer.parseInt(mainView.getFormView().getExperienceField().getText());
             boolean active = mainView.getFormView().getActiveCheckBox().isSelected();
 
-            // Validate input
-            if (name.isEmpty()) {
-                showAlert("Error", "Please fill all fields!");
-                return;
-            }
-            if (departmentStr == null) {
-                showAlert("Error", "Please select a department!");
-                return;
-            }
-            EEmployeeDepartment department = EEmployeeDepartment.valueOf(departmentStr);
-
-            if (rating < 0 || rating > 5) {
-                showAlert("Error", "Rating must be between 0 and 5!");
+            // Create and validate the employee (the same rules the database and the bulk importer apply)
+            EEmployeeDepartment department = EmployeeValidator.parseDepartment(departmentStr);
+            Employee<Integer> employee = new Employee<>(id, name, department, salary, rating, experience, active);
+            String problem = EmployeeValidator.validate(employee);
+            if (problem != null) {
+                showAlert("Error", problem + "!");
                 return;
             }
 
-            // Create and add employee
-            Employee<Integer> employee = new Employee<>(id, name, department, salary, rating, experience, active);
-            boolean success = employeeDB.addEmployee(employee);
-
-            if (success) {
-                mainView.getFormView().clearForm();
-                refreshEmployeeTable();
-                showAlert("Success", "Employee added successfully!");
-            } else {
-                showAlert("Error", "Employee with this ID already exists!");
-            }
+            // Add employee (in the background: it waits until the change is saved)
+            taskRunner.execute(() -> employeeDB.addEmployee(employee), success -> {
+                if (success) {
+                    mainView.getFormView().clearForm();
+                    if (mainView.getTableView().isShowingLiveData()) {
+                        mainView.getTableView().employeeAdded(employee);
+                        shownChanges.add(employee.employeeId());
+                    } else {
+                        refreshEmployeeTable();
+                    }
+                    showAlert("Success", "Employee added successfully!");
+                } else {
+                    showAlert("Error", "Employee with this ID already exists!");
+                }
+            }, this::showWriteError);
 
         } catch (NumberFormatException e) {
             showAlert("Error", "Please Fields like Salary, Years Of Experience and Rating only support numeric values!");
@@ -159,7 +241,7 @@ public class EmployeeController {
             Integer id = Integer.parseInt(mainView.getFormView().getIdField().getText());
 
             // Ensure we're updating the same employee
-            if (!id.equals(selectedEmployee.getEmployeeId())) {
+            if (!id.equals(selectedEmployee.employeeId())) {
                 showAlert("Error", "Cannot change employee ID!");
                 return;
             }
@@ -172,35 +254,45 @@ public class EmployeeController {
             int experience = Integer.parseInt(mainView.getFormView().getExperienceField().getText());
             boolean active = mainView.getFormView().getActiveCheckBox().isSelected();
 
-            // Validate input
-            if (name.isEmpty()) {
-                showAlert("Error", "Please fill all fields!");
-                return;
-            }
-
-            if (departmentStr.equals("Select Department")) {
-                showAlert("Error", "Please select a department!");
-                return;
-            }
-            EEmployeeDepartment department = EEmployeeDepartment.valueOf(departmentStr);
-
-            if (rating < 0 || rating > 5) {
-                showAlert("Error", "Rating must be between 0 and 5!");
+            // Validate input (the whole record, as the database will)
+            EEmployeeDepartment department = EmployeeValidator.parseDepartment(departmentStr);
+            String problem = EmployeeValidator.validate(
+                    new Employee<>(id, name, department, salary, rating, experience, active));
+            if (problem != null) {
+                showAlert("Error", problem + "!");
                 return;
             }
 
+            // Row position before the change, so the table can move just this row
+            int oldIndex = mainView.getTableView().indexOfEmployee(selectedEmployee);
+
+            // Update all fields as one patch; only the fields that really changed are re-indexed and logged
+            EmployeePatch patch = new EmployeePatch()
+                    .name(name)
+                    .department(department)
+                    .salary(salary)
+                    .rating(rating)
+                    .experience(experience)
+                    .active(active);
+            taskRunner.execute(() -> employeeDB.updateEmployee(id, patch), changed -> {
+                if (changed == null) {
+                    showAlert("Error", "Employee not found!");
+                    return;
+                }
 
-            // Update employee using updateEmployeeDetails method for each field
-            employeeDB.updateEmployeeDetails(id, "employeeName", name);
-            employeeDB.updateEmployeeDetails(id, "employeeDepartment", department);
-            employeeDB.updateEmployeeDetails(id, "employeeSalary", salary);
-            employeeDB.updateEmployeeDetails(id, "performanceRating", rating);
-            employeeDB.updateEmployeeDetails(id, "yearOfExperience", experience);
-            employeeDB.updateEmployeeDetails(id, "active", active);
-
-            mainView.getFormView().clearForm();
-            refreshEmployeeTable();
-            showAlert("Success", "Employee updated successfully!");
+                mainView.getFormView().clearForm();
+                if (changed.isEmpty()) {
+                    showAlert("Update", "No changes to save.");
+                    return;
+                }
+                if (mainView.getTableView().isShowingLiveData()) {
+                    mainView.getTableView().employeeUpdated(oldIndex, selectedEmployee);
+                    shownChanges.add(selectedEmployee.employeeId());
+                } else {
+                    refreshEmployeeTable();
+                }
+                showAlert("Success", "Employee updated successfully!");
+            }, this::showWriteError);
 
         } catch (NumberFormatException e) {
             showAlert("Error", "Please Fields like Salary, Years Of Experience and Rating only support numeric values!");
@@ -215,98 +307,154 @@ public class EmployeeController {
             return;
         }
 
-        boolean success = employeeDB.deleteEmployee(selectedEmployee.getEmployeeId());
-        if (success) {
-            mainView.getFormView().clearForm();
-            refreshEmployeeTable();
-            showAlert("Success", "Employee deleted successfully!");
-        } else {
-            showAlert("Error", "Could not delete employee!");
-        }
+        int oldIndex = mainView.getTableView().indexOfEmployee(selectedEmployee);
+        taskRunner.execute(() -> employeeDB.deleteEmployee(selectedEmployee.employeeId()), success -> {
+            if (success) {
+                mainView.getFormView().clearForm();
+                if (mainView.getTableView().isShowingLiveData()) {
+                    mainView.getTableView().employeeRemoved(oldIndex, selectedEmployee);
+                    shownChanges.add(selectedEmployee.employeeId());
+                } else {
+                    refreshEmployeeTable();
+                }
+                showAlert("Success", "Employee deleted successfully!");
+            } else {
+                showAlert("Error", "Could not delete employee!");
+            }
+        }, this::showWriteError);
     }
 
-    //Searches for employees based on the criteria
+    //Searches for employees matching the search term and every filter that is set, as one query
     private void searchEmployees() {
-        String searchType = mainView.getSearchView().getSearchTypeComboBox().getValue();
-        String searchTerm = mainView.getSearchView().getSearchField().getText();
+        EmployeeSearchView searchView = mainView.getSearchView();
+        String searchType = searchView.getSearchTypeComboBox().getValue();
+        String searchTerm = searchView.getSearchField().getText().trim();
 
-        if (searchTerm.isEmpty()) {
-            showAlert("Error", "Please enter a search term!");
+        // Input is validated here on the FX thread; the query itself runs in the background
+        EmployeeQuery query = new EmployeeQuery();
+        boolean criteria = false;
+        try {
+            // Filters
+            String department = searchView.getDepartmentFilterComboBox().getValue();
+            if (department != null && !department.equals(EmployeeSearchView.ANY_DEPARTMENT)) {
+                query.department(EEmployeeDepartment.valueOf(department));
+                criteria = true;
+            }
+            String status = searchView.getStatusFilterComboBox().getValue();
+            if (status != null && !status.equals(EmployeeSearchView.ANY_STATUS)) {
+                query.active(status.equals("Active"));
+                criteria = true;
+            }
+            String minSalary = searchView.getMinSalaryField().getText().trim();
+            String maxSalary = searchView.getMaxSalaryField().getText().trim();
+            if (!minSalary.isEmpty() || !maxSalary.isEmpty()) {
+                query.salaryBetween(minSalary.isEmpty() ? Double.NEGATIVE_INFINITY : Double.parseDouble(minSalary),
+                        maxSalary.isEmpty() ? Double.POSITIVE_INFINITY : Double.parseDouble(maxSalary));
+                criteria = true;
+            }
+            String minRating = searchView.getMinRatingField().getText().trim();
+            if (!minRating.isEmpty()) {
+                query.ratingBetween(Double.parseDouble(minRating), Double.POSITIVE_INFINITY);
+                criteria = true;
+            }
+            String minExperience = searchView.getMinExperienceField().getText().trim();
+            if (!minExperience.isEmpty()) {
+                query.experienceBetween(Integer.parseInt(minExperience), Integer.MAX_VALUE);
+                criteria = true;
+            }
+            String limit = searchView.getLimitField().getText().trim();
+            if (!limit.isEmpty()) {
+                int parsedLimit = Integer.parseInt(limit);
+                if (parsedLimit <= 0) {
+                    showAlert("Error", "Please enter a positive number for the limit.");
+                    return;
+                }
+                query.limit(parsedLimit);
+            }
+        } catch (NumberFormatException e) {
+            showAlert("Error", "Salary, rating, experience and limit filters only support numeric values!");
             return;
         }
 
-        List<Employee<Integer>> results;
-
-        switch (searchType) {
-            case "Name":
-                results = employeeDB.findEmployeesByName(searchTerm);
-                break;
-            case "Department":
-                try {
-                    results = employeeDB.findEmployeesByDepartment(searchTerm);
-                } catch (IllegalArgumentException e) {
-                    showAlert("Error", "Invalid department! Valid departments are: " +
-                            String.join(", ", getDepartmentNames()));
-                    return;
-                }
-                break;
-            case "Minimum Rating":
-                try {
-                    double minRating = Double.parseDouble(searchTerm);
-                    results = employeeDB.findEmployeesByMinRating(minRating);
-                } catch (NumberFormatException e) {
-                    showAlert("Error", "Please enter a valid rating number!");
-                    return;
-                }
-                break;
-            case "Salary Range":
-                try {
-                    String[] range = searchTerm.split("-");
-                    if (range.length != 2) {
-                        showAlert("Error", "Salary range should be in format: min-max");
+        // The search term (overrides a filter on the same field)
+        if (!searchTerm.isEmpty()) {
+            switch (searchType) {
+                case "Name":
+                    query.nameContains(searchTerm);
+                    break;
+                case "Department":
+                    EEmployeeDepartment department = EmployeeValidator.parseDepartment(searchTerm);
+                    if (department == null) {
+                        showAlert("Error", "Please enter a valid department!");
                         return;
                     }
-                    double minSalary = Double.parseDouble(range[0].trim());
-                    double maxSalary = Double.parseDouble(range[1].trim());
-                    results = employeeDB.findEmployeesBySalaryRange(minSalary, maxSalary);
-                } catch (NumberFormatException e) {
-                    showAlert("Error", "Please enter valid salary numbers!");
+                    query.department(department);
+                    break;
+                case "Minimum Rating":
+                    try {
+                        query.ratingBetween(Double.parseDouble(searchTerm), Double.POSITIVE_INFINITY);
+                    } catch (NumberFormatException e) {
+                        showAlert("Error", "Please enter a valid rating number!");
+                        return;
+                    }
+                    break;
+                case "Salary Range":
+                    try {
+                        String[] range = searchTerm.split("-");
+                        if (range.length != 2) {
+                            showAlert("Error", "Salary range should be in format: min-max");
+                            return;
+                        }
+                        query.salaryBetween(Double.parseDouble(range[0].trim()), Double.parseDouble(range[1].trim()));
+                    } catch (NumberFormatException e) {
+                        showAlert("Error", "Please enter valid salary numbers!");
+                        return;
+                    }
+                    break;
+                default:
+                    showAlert("Error", "Invalid search type!");
                     return;
-                }
-                break;
-            default:
-                showAlert("Error", "Invalid search type!");
-                return;
+            }
+            criteria = true;
         }
-        // Update table with search results
-        ObservableList<Employee<Integer>> employeeList = FXCollections.observableArrayList(results);
-        mainView.getSearchView().clearForm();
-        mainView.getTableView().updateEmployeeTable(results);
+        if (!criteria) {
+            showAlert("Error", "Please enter a search term or choose a filter!");
+            return;
+        }
+        query.sortBy(selectedSortOrder());
+
+        // Update table with search results (a newer search or sort cancels this one)
+        taskRunner.submit(TABLE_TASK, () -> employeeDB.query(query), results -> {
+            searchView.clearForm();
+            mainView.getTableView().updateEmployeeTable(results);
+        }, this::showError);
     }
 
-    //Sorts employees based on the selected criteria
-    private void sortEmployees() {
+    //Gets the sort order chosen in the search view, null for an unknown choice
+    private EEmployeeSortOrder selectedSortOrder() {
         String sortType = mainView.getSearchView().getSortComboBox().getValue();
-        List<Employee<Integer>> sortedList;
-
         switch (sortType) {
             case "Experience (Default)":
-                sortedList = employeeDB.getEmployeesSortedByExperience();
-                break;
+                return EEmployeeSortOrder.EXPERIENCE;
             case "Salary":
-                sortedList = employeeDB.getEmployeesSortedBySalary();
-                break;
+                return EEmployeeSortOrder.SALARY;
             case "Performance":
-                sortedList = employeeDB.getEmployeesSortedByPerformance();
-                break;
+                return EEmployeeSortOrder.PERFORMANCE;
             default:
-                showAlert("Error", "Invalid sort type!");
-                return;
+                return null;
+        }
+    }
+
+    //Sorts employees based on the selected criteria
+    private void sortEmployees() {
+        EEmployeeSortOrder sortOrder = selectedSortOrder();
+        if (sortOrder == null) {
+            showAlert("Error", "Invalid sort type!");
+            return;
         }
 
-        // Update table with sorted results
-        ObservableList<Employee<Integer>> employeeList = FXCollections.observableArrayList(sortedList);
-        mainView.getTableView().updateEmployeeTable(sortedList);
+        // Page the maintained sort order into the table instead of copying the sorted roster
+        showSortedView(sortOrder);
     }
 
     //Shows an alert dialog
@@ -318,6 +466,32 @@ public class EmployeeController {
         alert.showAndWait();
     }
 
+    //Warns that the write-ahead log failed: the database rejects every change from now on
+    public void showPersistenceFailure(Exception failure) {
+        Alert alert = new Alert(AlertType.ERROR);
+        alert.setTitle("Saving Failed");
+        alert.setHeaderText("Changes can no longer be saved");
+        alert.setContentText(failure.getMessage() + "\nFurther changes will be rejected. Restart the application "
+                + "once the problem (e.g. a full disk) is fixed; changes confirmed before the failure are saved.");
+        alert.show();
+    }
+
+    //Shows an error raised by background work
+    private void showError(Throwable error) {
+        showAlert("Error", "Operation failed: " + error.getMessage());
+    }
+
+    //Shows why a write failed: a value the database rejected, or a log that can no longer save changes
+    private void showWriteError(Throwable error) {
+        if (error instanceof IllegalArgumentException) {
+            showAlert("Error", error.getMessage() + "!"); // rejected before anything changed
+        } else if (error instanceof UncheckedIOException || error instanceof IllegalStateException) {
+            showPersistenceFailure((Exception) error);
+        } else {
+            showError(error);
+        }
+    }
+
     //Gets all department names as strings
     private String[] getDepartmentNames() {
         return Arrays.stream(EEmployeeDepartment.values())
@@ -327,14 +501,39 @@ public class EmployeeController {
 
     // Implement the salary management methods
     private void giveRaisesToHighPerformers() {
-        int count = employeeDB.giveSalaryRaiseToHighPerformers();
-        if (count > 0) {
-            refreshEmployeeTable();
-            showAlert("Salary Raise", count + " employee(s) with 3.5 and above high performance received a salary raise of 2%.");
-        }else {
-            showAlert("Salary Raise", "No employee with high performance Found!");
-        }
+        taskRunner.execute(() -> employeeDB.applySalaryPolicy(SalaryPolicy.highPerformerRaise(), false), summary -> {
+            if (summary.count() > 0) {
+                if (!mainView.getTableView().isShowingLiveData()) {
+                    refreshEmployeeTable(); // a live table follows the change events instead
+                }
+                showAlert("Salary Raise", summary.count() + " employee(s) with 3.5 and above high performance received a salary raise of 2%."
+                        + System.lineSeparator() + raiseCosts(summary));
+            }else {
+                showAlert("Salary Raise", "No employee with high performance Found!");
+            }
+        }, this::showWriteError);
+    }
 
+    //Shows what the high performer raise would cost without applying it
+    private void previewRaisesToHighPerformers() {
+        taskRunner.submit(RAISE_PREVIEW_TASK, () -> employeeDB.applySalaryPolicy(SalaryPolicy.highPerformerRaise(), true), summary -> {
+            if (summary.count() > 0) {
+                showAlert("Salary Raise Preview", summary.count() + " employee(s) would receive a salary raise of 2%."
+                        + System.lineSeparator() + raiseCosts(summary));
+            } else {
+                showAlert("Salary Raise Preview", "No employee with high performance Found!");
+            }
+        }, this::showError);
+    }
+
+    //Lists the total and per-department cost of a raise
+    private static String raiseCosts(RaiseSummary summary) {
+        StringBuilder text = new StringBuilder(String.format("%nTotal cost: $%.2f%n", summary.costDelta()));
+        for (RaiseSummary.DepartmentCost department : summary.departments().values()) {
+            text.append(String.format("  %s: %d employee(s), $%.2f%n",
+                    department.department(), department.count(), department.costDelta()));
+        }
+        return text.toString();
     }
 
     private void showTopPaidEmployees() {
@@ -345,16 +544,16 @@ public class EmployeeController {
                 return;
             }
 
-            List<Employee<Integer>> topPaid = employeeDB.getTopPaidEmployees(topN);
+            taskRunner.submit(TABLE_TASK, () -> employeeDB.getTopPaidEmployees(topN), topPaid -> {
+                // Display the top paid employees in the table
+                mainView.getTableView().updateEmployeeTable(topPaid);
 
-            // Display the top paid employees in the table
-            mainView.getTableView().updateEmployeeTable(topPaid);
-
-            if (topPaid.isEmpty()) {
-                showAlert("Top Paid Employees", "No employees found.");
-            } else {
-                showAlert("Top Paid Employees", "Displaying top " + topPaid.size() + " highest paid employees.");
-            }
+                if (topPaid.isEmpty()) {
+                    showAlert("Top Paid Employees", "No employees found.");
+                } else {
+                    showAlert("Top Paid Employees", "Displaying top " + topPaid.size() + " highest paid employees.");
+                }
+            }, this::showError);
         } catch (NumberFormatException e) {
             showAlert("Error", "Please enter a valid number.");
         }
@@ -367,14 +566,101 @@ public class EmployeeController {
             return;
         }
 
-        double avgSalary = employeeDB.calculateAverageSalaryByDepartment(department);
+        taskRunner.submit(AVERAGE_TASK, () -> employeeDB.calculateAverageSalaryByDepartment(department), avgSalary -> {
+            if (avgSalary > 0) {
+                showAlert("Average Salary",
+                        "The average salary in the " + department + " department is: $" + String.format("%.2f", avgSalary));
+            } else {
+                showAlert("Average Salary", "No employees found in the " + department + " department.");
+            }
+        }, this::showError);
+    }
 
-        if (avgSalary > 0) {
-            showAlert("Average Salary",
-                    "The average salary in the " + department + " department is: $" + String.format("%.2f", avgSalary));
-        } else {
-            showAlert("Average Salary", "No employees found in the " + department + " department.");
+    //Imports employees from a CSV or JSON file chosen by the user, refreshing the table once at the end
+    private void importEmployees() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Import Employees");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV or JSON files", "*.csv", "*.json", "*.jsonl", "*.ndjson"),
+                new FileChooser.ExtensionFilter("All files", "*.*"));
+        File file = chooser.showOpenDialog(mainView.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        // rows without an ID get IDs from the same sequence as the form, one block per batch
+        EmployeeImporter<Integer> importer = new EmployeeImporter<>(employeeDB, text -> Integer.valueOf(text.trim()),
+                count -> employeeDB.allocateIds(count).toList());
+        taskRunner.submit(IMPORT_TASK, () -> importer.importFile(file.toPath()), result -> {
+            if (!mainView.getTableView().isShowingLiveData()) {
+                refreshEmployeeTable(); // a live table follows the change events instead
+            }
+            showAlert("Import", importSummary(result));
+        }, this::showError);
+    }
+
+    //Describes an import result, listing the first rejected rows
+    private static String importSummary(ImportResult result) {
+        StringBuilder summary = new StringBuilder()
+                .append(result.imported()).append(" employee(s) imported, ")
+                .append(result.failed()).append(" row(s) rejected in ")
+                .append(result.elapsed().toMillis()).append(" ms.");
+        int shown = Math.min(IMPORT_ERRORS_SHOWN, result.errors().size());
+        for (int i = 0; i < shown; i++) {
+            summary.append('\n').append(result.errors().get(i));
+        }
+        if (result.failed() > shown) {
+            summary.append("\n...");
         }
+        return summary.toString();
+    }
+
+    //Exports the employees the table shows, in its order, to a CSV, JSON Lines or text table file
+    private void exportEmployees() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export Employees");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV file", "*.csv"),
+                new FileChooser.ExtensionFilter("JSON Lines file", "*.jsonl"),
+                new FileChooser.ExtensionFilter("Text table", "*.txt"));
+        File file = chooser.showSaveDialog(mainView.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        EmployeePageSource<Integer> shown = mainView.getTableView().getShownEmployees();
+        taskRunner.submit(EXPORT_TASK,
+                () -> EmployeeExporter.export(shown.stream(), file.toPath(), ExportFormat.forFile(file.toPath())),
+                rows -> showAlert("Export", rows + " employee(s) exported to " + file.getName() + "."),
+                this::showError);
+    }
+
+    //Shows the overall and per-department statistics, computed in one background pass
+    private void showStatistics() {
+        taskRunner.submit(STATISTICS_TASK, employeeDB::getStatistics, statistics -> {
+            if (statistics.count() == 0) {
+                showAlert("Statistics", "There are no employees yet.");
+                return;
+            }
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("Employees: %d (%d active, %.1f%%)%n",
+                    statistics.count(), statistics.activeCount(), statistics.activePercentage()));
+            appendSummary(text, "Salary ($)", statistics.salary());
+            appendSummary(text, "Rating", statistics.rating());
+            for (EmployeeStatistics.DepartmentStatistics department : statistics.departments().values()) {
+                text.append(String.format("%n%s: %d employees (%d active)%n",
+                        department.department(), department.count(), department.activeCount()));
+                appendSummary(text, "Salary ($)", department.salary());
+                appendSummary(text, "Rating", department.rating());
+            }
+            showAlert("Statistics", text.toString());
+        }, this::showError);
+    }
+
+    //Appends one line of average, minimum and maximum
+    private static void appendSummary(StringBuilder text, String label, EmployeeStatistics.Summary summary) {
+        text.append(String.format("  %s: avg %.2f, min %.2f, max %.2f%n",
+                label, summary.average(), summary.min(), summary.max()));
     }
 
     // Prints employee reports to the console
@@ -386,16 +672,19 @@ public class EmployeeController {
         }
 
         // Print reports to console
-        System.out.println("\n========== EMPLOYEE MANAGEMENT SYSTEM REPORTS ==========");
-        System.out.println("Report generated at: " + java.time.LocalDateTime.now());
-        System.out.println("\n--- Report using For-Each Loop ---");
-        employeeDB.displayEmployeesWithForEach();
-
-        System.out.println("\n--- Report using Stream API ---");
-        employeeDB.displayEmployeesWithStreams();
-
-        // Show confirmation dialog
-        showAlert("Console Report", "Employee reports have been printed to the console.");
+        taskRunner.submit(REPORT_TASK, () -> {
+            System.out.println("\n========== EMPLOYEE MANAGEMENT SYSTEM REPORTS ==========");
+            System.out.println("Report generated at: " + java.time.LocalDateTime.now());
+            System.out.println("\n--- Report using For-Each Loop ---");
+            employeeDB.displayEmployeesWithForEach();
+
+            System.out.println("\n--- Report using Stream API ---");
+            employeeDB.displayEmployeesWithStreams();
+            return null;
+        }, ignored -> {
+            // Show confirmation dialog
+            showAlert("Console Report", "Employee reports have been printed to the console.");
+        }, this::showError);
     }
 
 }
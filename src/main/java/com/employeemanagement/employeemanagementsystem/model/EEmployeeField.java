@@ -0,0 +1,33 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+// Updatable employee fields, with the names used by updateEmployeeDetails and the write-ahead log
+public enum EEmployeeField {
+    NAME("employeeName"),
+    DEPARTMENT("employeeDepartment"),
+    SALARY("employeeSalary"),
+    RATING("performanceRating"),
+    EXPERIENCE("yearOfExperience"),
+    ACTIVE("active");
+
+    private static final EEmployeeField[] FIELDS = values();
+
+    private final String key;
+
+    EEmployeeField(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    //Finds a field by its name (case-insensitive), null when there is none
+    public static EEmployeeField forKey(String key) {
+        for (EEmployeeField field : FIELDS) {
+            if (field.key.equalsIgnoreCase(key)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
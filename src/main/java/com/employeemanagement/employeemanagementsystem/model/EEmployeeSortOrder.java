@@ -0,0 +1,6 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+// Sort orders maintained by EmployeeDatabase, each one highest first
+public enum EEmployeeSortOrder {
+    EXPERIENCE, SALARY, PERFORMANCE
+}
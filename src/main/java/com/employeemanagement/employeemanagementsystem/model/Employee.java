@@ -1,88 +1,48 @@
 package com.employeemanagement.employeemanagementsystem.model;
 
+import java.util.Objects;
+
 /**
-* Generic Employee class that stores employee information
+* Generic Employee record that stores employee information
 * <T> Type of the employee ID (can be Integer, String, UUID)
 * Defining the natural sorting order of the Employee objects.
+* Immutable, so it can be shared across threads without locks; a change is a new record made by a wither.
+* Records are equal when all their fields are; code that means "the same employee" compares IDs.
 */
+public record Employee<T>(T employeeId, String employeeName, EEmployeeDepartment employeeDepartment,
+                          double employeeSalary, double performanceRating, int yearsOfExperience, boolean isActive)
+        implements Comparable<Employee<T>> {
 
-import java.util.Objects;
-
-public class Employee<T> implements Comparable<Employee<T>> {
-
-    private T employeeId;
-    private String employeeName;
-    private EEmployeeDepartment employeeDepartment;
-    private double employeeSalary;
-    private double performanceRating;
-    private int yearsOfExperience;
-    private boolean isActive;
-
-    // Constructor
-    public Employee(T employeeId, String employeeName, EEmployeeDepartment employeeDepartment, double employeeSalary, double performanceRating, int yearsOfExperience, boolean isActive) {
-        this.employeeId = employeeId;
-        this.employeeName = employeeName;
-        this.employeeDepartment = employeeDepartment;
-        this.employeeSalary = employeeSalary;
-        this.performanceRating = performanceRating;
-        this.yearsOfExperience = yearsOfExperience;
-        this.isActive = isActive;
-    }
-
-    public T getEmployeeId() {
-        return employeeId;
-    }
-
-    public void setEmployeeId(T employeeId) {
-        this.employeeId = employeeId;
-    }
-
-    public String getEmployeeName() {
-        return employeeName;
-    }
-
-    public void setEmployeeName(String employeeName) {
-        this.employeeName = employeeName;
-    }
+    // Withers: copies with one field replaced (the same record when the value is unchanged)
 
-    public EEmployeeDepartment getEmployeeDepartment() {
-        return employeeDepartment;
+    public Employee<T> withEmployeeName(String employeeName) {
+        return Objects.equals(this.employeeName, employeeName) ? this : new Employee<>(employeeId, employeeName,
+                employeeDepartment, employeeSalary, performanceRating, yearsOfExperience, isActive);
     }
 
-    public void setEmployeeDepartment(EEmployeeDepartment employeeDepartment) {
-        this.employeeDepartment = employeeDepartment;
+    public Employee<T> withEmployeeDepartment(EEmployeeDepartment employeeDepartment) {
+        return this.employeeDepartment == employeeDepartment ? this : new Employee<>(employeeId, employeeName,
+                employeeDepartment, employeeSalary, performanceRating, yearsOfExperience, isActive);
     }
 
-    public double getEmployeeSalary() {
-        return employeeSalary;
+    public Employee<T> withEmployeeSalary(double employeeSalary) {
+        return Double.compare(this.employeeSalary, employeeSalary) == 0 ? this : new Employee<>(employeeId,
+                employeeName, employeeDepartment, employeeSalary, performanceRating, yearsOfExperience, isActive);
     }
 
-    public void setEmployeeSalary(double employeeSalary) {
-        this.employeeSalary = employeeSalary;
+    public Employee<T> withPerformanceRating(double performanceRating) {
+        return Double.compare(this.performanceRating, performanceRating) == 0 ? this : new Employee<>(employeeId,
+                employeeName, employeeDepartment, employeeSalary, performanceRating, yearsOfExperience, isActive);
     }
 
-    public double getPerformanceRating() {
-        return performanceRating;
+    public Employee<T> withYearsOfExperience(int yearsOfExperience) {
+        return this.yearsOfExperience == yearsOfExperience ? this : new Employee<>(employeeId, employeeName,
+                employeeDepartment, employeeSalary, performanceRating, yearsOfExperience, isActive);
     }
 
-    public void setPerformanceRating(double performanceRating) {
-        this.performanceRating = performanceRating;
-    }
-
-    public int getYearsOfExperience() {
-        return yearsOfExperience;
-    }
-
-    public void setYearsOfExperience(int yearsOfExperience) {
-        this.yearsOfExperience = yearsOfExperience;
-    }
-
-    public boolean isActive() {
-        return isActive;
-    }
-
-    public void setActive(boolean active) {
-        isActive = active;
+    public Employee<T> withActive(boolean isActive) {
+        return this.isActive == isActive ? this : new Employee<>(employeeId, employeeName,
+                employeeDepartment, employeeSalary, performanceRating, yearsOfExperience, isActive);
     }
 
     // implements a comparable interface to sort employees by years of experience (descending order)
@@ -92,22 +52,6 @@ public class Employee<T> implements Comparable<Employee<T>> {
         return other.yearsOfExperience - this.yearsOfExperience;
     }
 
-    // checks if two employee objects are the same
-    @Override
-    public boolean equals(Object obj){
-        if(this == obj) return true;
-        if(obj == null || getClass() != obj.getClass()) return false;
-        //type casting the object to employee object
-        Employee<?> employee = (Employee<?>) obj;
-        return Objects.equals(employeeId, employee.employeeId);
-    }
-
-    // creates a hash code for an employee object for fast searching and storage
-    @Override
-    public int hashCode() {
-        return Objects.hash(employeeId);
-    }
-
     @Override
     public String toString() {
         return "Employee{" +
@@ -1,186 +1,993 @@
 package com.employeemanagement.employeemanagementsystem.model;
 
+import com.employeemanagement.employeemanagementsystem.model.batch.RaiseSummary;
+import com.employeemanagement.employeemanagementsystem.model.batch.SalaryPolicy;
 import com.employeemanagement.employeemanagementsystem.model.comparator.EmployeePerformanceComparator;
 import com.employeemanagement.employeemanagementsystem.model.comparator.EmployeeSalaryComparator;
+import com.employeemanagement.employeemanagementsystem.model.events.ChangeListener;
+import com.employeemanagement.employeemanagementsystem.model.events.ChangeRingBuffer;
+import com.employeemanagement.employeemanagementsystem.model.events.EmployeeChange;
+import com.employeemanagement.employeemanagementsystem.model.index.DepartmentAggregates;
+import com.employeemanagement.employeemanagementsystem.model.index.DoubleRangeIndex;
+import com.employeemanagement.employeemanagementsystem.model.index.NameTrigramIndex;
+import com.employeemanagement.employeemanagementsystem.model.index.RowBitmapIndex;
+import com.employeemanagement.employeemanagementsystem.model.io.EmployeeExporter;
+import com.employeemanagement.employeemanagementsystem.model.io.ExportFormat;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.VersionStore;
+import com.employeemanagement.employeemanagementsystem.model.persistence.MutationLog;
+import com.employeemanagement.employeemanagementsystem.model.query.EmployeeQuery;
+import com.employeemanagement.employeemanagementsystem.model.query.QueryPlan;
+import com.employeemanagement.employeemanagementsystem.model.query.TopKSelector;
+import com.employeemanagement.employeemanagementsystem.model.storage.ColumnarEmployeeStore;
+import com.employeemanagement.employeemanagementsystem.model.storage.RowAllocator;
+import com.employeemanagement.employeemanagementsystem.model.storage.StorageMode;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.channels.Channels;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
-* Manages employee records using a HashMap
+* Manages employee records using a ConcurrentHashMap with secondary indexes
 * Provides: adding, removing, updating, searching and sorting employees operations
 **/
 public class EmployeeDatabase<T> {
-    private Map<T, Employee<T>> employees;
+    // Number of write lock stripes (must be a power of two)
+    private static final int LOCK_STRIPES = 64;
+    // Roster size from which top-N selection and statistics split the work across the common ForkJoinPool
+    private static final int PARALLEL_THRESHOLD = 50_000;
+    // Change events buffered for subscribers, and the most handed to a listener at once
+    private static final int CHANGE_BUFFER_SIZE = 1 << 16;
+    private static final int CHANGE_BATCH_SIZE = 1024;
+    // Closes the read views of iterators dropped before their end
+    private static final Cleaner READ_VIEW_CLEANER = Cleaner.create();
+
+    private final Map<T, Row<T>> employees;
+    private final ReentrantLock[] writeLocks; // reads are lock-free, a write locks only its employee ID's stripe
+    private final StampedLock batchLock; // write-held while a salary batch is applied
+    private final RowAllocator rowAllocator;
+    private final ColumnarEmployeeStore columns; // null in OBJECT storage mode
+    private volatile MutationLog<T> mutationLog; // logs every successful mutation, null until persistence is attached
+    private volatile ChangeRingBuffer<EmployeeChange<T>> changes; // null until the first subscriber
+    private final VersionStore<T> versions; // write versions and before-images for read views
+
+    // Secondary indexes
+    // (they hold rows, so an update only touches the indexes of the fields it changes)
+    private final RowBitmapIndex<Row<T>> bitmapIndex; // department and active status by row
+    private final DoubleRangeIndex<Row<T>> salaryIndex;
+    private final DoubleRangeIndex<Row<T>> ratingIndex;
+    private final DoubleRangeIndex<Row<T>> experienceIndex;
+    private final NameTrigramIndex<Row<T>> nameIndex;
+    private final DepartmentAggregates departmentAggregates;
+
+    // The slot of a stored employee: its current record and its dense internal row number
+    // (index tie-breaker and column position); an update swaps in a new record, the slot stays
+    static final class Row<T> {
+        private final int row;
+        private volatile Employee<T> employee;
+
+        Row(Employee<T> employee, int row) {
+            this.employee = employee;
+            this.row = row;
+        }
+
+        Employee<T> employee() {
+            return employee;
+        }
+
+        int row() {
+            return row;
+        }
+
+        //Replaces the record (caller holds the employee's write lock)
+        void swap(Employee<T> employee) {
+            this.employee = employee;
+        }
+
+        // Rows are keys of the name index: hash by row number, which is unique among live rows and dense,
+        // instead of an identity hash scattered over the whole table
+        @Override
+        public int hashCode() {
+            return row;
+        }
+    }
+
+    // A planned salary change of a bulk update
+    private record SalaryChange<T>(Row<T> row, double oldSalary, double newSalary) {
+    }
+
+    // Salary changes planned by one partition of the roster, with their cost per department
+    private static final class SalaryBatch<T> {
+        private final List<SalaryChange<T>> changes = new ArrayList<>();
+        private final RaiseSummary.Accumulator totals = new RaiseSummary.Accumulator();
+
+        //Plans the change of one employee, rejecting salaries that are not a non-negative number
+        void plan(Row<T> row, SalaryPolicy<T> policy) {
+            Employee<T> employee = row.employee();
+            if (!policy.appliesTo(employee)) {
+                return;
+            }
+            double oldSalary = employee.employeeSalary();
+            double newSalary = policy.newSalary(employee);
+            if (!Double.isFinite(newSalary) || newSalary < 0) {
+                throw new IllegalArgumentException("Salary policy gave " + newSalary
+                        + " for employee " + employee.employeeId());
+            }
+            if (Double.compare(oldSalary, newSalary) != 0) {
+                changes.add(new SalaryChange<>(row, oldSalary, newSalary));
+                totals.add(employee.employeeDepartment(), oldSalary, newSalary);
+            }
+        }
+
+        void addAll(SalaryBatch<T> other) {
+            changes.addAll(other.changes);
+            totals.combine(other.totals);
+        }
+    }
+
+    // Change events of one write: their sequences are claimed under the write's lock, so the events of an
+    // employee keep the order of its writes, and they are published once the lock is released, so a full
+    // ring makes only this writer wait for its subscribers, not the other writers queued on the stripe
+    static final class PendingChanges<T> {
+        private final ChangeRingBuffer<EmployeeChange<T>> ring; // null while nobody subscribes
+        private List<EmployeeChange<T>> events = List.of();
+        private long first;
+
+        PendingChanges(ChangeRingBuffer<EmployeeChange<T>> ring) {
+            this.ring = ring;
+        }
+
+        //Checks whether anyone subscribes, i.e. whether events are worth building
+        boolean isWanted() {
+            return ring != null;
+        }
+
+        //Claims consecutive sequences for all events of the write (once, as its last step under the lock)
+        void claim(List<EmployeeChange<T>> events) {
+            if (ring != null && !events.isEmpty()) {
+                this.first = ring.claim(events.size());
+                this.events = events;
+            }
+        }
+
+        //Publishes the claimed events (after the lock is released; nothing when the write changed nothing)
+        void publish() {
+            long sequence = first;
+            for (EmployeeChange<T> event : events) {
+                ring.publish(sequence++, event);
+            }
+        }
+    }
 
     //constructor
     public EmployeeDatabase(){
-        this.employees = new HashMap<>();
+        this(StorageMode.OBJECT);
+    }
+
+    //constructor with an explicit storage mode
+    public EmployeeDatabase(StorageMode storageMode){
+        this(storageMode, new ConcurrentHashMap<>());
+    }
+
+    //constructor for specializations that bring their own ID map (see IntEmployeeDatabase)
+    //The map must allow lock-free reads concurrent with writes to other keys; writes of one key are serialized
+    EmployeeDatabase(StorageMode storageMode, Map<T, Row<T>> employees){
+        this.employees = employees;
+        this.writeLocks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+        this.batchLock = new StampedLock();
+        this.versions = new VersionStore<>(LOCK_STRIPES);
+        this.rowAllocator = new RowAllocator();
+        this.columns = storageMode == StorageMode.COLUMNAR ? new ColumnarEmployeeStore() : null;
+
+        this.bitmapIndex = new RowBitmapIndex<>();
+        this.salaryIndex = new DoubleRangeIndex<>();
+        this.ratingIndex = new DoubleRangeIndex<>();
+        this.experienceIndex = new DoubleRangeIndex<>();
+        this.nameIndex = new NameTrigramIndex<>();
+        this.departmentAggregates = new DepartmentAggregates();
+    }
+
+    //Gets the write stripe of the given employee ID
+    private static int stripeFor(Object employeeId){
+        return stripeForHash(employeeId.hashCode());
+    }
+
+    //Gets the write stripe of the IDs with the given hash code
+    static int stripeForHash(int h){
+        h ^= (h >>> 16); // spread high bits so sequential IDs use every stripe
+        return h & (LOCK_STRIPES - 1);
+    }
+
+    //Takes a stripe's write lock and starts a write on it; returns the write's version
+    long beginWrite(int stripe){
+        writeLocks[stripe].lock();
+        return versions.beginWrite(stripe);
+    }
+
+    //Ends a write begun with beginWrite and releases the stripe
+    void endWrite(int stripe){
+        versions.endWrite(stripe);
+        writeLocks[stripe].unlock();
+    }
+
+    //Keeps the state of an employee about to be written for the open read views (caller holds its write lock)
+    void recordBefore(Row<T> row, long version){
+        if (versions.isRecording()) {
+            versions.recordBefore(version, row.employee().employeeId(), row.employee(), row.row());
+        }
+    }
+
+    //Attaches the log that records every later mutation (attach after replaying it)
+    public void setMutationLog(MutationLog<T> mutationLog){
+        this.mutationLog = mutationLog;
+    }
+
+    //Passes every later change to the listener, in batches on a thread of its own (close the subscription to stop)
+    public synchronized ChangeRingBuffer.Subscription subscribe(String name, ChangeListener<T> listener){
+        ChangeRingBuffer<EmployeeChange<T>> ring = changes;
+        if (ring != null) {
+            return ring.subscribe(name, listener::onChanges);
+        }
+        ring = new ChangeRingBuffer<>(CHANGE_BUFFER_SIZE, CHANGE_BATCH_SIZE);
+        ChangeRingBuffer.Subscription subscription = ring.subscribe(name, listener::onChanges);
+        changes = ring; // published with its subscriber, so writers never fill a ring nobody reads
+        return subscription;
+    }
+
+    //Starts collecting the change events of one write (see PendingChanges)
+    PendingChanges<T> pendingChanges(){
+        return new PendingChanges<>(changes);
+    }
+
+    //Takes every write lock in stripe order, shutting out all other writers; returns the write's version
+    private long lockAllStripes(){
+        for (ReentrantLock lock : writeLocks) {
+            lock.lock();
+        }
+        return versions.beginWriteAll();
+    }
+
+    private void unlockAllStripes(){
+        versions.endWriteAll();
+        for (int i = LOCK_STRIPES - 1; i >= 0; i--) {
+            writeLocks[i].unlock();
+        }
+    }
+
+    //Runs a read so that it never sees a salary batch half-applied: optimistically first, under the read lock on conflict
+    private <R> R readConsistent(Supplier<R> read){
+        long stamp = batchLock.tryOptimisticRead();
+        if (stamp != 0) {
+            R result = read.get();
+            if (batchLock.validate(stamp)) {
+                return result;
+            }
+        }
+        stamp = batchLock.readLock();
+        try {
+            return read.get();
+        } finally {
+            batchLock.unlockRead(stamp);
+        }
+    }
+
+    //Opens a point-in-time view for long reads such as reports and exports (close it when done)
+    public EmployeeReadView<T> openReadView(){
+        return new EmployeeReadView<>(employees, versions);
+    }
+
+    //Gets the number of employee IDs with before-images kept for open read views
+    public int readViewHistorySize(){
+        return versions.historySize();
+    }
+
+    //Gets the attached mutation log, null when there is none
+    MutationLog<T> mutationLog(){
+        return mutationLog;
+    }
+
+    //Rejects a mutation, before it changes anything, when the log can no longer save it
+    //(for a salary batch that changes nothing; every write that changes something logs before it does)
+    static <T> void ensureWritable(MutationLog<T> log){
+        if (log != null) {
+            log.ensureWritable();
+        }
+    }
+
+    //Waits, outside any write lock, until a logged mutation is durable
+    static <T> void awaitDurable(MutationLog<T> log, long ticket){
+        if (log != null) {
+            log.awaitDurable(ticket);
+        }
     }
 
     //CRUD Operations
 
     //Create
+    //Throws IllegalArgumentException, before anything changes, when the employee breaks a field rule
     public boolean addEmployee(Employee<T> employee){
-        if(employees.containsKey(employee.getEmployeeId())){
+        MutationLog<T> log = mutationLog;
+        long ticket = insert(employee, log, pendingChanges());
+        if (ticket < 0) {
             return false; // Employee with this ID already exist
         }
-        employees.put(employee.getEmployeeId(), employee);
+        awaitDurable(log, ticket);
         return true;
     }
 
+    //Adds a batch of employees (e.g. from a bulk import), waiting for the log only once for the whole batch
+    //and publishing one AddedAll event for it
+    //Returns the employees that were rejected because their ID already exists
+    //Throws IllegalArgumentException, before any of the batch is added, when an employee breaks a field rule
+    public List<Employee<T>> addEmployees(Collection<Employee<T>> batch){
+        for (Employee<T> employee : batch) {
+            requireValid(employee);
+        }
+        MutationLog<T> log = mutationLog;
+        PendingChanges<T> noEvents = new PendingChanges<>(null); // the rows publish nothing of their own
+        ChangeRingBuffer<EmployeeChange<T>> ring = changes;
+        // claimed before the first row is added, so the event comes before any later change of the batch
+        long event = ring == null ? 0 : ring.claim(1);
+        long lastTicket = 0;
+        List<Employee<T>> added = new ArrayList<>(batch.size());
+        List<Employee<T>> rejected = new ArrayList<>();
+        try {
+            for (Employee<T> employee : batch) {
+                long ticket = insert(employee, log, noEvents);
+                if (ticket < 0) {
+                    rejected.add(employee);
+                } else {
+                    added.add(employee);
+                    lastTicket = Math.max(lastTicket, ticket);
+                }
+            }
+        } finally {
+            if (ring != null) {
+                ring.publish(event, new EmployeeChange.AddedAll<>(added)); // whatever was added before a failure
+            }
+        }
+        awaitDurable(log, lastTicket);
+        return rejected;
+    }
+
+    //Stores and indexes a new employee under its write lock; returns its log ticket, or -1 when the ID is taken
+    private long insert(Employee<T> employee, MutationLog<T> log, PendingChanges<T> events){
+        requireValid(employee);
+        int stripe = stripeFor(employee.employeeId());
+        long version = beginWrite(stripe);
+        try {
+            if (employees.containsKey(employee.employeeId())) {
+                return -1;
+            }
+            long ticket = log == null ? 0 : log.logAdd(employee); // first: a log that fails rejects it unapplied
+            if (versions.isRecording()) {
+                versions.recordBefore(version, employee.employeeId(), null, -1); // open views must not see it
+            }
+            Row<T> row = new Row<>(employee, rowAllocator.allocate());
+            employees.put(employee.employeeId(), row);
+            indexEmployee(row);
+            events.claim(List.of(new EmployeeChange.Added<>(employee)));
+            return ticket;
+        } finally {
+            endWrite(stripe);
+            events.publish();
+        }
+    }
+
+    //Throws IllegalArgumentException when a new employee breaks a field rule (a NaN salary, for one,
+    //would poison its department's running sums for good)
+    private static <T> void requireValid(Employee<T> employee){
+        String problem = EmployeeValidator.validate(employee);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem + " (employee " + employee.employeeId() + ")");
+        }
+    }
+
     //Retrieve All
     public List<Employee<T>> getAllEmployees(){
-        return new ArrayList<>(employees.values());
+        return copyOfEmployees();
     }
 
     //Retrieve employee by employeeId
     public Employee<T> getEmployee(T employeeId){
-        return employees.get(employeeId);
+        Row<T> row = employees.get(employeeId);
+        return row == null ? null : row.employee();
     }
 
     //Update
+    //Updates one field given by name (the form replayed from the write-ahead log)
+    //Returns false when the employee is not found or the field or value is invalid
     public boolean updateEmployeeDetails(T employeeId, String field, Object newValue){
-        //checks if employee exist
-        if(!employees.containsKey(employeeId)){
-            return false; // employee not found
-        }
-        Employee<T> employee = employees.get(employeeId);
-
-        try{
-
-            switch (field.toLowerCase()){
-                case "employeename":
-                    employee.setEmployeeName((String) newValue);
-                    break;
-                case "employeedepartment":
-                    employee.setEmployeeDepartment((EEmployeeDepartment) newValue);
-                    break;
-                case "employeesalary":
-                    employee.setEmployeeSalary((Double) newValue);
-                    break;
-                case "performancerating":
-                    employee.setPerformanceRating((Double) newValue);
-                    break;
-                case "yearofexperience":
-                    employee.setYearsOfExperience((Integer) newValue);
-                    break;
-                case "active":
-                    employee.setActive((Boolean) newValue);
-                    break;
-                default:
-                    return false; //Invalid field
-            }
-            return true; // updated
-        }catch (ClassCastException e){
+        EEmployeeField parsed = EEmployeeField.forKey(field);
+        if (parsed == null || newValue == null) {
+            return false; //Invalid field or missing value
+        }
+        EmployeePatch patch;
+        try {
+            patch = new EmployeePatch().set(parsed, newValue);
+        } catch (ClassCastException e) {
             return false; // Invalid value type
         }
+        try {
+            return updateEmployee(employeeId, patch) != null;
+        } catch (IllegalArgumentException e) {
+            return false; // Invalid value
+        }
+    }
+
+    //Applies every field set in the patch as one mutation, with a single lookup under the employee's write lock
+    //Returns the fields whose value actually changed (empty if none did), or null when the employee is not found
+    //Throws IllegalArgumentException, before anything changes, when the patched record breaks a field rule
+    public Set<EEmployeeField> updateEmployee(T employeeId, EmployeePatch patch){
+        MutationLog<T> log = mutationLog;
+        PendingChanges<T> events = pendingChanges();
+        long ticket = 0;
+        Set<EEmployeeField> changed = EnumSet.noneOf(EEmployeeField.class);
+        int stripe = stripeFor(employeeId);
+        long version = beginWrite(stripe);
+        try {
+            Row<T> row = employees.get(employeeId);
+            if (row == null) {
+                return null; // employee not found
+            }
+            Employee<T> before = row.employee();
+            Employee<T> after = patch.applyTo(before);
+            if (after == before) {
+                return changed; // nothing differs
+            }
+            String problem = EmployeeValidator.validate(after);
+            if (problem != null) {
+                throw new IllegalArgumentException(problem + " (employee " + employeeId + ")");
+            }
+            if (log != null) {
+                // the whole patch in one record, logged first so a log that fails rejects it unapplied
+                // (fields it sets to their current value replay as no-ops)
+                ticket = log.logUpdate(employeeId, patch);
+            }
+            recordBefore(row, version);
+            row.swap(after);
+            changed = reindex(row, before, after);
+
+            if (events.isWanted()) {
+                EmployeePatch old = EmployeePatch.of(before); // old values for the events
+                List<EmployeeChange<T>> updates = new ArrayList<>(changed.size());
+                for (EEmployeeField field : changed) {
+                    updates.add(new EmployeeChange.FieldUpdated<>(employeeId, field, old.get(field), patch.get(field)));
+                }
+                events.claim(updates);
+            }
+        } finally {
+            endWrite(stripe);
+            events.publish();
+        }
+        awaitDurable(log, ticket);
+        return changed;
     }
 
     //Delete
     public boolean deleteEmployee(T employeeId){
-        //checks if employee exist
-        if(!employees.containsKey(employeeId)){
-            return false; // Employee not found
+        MutationLog<T> log = mutationLog;
+        PendingChanges<T> events = pendingChanges();
+        long ticket;
+        int stripe = stripeFor(employeeId);
+        long version = beginWrite(stripe);
+        try {
+            Row<T> row = employees.get(employeeId);
+            if (row == null) {
+                return false; // Employee not found
+            }
+            ticket = removeRow(row, version, log, events);
+        } finally {
+            endWrite(stripe);
+            events.publish();
         }
-        employees.remove(employeeId);
+        awaitDurable(log, ticket);
         return true;
     }
 
+    //Logs the delete of the employee of a row found under the employee's write lock (held by the caller, as
+    //the write with the given version), then deletes it and claims its event; returns its log ticket
+    long removeRow(Row<T> row, long version, MutationLog<T> log, PendingChanges<T> events){
+        long ticket = log == null ? 0 : log.logDelete(row.employee().employeeId()); // first: see insert
+        recordBefore(row, version); // before it leaves the map, so open views never lose it
+        employees.remove(row.employee().employeeId()); // the record's own ID: nothing new is boxed
+        unindexEmployee(row);
+        rowAllocator.release(row.row());
+        events.claim(List.of(new EmployeeChange.Deleted<>(row.employee())));
+        return ticket;
+    }
+
+    // Index maintenance (callers hold the employee's write lock)
+
+    //Adds an employee to every secondary index
+    private void indexEmployee(Row<T> row) {
+        Employee<T> employee = row.employee();
+        bitmapIndex.add(row.row(), row, employee.employeeDepartment(), employee.isActive());
+        salaryIndex.add(employee.employeeSalary(), row.row(), row);
+        ratingIndex.add(employee.performanceRating(), row.row(), row);
+        experienceIndex.add(employee.yearsOfExperience(), row.row(), row);
+        nameIndex.add(row, employee.employeeName());
+        departmentAggregates.add(employee.employeeDepartment(), employee.employeeSalary(),
+                employee.performanceRating(), employee.isActive());
+        if (columns != null) {
+            columns.put(row.row(), employee.employeeName(), employee.employeeDepartment(),
+                    employee.employeeSalary(), employee.performanceRating(),
+                    employee.yearsOfExperience(), employee.isActive());
+        }
+    }
+
+    //Removes an employee from every secondary index
+    private void unindexEmployee(Row<T> row) {
+        Employee<T> employee = row.employee();
+        bitmapIndex.remove(row.row(), employee.employeeDepartment(), employee.isActive());
+        salaryIndex.remove(employee.employeeSalary(), row.row());
+        ratingIndex.remove(employee.performanceRating(), row.row());
+        experienceIndex.remove(employee.yearsOfExperience(), row.row());
+        nameIndex.remove(row);
+        departmentAggregates.remove(employee.employeeDepartment(), employee.employeeSalary(),
+                employee.performanceRating(), employee.isActive());
+        if (columns != null) {
+            columns.clear(row.row());
+        }
+    }
+
+    //Moves an employee within the indexes of every field that differs between its old and new record
+    //Returns the fields that differ
+    private Set<EEmployeeField> reindex(Row<T> row, Employee<T> before, Employee<T> after) {
+        Set<EEmployeeField> changed = EnumSet.noneOf(EEmployeeField.class);
+        if (!Objects.equals(before.employeeName(), after.employeeName())) {
+            nameIndex.rename(row, after.employeeName());
+            if (columns != null) {
+                columns.setName(row.row(), after.employeeName());
+            }
+            changed.add(EEmployeeField.NAME);
+        }
+        if (before.employeeDepartment() != after.employeeDepartment()) {
+            bitmapIndex.changeDepartment(row.row(), before.employeeDepartment(), after.employeeDepartment());
+            departmentAggregates.move(before.employeeDepartment(), after.employeeDepartment(),
+                    before.employeeSalary(), before.performanceRating(), before.isActive());
+            if (columns != null) {
+                columns.setDepartment(row.row(), after.employeeDepartment());
+            }
+            changed.add(EEmployeeField.DEPARTMENT);
+        }
+        // the aggregates below are already in the new department
+        if (Double.compare(before.employeeSalary(), after.employeeSalary()) != 0) {
+            salaryIndex.move(before.employeeSalary(), after.employeeSalary(), row.row(), row);
+            departmentAggregates.changeSalary(after.employeeDepartment(), before.employeeSalary(), after.employeeSalary());
+            if (columns != null) {
+                columns.setSalary(row.row(), after.employeeSalary());
+            }
+            changed.add(EEmployeeField.SALARY);
+        }
+        if (Double.compare(before.performanceRating(), after.performanceRating()) != 0) {
+            ratingIndex.move(before.performanceRating(), after.performanceRating(), row.row(), row);
+            departmentAggregates.changeRating(after.employeeDepartment(), before.performanceRating(), after.performanceRating());
+            if (columns != null) {
+                columns.setRating(row.row(), after.performanceRating());
+            }
+            changed.add(EEmployeeField.RATING);
+        }
+        if (before.yearsOfExperience() != after.yearsOfExperience()) {
+            experienceIndex.move(before.yearsOfExperience(), after.yearsOfExperience(), row.row(), row);
+            if (columns != null) {
+                columns.setExperience(row.row(), after.yearsOfExperience());
+            }
+            changed.add(EEmployeeField.EXPERIENCE);
+        }
+        if (before.isActive() != after.isActive()) {
+            departmentAggregates.changeActive(after.employeeDepartment(), before.isActive(), after.isActive());
+            bitmapIndex.changeActive(row.row(), after.isActive());
+            if (columns != null) {
+                columns.setActive(row.row(), after.isActive());
+            }
+            changed.add(EEmployeeField.ACTIVE);
+        }
+        return changed;
+    }
+
+    //Swaps in a record with a new salary and moves it within the salary index (salary batches)
+    private void setSalary(Row<T> row, double newSalary) {
+        Employee<T> before = row.employee();
+        Employee<T> after = before.withEmployeeSalary(newSalary);
+        row.swap(after);
+        reindex(row, before, after);
+    }
+
+    //Gets the current records of indexed rows
+    private static <T> List<Employee<T>> employeesOf(List<Row<T>> rows) {
+        List<Employee<T>> employees = new ArrayList<>(rows.size());
+        for (Row<T> row : rows) {
+            employees.add(row.employee());
+        }
+        return employees;
+    }
+
+    //Streams the employees currently stored
+    private Stream<Employee<T>> employeeStream() {
+        return employees.values().stream().map(Row::employee);
+    }
+
+    //Copies the employees currently stored into a new list
+    private List<Employee<T>> copyOfEmployees() {
+        List<Employee<T>> copy = new ArrayList<>(employees.size());
+        for (Row<T> row : employees.values()) {
+            copy.add(row.employee());
+        }
+        return copy;
+    }
+
     // Search and filter Operations
 
-    //Finds employees by department
+    //Finds employees by department (case-insensitive, unknown departments match nobody)
     public List<Employee<T>> findEmployeesByDepartment(String department){
-        return employees.values().stream()
-                .filter(employee -> employee.getEmployeeDepartment().name().equalsIgnoreCase(department))
-                .collect(Collectors.toList());
+        EEmployeeDepartment parsed = EmployeeValidator.parseDepartment(department);
+        return parsed == null ? new ArrayList<>() : findEmployeesByDepartment(parsed);
+    }
+
+    //Finds employees by department using the department bitmap
+    public List<Employee<T>> findEmployeesByDepartment(EEmployeeDepartment department){
+        return employeesOf(bitmapIndex.select(department, null));
+    }
+
+    //Counts the employees of a department (null for all) with a status (null for both) by bitmap popcount
+    public int countEmployees(EEmployeeDepartment department, Boolean active){
+        return bitmapIndex.count(department, active);
+    }
+
+    //Counts the employees of every department with a status (null for both)
+    public Map<EEmployeeDepartment, Integer> getDepartmentCounts(Boolean active){
+        return bitmapIndex.departmentCounts(active);
     }
 
     //Finds employees whose names contain the given search term
     public List<Employee<T>> findEmployeesByName(String searchTerm){
-        return employees.values().stream()
-                .filter(employee -> employee.getEmployeeName().toLowerCase().contains(searchTerm.toLowerCase()))
-                .collect(Collectors.toList());
+        return employeesOf(nameIndex.search(searchTerm));
     }
 
     //Finds employees with performance rating at or above the specified minimum
     public List<Employee<T>> findEmployeesByMinRating(Double minRating){
-        return employees.values().stream()
-                .filter(employee -> employee.getPerformanceRating() >= minRating)
-                .collect(Collectors.toList());
+        return employeesOf(ratingIndex.atLeast(minRating));
     }
 
     //Finds employees with salary in the specified range
     public List<Employee<T>> findEmployeesBySalaryRange(double minSalary, double maxSalary) {
-        return employees.values().stream()
-                .filter(e -> e.getEmployeeSalary() >= minSalary && e.getEmployeeSalary() <= maxSalary)
-                .collect(Collectors.toList());
+        return readConsistent(() -> employeesOf(salaryIndex.range(minSalary, maxSalary)));
     }
 
     //Find employees based on a custom filter
     public List<Employee <T>> findEmployees(Predicate<Employee<T>> filter){
-        return employees.values().stream()
+        return employeeStream()
                 .filter(filter)
                 .collect(Collectors.toList());
     }
 
+    //Runs a multi-criteria query: candidates come from the most selective index, the other criteria filter them
+    public List<Employee<T>> query(EmployeeQuery query){
+        return readConsistent(() -> execute(query, plan(query)));
+    }
+
+    //Gets the plan query() would use, without running it
+    public QueryPlan explain(EmployeeQuery query){
+        return plan(query);
+    }
+
+    //Picks the access path expected to read the fewest candidates
+    //Department and status counts are exact bitmap popcounts, the name estimate is O(1)-ish,
+    //and range counts stop as soon as they reach the best so far
+    //An index is only used when it narrows the roster to less than half: beyond that a sequential scan is cheaper
+    private QueryPlan plan(EmployeeQuery query){
+        QueryPlan.Access access = QueryPlan.Access.FULL_SCAN;
+        int best = employees.size() / 2 + 1;
+        if (query.getDepartment() != null || query.getActive() != null) {
+            int rows = bitmapIndex.count(query.getDepartment(), query.getActive());
+            if (rows < best) {
+                access = QueryPlan.Access.BITMAP_INDEX;
+                best = rows;
+            }
+        }
+        if (query.getNameContains() != null) {
+            int rows = nameIndex.estimate(query.getNameContains());
+            if (rows < best) {
+                access = QueryPlan.Access.NAME_INDEX;
+                best = rows;
+            }
+        }
+        if (query.hasSalaryRange()) {
+            int rows = salaryIndex.count(query.getMinSalary(), query.getMaxSalary(), best);
+            if (rows < best) {
+                access = QueryPlan.Access.SALARY_INDEX;
+                best = rows;
+            }
+        }
+        if (query.hasRatingRange()) {
+            int rows = ratingIndex.count(query.getMinRating(), query.getMaxRating(), best);
+            if (rows < best) {
+                access = QueryPlan.Access.RATING_INDEX;
+                best = rows;
+            }
+        }
+        if (query.hasExperienceRange()) {
+            int rows = experienceIndex.count(query.getMinExperience(), query.getMaxExperience(), best);
+            if (rows < best) {
+                access = QueryPlan.Access.EXPERIENCE_INDEX;
+                best = rows;
+            }
+        }
+        if (access == QueryPlan.Access.FULL_SCAN) {
+            best = employees.size();
+        }
+        // walking the sort order stops after the first matches: with matches spread evenly it reads
+        // about limit / selectivity rows, which beats reading every candidate when the limit is small
+        if (query.getSortOrder() != null && query.hasLimit() && best > 0) {
+            long walk = (long) query.getLimit() * employees.size() / best;
+            if (walk < best) {
+                access = QueryPlan.Access.SORTED_INDEX_WALK;
+                best = (int) walk;
+            }
+        }
+        return new QueryPlan(access, best);
+    }
+
+    //Reads the candidates of a plan, keeps the matching ones and applies the sort order and limit
+    private List<Employee<T>> execute(EmployeeQuery query, QueryPlan plan){
+        if (plan.access() == QueryPlan.Access.SORTED_INDEX_WALK) {
+            // walks the index itself: the entries after the limit-th match are never read or copied
+            List<Employee<T>> matches = new ArrayList<>();
+            Iterator<DoubleRangeIndex.Entry<Row<T>>> walk = sortIndex(query.getSortOrder()).descendingEntries();
+            while (matches.size() < query.getLimit() && walk.hasNext()) {
+                Employee<T> employee = walk.next().element().employee();
+                if (query.matches(employee)) {
+                    matches.add(employee);
+                }
+            }
+            return matches;
+        }
+
+        Stream<Row<T>> candidates = switch (plan.access()) {
+            case BITMAP_INDEX -> bitmapIndex.select(query.getDepartment(), query.getActive()).stream();
+            case NAME_INDEX -> nameIndex.search(query.getNameContains()).stream();
+            case SALARY_INDEX -> salaryIndex.range(query.getMinSalary(), query.getMaxSalary()).stream();
+            case RATING_INDEX -> ratingIndex.range(query.getMinRating(), query.getMaxRating()).stream();
+            case EXPERIENCE_INDEX -> experienceIndex.range(query.getMinExperience(), query.getMaxExperience()).stream();
+            default -> employees.values().stream();
+        };
+        if (plan.estimatedRows() >= PARALLEL_THRESHOLD) {
+            candidates = candidates.parallel();
+        }
+        Stream<Employee<T>> matches = candidates.map(Row::employee).filter(query::matches);
+
+        if (query.getSortOrder() == null) {
+            return matches.unordered().limit(query.getLimit()).collect(Collectors.toList());
+        }
+        Comparator<Employee<T>> order = comparator(query.getSortOrder());
+        if (query.hasLimit()) {
+            return matches.collect(TopKSelector.topK(query.getLimit(), order));
+        }
+        return matches.sorted(order).collect(Collectors.toList());
+    }
+
     // Sorting Operations
+    // The experience, salary and rating indexes already hold each order, so no sorting happens here
 
-    //Gets employees sorted by years of experience
+    //Gets employees sorted by years of experience (same order as the compareTo method in Employee class)
     public List <Employee<T>> getEmployeesSortedByExperience(){
-        List<Employee<T>> sortedList = new ArrayList<>(employees.values());
-        Collections.sort(sortedList); //uses the compareTo method in Employee class
-        return sortedList;
+        return employeesOf(experienceIndex.descending());
     }
 
-    // Gets employees sorted by salary
+    // Gets employees sorted by salary (highest first)
     public List<Employee<T>> getEmployeesSortedBySalary() {
-        List<Employee<T>> sortedList = new ArrayList<>(employees.values());
-        sortedList.sort(new EmployeeSalaryComparator<>());
-        return sortedList;
+        return readConsistent(() -> employeesOf(salaryIndex.descending()));
     }
 
-    //Gets employees sorted by performance rating
+    //Gets employees sorted by performance rating (highest first)
     public List<Employee<T>> getEmployeesSortedByPerformance() {
-        List<Employee<T>> sortedList = new ArrayList<>(employees.values());
-        sortedList.sort(new EmployeePerformanceComparator<>());
-        return sortedList;
+        return employeesOf(ratingIndex.descending());
+    }
+
+    //Gets one page of a sort order, e.g. employees 5000-5100 by salary
+    public List<Employee<T>> getEmployeesSorted(EEmployeeSortOrder sortOrder, int offset, int limit) {
+        return readConsistent(() -> employeesOf(sortIndex(sortOrder).descendingPage(offset, limit)));
+    }
+
+    //Gets the position of an employee in a sort order, -1 when it is not stored
+    public int getSortedPosition(EEmployeeSortOrder sortOrder, T employeeId) {
+        Row<T> row = employees.get(employeeId);
+        if (row == null) {
+            return -1;
+        }
+        return sortIndex(sortOrder).descendingPosition(sortKey(sortOrder, row.employee()), row.row());
+    }
+
+    //Gets a live view of a sort order that can be paged into the employee table
+    public EmployeePageSource<T> getSortedView(EEmployeeSortOrder sortOrder) {
+        return new EmployeePageSource<>() {
+            @Override
+            public int size() {
+                return sortIndex(sortOrder).size();
+            }
+
+            @Override
+            public List<Employee<T>> page(int offset, int limit) {
+                return getEmployeesSorted(sortOrder, offset, limit);
+            }
+
+            @Override
+            public int indexOf(Employee<T> employee) {
+                return getSortedPosition(sortOrder, employee.employeeId());
+            }
+
+            @Override
+            public boolean isLive() {
+                return true;
+            }
+
+            //Streams the order as of now, for exports: paging a live order while it changes could skip or
+            //repeat employees, so the index is walked under a read view instead, without copying the roster
+            //The view is closed with the stream, once it is read to the end, or at the latest when it is collected
+            @Override
+            public Stream<Employee<T>> stream() {
+                EmployeeReadView<T> view = openReadView();
+                Iterator<Employee<T>> employees = closedAtEnd(view,
+                        view.inIndexOrder(sortIndex(sortOrder), employee -> sortKey(sortOrder, employee)));
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(employees,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(view::close);
+            }
+        };
+    }
+
+    //Gets the comparator that sorts like a sort order's index
+    private static <T> Comparator<Employee<T>> comparator(EEmployeeSortOrder sortOrder) {
+        return switch (sortOrder) {
+            case EXPERIENCE -> Comparator.naturalOrder();
+            case SALARY -> new EmployeeSalaryComparator<>();
+            case PERFORMANCE -> new EmployeePerformanceComparator<>();
+        };
+    }
+
+    //Gets the value an employee is kept under in a sort order's index
+    private static <T> double sortKey(EEmployeeSortOrder sortOrder, Employee<T> employee) {
+        return switch (sortOrder) {
+            case EXPERIENCE -> employee.yearsOfExperience();
+            case SALARY -> employee.employeeSalary();
+            case PERFORMANCE -> employee.performanceRating();
+        };
+    }
+
+    //Gets the index that maintains a sort order
+    private DoubleRangeIndex<Row<T>> sortIndex(EEmployeeSortOrder sortOrder) {
+        return switch (sortOrder) {
+            case EXPERIENCE -> experienceIndex;
+            case SALARY -> salaryIndex;
+            case PERFORMANCE -> ratingIndex;
+        };
     }
 
     //Gives a salary raise to employees with high performance
     public int giveSalaryRaiseToHighPerformers() {
-        int count = 0;
-        for (Employee<T> employee : employees.values()) {
-            if (employee.getPerformanceRating() >= 3.5) {
-                double newSalary = employee.getEmployeeSalary() * (1 + 2.0 / 100);
-                employee.setEmployeeSalary(newSalary);
-                count++;
+        return applySalaryPolicy(SalaryPolicy.highPerformerRaise(), false).count();
+    }
+
+    //Applies a salary policy to every employee it matches as one atomic batch (or, in a dry run, only reports it)
+    //If the policy fails for any employee nothing is applied
+    public RaiseSummary applySalaryPolicy(SalaryPolicy<T> policy, boolean dryRun) {
+        if (dryRun) {
+            return readConsistent(() -> planSalaryChanges(policy).totals.result(true));
+        }
+        MutationLog<T> log = mutationLog;
+        long ticket = 0;
+        SalaryBatch<T> batch;
+        ChangeRingBuffer<EmployeeChange<T>> ring;
+        long firstEvent = 0;
+        long version = lockAllStripes();
+        try {
+            ensureWritable(log);
+            batch = planSalaryChanges(policy);
+            if (log != null && !batch.changes.isEmpty()) {
+                List<T> employeeIds = new ArrayList<>(batch.changes.size());
+                double[] newSalaries = new double[batch.changes.size()];
+                for (SalaryChange<T> change : batch.changes) {
+                    newSalaries[employeeIds.size()] = change.newSalary();
+                    employeeIds.add(change.row().employee().employeeId());
+                }
+                // one record, replayed whole or not at all, logged before anything changes
+                ticket = log.logSalaryBatch(employeeIds, newSalaries);
+            }
+            for (SalaryChange<T> change : batch.changes) {
+                recordBefore(change.row(), version);
+            }
+            long stamp = batchLock.writeLock();
+            try {
+                Stream<SalaryChange<T>> changes = batch.changes.stream();
+                if (batch.changes.size() >= PARALLEL_THRESHOLD) {
+                    changes = changes.parallel(); // the indexes and aggregates take concurrent updates
+                }
+                changes.forEach(change -> setSalary(change.row(), change.newSalary()));
+            } finally {
+                batchLock.unlockWrite(stamp);
             }
+            ring = changes;
+            if (ring != null) {
+                firstEvent = ring.claim(batch.changes.size()); // claimed in write order, filled in below
+            }
+        } finally {
+            unlockAllStripes();
+        }
+        // published once the stripes are released: a full ring waits for its subscribers, and other writers
+        // must not wait with it; subscribers take nothing past the claimed events until they are filled in
+        if (ring != null) {
+            for (SalaryChange<T> change : batch.changes) {
+                ring.publish(firstEvent++, new EmployeeChange.FieldUpdated<>(change.row().employee().employeeId(),
+                        EEmployeeField.SALARY, change.oldSalary(), change.newSalary()));
+            }
+        }
+        awaitDurable(log, ticket); // one wait covers the whole batch
+        return batch.totals.result(false);
+    }
+
+    //Works out the salary changes of a policy, splitting large rosters across the common ForkJoinPool
+    private SalaryBatch<T> planSalaryChanges(SalaryPolicy<T> policy) {
+        Stream<Row<T>> rows = employees.values().stream();
+        if (employees.size() >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
         }
-        return count;
+        return rows.collect(SalaryBatch::new, (batch, row) -> batch.plan(row, policy), SalaryBatch::addAll);
     }
 
     //Gets the highest-paid employees
     public List<Employee<T>> getTopPaidEmployees(int n) {
-        return employees.values().stream()
-                .sorted(new EmployeeSalaryComparator<>())
-                .limit(n)
-                .collect(Collectors.toList());
+        return getTopEmployees(n, new EmployeeSalaryComparator<>());
+    }
+
+    //Gets the best performing employees
+    public List<Employee<T>> getTopPerformers(int n) {
+        return getTopEmployees(n, new EmployeePerformanceComparator<>());
+    }
+
+    //Gets the most experienced employees
+    public List<Employee<T>> getMostExperiencedEmployees(int n) {
+        return getTopEmployees(n, Comparator.naturalOrder()); //uses the compareTo method in Employee class
+    }
+
+    //Gets the first n employees of an ordering (best first) with a bounded heap instead of a full sort
+    public List<Employee<T>> getTopEmployees(int n, Comparator<? super Employee<T>> order) {
+        return readConsistent(() -> {
+            Stream<Employee<T>> stream = employeeStream();
+            if (employees.size() >= PARALLEL_THRESHOLD) {
+                stream = stream.parallel(); // per-chunk heaps merged by the collector
+            }
+            return stream.collect(TopKSelector.topK(n, order));
+        });
     }
 
     //Calculates the average salary in a department
+    //In COLUMNAR mode it is a loop over the department and salary columns, otherwise the running aggregate
     public double calculateAverageSalaryByDepartment(String department) {
-        List<Employee<T>> departmentEmployees = findEmployeesByDepartment(department);
-
-        if (departmentEmployees.isEmpty()) {
+        EEmployeeDepartment parsed = EmployeeValidator.parseDepartment(department);
+        if (parsed == null) {
             return 0;
         }
+        if (columns != null) {
+            return readConsistent(() -> columns.averageSalary(parsed));
+        }
+        return getDepartmentAggregate(parsed).averageSalary();
+    }
 
-        return departmentEmployees.stream()
-                .mapToDouble(Employee::getEmployeeSalary)
-                .average()
-                .orElse(0);
+    //Gets the running headcount, active count and salary and rating sums of a department in O(1)
+    public DepartmentAggregates.DepartmentAggregate getDepartmentAggregate(EEmployeeDepartment department) {
+        return readConsistent(() -> departmentAggregates.get(department));
     }
 
     //Gets the total number of employees in the database
@@ -189,109 +996,99 @@ public class EmployeeDatabase<T> {
     }
 
     //Gets the number of active employees in the database
+    //In COLUMNAR mode it is a popcount over the active bitset, otherwise the running aggregate
     public int getActiveEmployeeCount() {
-        return (int) employees.values().stream()
-                .filter(Employee::isActive)
-                .count();
+        return columns != null ? columns.activeCount() : departmentAggregates.activeCount();
     }
-    //Traverse all employees
+
+    //Computes count, active count, salary and rating figures and the department breakdown in one pass
+    public EmployeeStatistics getStatistics() {
+        return readConsistent(() -> {
+            Stream<Employee<T>> stream = employeeStream();
+            if (employees.size() >= PARALLEL_THRESHOLD) {
+                stream = stream.parallel();
+            }
+            return stream.collect(EmployeeStatistics.<T>collector());
+        });
+    }
+
+    //Traverse all employees as they were when the iteration started
+    //The iterator reads a point-in-time view that is closed when the iteration ends (or the iterator is dropped)
     public Iterator<Employee<T>> getEmployeeIterator() {
-        return employees.values().iterator();
+        EmployeeReadView<T> view = openReadView();
+        return closedAtEnd(view, view.iterator());
+    }
+
+    // Wraps an iterator over a read view so the view is closed once it is read to the end,
+    // or when the iterator is collected if it never is
+    private static <T> Iterator<Employee<T>> closedAtEnd(EmployeeReadView<T> view, Iterator<Employee<T>> employees) {
+        Iterator<Employee<T>> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (employees.hasNext()) {
+                    return true;
+                }
+                view.close();
+                return false;
+            }
+
+            @Override
+            public Employee<T> next() {
+                return employees.next();
+            }
+        };
+        READ_VIEW_CLEANER.register(iterator, view::close);
+        return iterator;
     }
 
     // Console Display
 
-    // Displays all employees using a for-each loop
+    // Displays all employees as a table, row by row from the employee map
     public void displayEmployeesWithForEach() {
-        // Print header
-        String headerFormat = "%-10s %-20s %-15s %-12s %-12s %-10s %-10s%n";
         System.out.println("\n=== Employee ===");
-        System.out.printf(headerFormat, "ID", "Name", "Department", "Salary ($)", "Rating", "Experience", "Status");
-        System.out.println("----------------------------------------------------------------------------------------------------");
-
-        // Format and print each employee
-        String rowFormat = "%-10s %-20s %-15s %-12.2f %-12.2f %-10d %-10s%n";
-        for (Employee<T> employee : employees.values()) {
-            System.out.printf(rowFormat,
-                    employee.getEmployeeId().toString(),
-                    truncateText(employee.getEmployeeName(), 20),
-                    employee.getEmployeeDepartment().name(),
-                    employee.getEmployeeSalary(),
-                    employee.getPerformanceRating(),
-                    employee.getYearsOfExperience(),
-                    employee.isActive() ? "Active" : "Inactive"
-            );
-        }
-        System.out.println("----------------------------------------------------------------------------------------------------");
-        System.out.println("Total Employees: " + getTotalEmployeeCount());
-        System.out.println("Total Active Employees: " + getActiveEmployeeCount());
+        // the totals are gathered while the rows are printed, so the map is walked once
+        EmployeeStatistics.Accumulator totals = new EmployeeStatistics.Accumulator();
+        try (EmployeeReadView<T> view = openReadView()) { // a raise run meanwhile shows in neither rows nor totals
+            printTable(view.employees().peek(totals::add));
+        }
+        EmployeeStatistics statistics = totals.result();
+        System.out.println("Total Employees: " + statistics.count());
+        System.out.println("Total Active Employees: " + statistics.activeCount());
     }
 
     // Generates and displays formatted employee reports using Stream API
     public void displayEmployeesWithStreams() {
         System.out.println("\n=== Employee Report ===");
 
-        // Print header
-        String headerFormat = "%-10s %-20s %-15s %-12s %-12s %-10s %-10s%n";
-        System.out.printf(headerFormat, "ID", "Name", "Department", "Salary ($)", "Rating", "Experience", "Status");
-        System.out.println("----------------------------------------------------------------------------------------------------");
-
-        // Use Stream API to format and print each employee
-        String rowFormat = "%-10s %-20s %-15s %-12.2f %-12.2f %-10d %-10s%n";
-        employees.values().stream()
-                .forEach(employee ->
-                        System.out.printf(rowFormat,
-                                employee.getEmployeeId().toString(),
-                                truncateText(employee.getEmployeeName(), 20),
-                                employee.getEmployeeDepartment().name(),
-                                employee.getEmployeeSalary(),
-                                employee.getPerformanceRating(),
-                                employee.getYearsOfExperience(),
-                                employee.isActive() ? "Active" : "Inactive")
-                );
-
-        System.out.println("----------------------------------------------------------------------------------------------------");
-
-        // Additional report information using Stream API operations
-        System.out.println("Total Active Employees: " + getActiveEmployeeCount());
-
-        // Calculate and display average salary
-        double avgSalary = employees.values().stream()
-                .mapToDouble(Employee::getEmployeeSalary)
-                .average()
-                .orElse(0);
-        System.out.printf("Average Salary: $%.2f%n", avgSalary);
-
-        // Calculate and display average performance rating
-        double avgRating = employees.values().stream()
-                .mapToDouble(Employee::getPerformanceRating)
-                .average()
-                .orElse(0);
-        System.out.printf("Average Performance Rating: %.2f%n", avgRating);
-
-        // Count active employees
-        long activeCount = employees.values().stream()
-                .filter(Employee::isActive)
-                .count();
-        System.out.printf("Active Employees: %d (%.1f%%)%n",
-                activeCount,
-                employees.isEmpty() ? 0 : (activeCount * 100.0 / getActiveEmployeeCount()));
+        // Use Stream API to feed each employee to the table exporter and the statistics in the same pass
+        EmployeeStatistics.Accumulator totals = new EmployeeStatistics.Accumulator();
+        try (EmployeeReadView<T> view = openReadView()) {
+            printTable(view.employees().peek(totals::add));
+        }
+        EmployeeStatistics statistics = totals.result();
+
+        // Additional report information from the single-pass statistics
+        System.out.println("Total Active Employees: " + statistics.activeCount());
+        System.out.printf("Average Salary: $%.2f%n", statistics.salary().average());
+        System.out.printf("Average Performance Rating: %.2f%n", statistics.rating().average());
+        System.out.printf("Active Employees: %d (%.1f%%)%n", statistics.activeCount(), statistics.activePercentage());
 
         // Department distribution
         System.out.println("\nDepartment Distribution:");
-        employees.values().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        Employee::getEmployeeDepartment,
-                        java.util.stream.Collectors.counting()
-                ))
-                .forEach((dept, count) -> System.out.printf("  %s: %d employees%n", dept, count));
+        statistics.departments().values()
+                .forEach(department -> System.out.printf("  %s: %d employees%n",
+                        department.department(), department.count()));
     }
 
-    // Helper method to truncate text to a specified length
-    private String truncateText(String text, int maxLength) {
-        if (text == null || text.length() <= maxLength) {
-            return text;
+    // Prints employees as the fixed-width table through the streaming exporter
+    // (rows are formatted into one reusable buffer and written in blocks instead of one printf per row)
+    private void printTable(Stream<Employee<T>> rows) {
+        System.out.flush();
+        try {
+            EmployeeExporter.export(rows, Channels.newChannel(System.out), ExportFormat.TABLE, System.out.charset());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return text.substring(0, maxLength - 3) + "...";
+        System.out.flush();
     }
 }
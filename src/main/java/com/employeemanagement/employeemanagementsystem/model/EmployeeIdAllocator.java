@@ -0,0 +1,131 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out unique employee IDs from one ascending sequence (a hi/lo allocator)
+ * An ID, or a block of IDs for a bulk import, costs a single fetch-and-add: no retry loop and no lookup.
+ * IDs are taken from ranges reserved in advance; when a ReservationStore is attached each range is
+ * saved before any of its IDs is handed out, so after a restart the sequence resumes past every ID that
+ * may have been given out (IDs reserved but never used are skipped, not reused).
+ * IDs that enter the database by other means (typed by hand, imported, replayed) are observed and move
+ * the sequence past them, so a generated ID never collides with a stored employee.
+ */
+public class EmployeeIdAllocator {
+
+    // First generated ID (generated IDs used to be four-digit numbers and keep that look)
+    public static final int FIRST_ID = 1000;
+    // IDs reserved, and saved, at a time
+    public static final int RESERVATION_SIZE = 1024;
+
+    private final AtomicLong next = new AtomicLong(FIRST_ID); // next ID to hand out
+    private volatile long reserved = FIRST_ID; // IDs below it are reserved
+    private ReservationStore store; // null while reservations are kept in memory only (guarded by this)
+
+    /**
+     * Durable record of how far the ID sequence has been reserved
+     */
+    public interface ReservationStore {
+
+        //Gets the saved reservation limit, 0 when none was saved yet
+        long load() throws IOException;
+
+        //Saves a new reservation limit durably
+        void save(long limit) throws IOException;
+    }
+
+    /**
+     * Contiguous range of IDs handed out together
+     * @param first first ID of the block
+     * @param count number of IDs
+     */
+    public record IdBlock(int first, int count) {
+
+        public int last() {
+            return first + count - 1;
+        }
+
+        public boolean contains(int id) {
+            return id >= first && id - first < count;
+        }
+
+        //Gets the IDs of the block as a list view (nothing is copied)
+        public List<Integer> toList() {
+            return new AbstractList<>() {
+                @Override
+                public Integer get(int index) {
+                    if (index < 0 || index >= count) {
+                        throw new IndexOutOfBoundsException(index);
+                    }
+                    return first + index;
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            };
+        }
+    }
+
+    //Gets a fresh ID
+    public int allocate() {
+        return allocateBlock(1).first();
+    }
+
+    //Gets a block of count consecutive fresh IDs
+    public IdBlock allocateBlock(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + count);
+        }
+        long first = next.getAndAdd(count);
+        long end = first + count;
+        if (end - 1 > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Employee ID space exhausted");
+        }
+        if (end > reserved) {
+            reserve(end);
+        }
+        return new IdBlock((int) first, count);
+    }
+
+    //Moves the sequence past an ID that entered the database without being allocated
+    public void observe(int id) {
+        if (id >= next.get()) {
+            next.accumulateAndGet(id + 1L, Math::max);
+        }
+    }
+
+    //Starts saving reservations, resuming after everything the store says may have been handed out
+    //(attach after the database has been restored, so its IDs have been observed)
+    public synchronized void attach(ReservationStore store) throws IOException {
+        next.accumulateAndGet(store.load(), Math::max);
+        reserved = next.get(); // nothing is reserved in the store beyond what it already holds
+        this.store = store;
+    }
+
+    //Gets the ID the next allocation would return, if no other thread allocates first
+    public int peek() {
+        return (int) Math.min(next.get(), Integer.MAX_VALUE);
+    }
+
+    // Reserves (and saves) the sequence at least up to end; threads needing the same range wait for the save
+    private synchronized void reserve(long end) {
+        if (end <= reserved) {
+            return; // another thread reserved it meanwhile
+        }
+        long limit = Math.max(end, next.get()) + RESERVATION_SIZE;
+        if (store != null) {
+            try {
+                store.save(limit);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not reserve employee IDs", e);
+            }
+        }
+        reserved = limit;
+    }
+}
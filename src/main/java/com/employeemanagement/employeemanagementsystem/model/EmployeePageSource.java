@@ -0,0 +1,64 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Range access to an ordered sequence of employees, used to page data into the employee table
+ * Implementations only materialize the rows that are asked for.
+ * <T> Type of the employee ID
+ */
+public interface EmployeePageSource<T> {
+
+    //Gets the number of employees in the sequence
+    int size();
+
+    //Gets the employees at positions [offset, offset + limit)
+    List<Employee<T>> page(int offset, int limit);
+
+    //Gets the position of the employee with the same ID in the sequence, -1 when absent
+    int indexOf(Employee<T> employee);
+
+    //Whether the sequence follows later database changes (a fixed result list does not)
+    default boolean isLive() {
+        return false;
+    }
+
+    //Streams the sequence page by page, so only one page is materialized at a time (e.g. for exports)
+    default Stream<Employee<T>> stream() {
+        int pageSize = 1024;
+        return IntStream.iterate(0, offset -> offset < size(), offset -> offset + pageSize)
+                .mapToObj(offset -> page(offset, pageSize))
+                .flatMap(List::stream);
+    }
+
+    //Wraps a fixed list, e.g. search results
+    static <T> EmployeePageSource<T> of(List<Employee<T>> employees) {
+        return new EmployeePageSource<>() {
+            @Override
+            public int size() {
+                return employees.size();
+            }
+
+            @Override
+            public List<Employee<T>> page(int offset, int limit) {
+                int from = Math.min(Math.max(offset, 0), employees.size());
+                int to = Math.min(employees.size(), from + Math.max(limit, 0));
+                return new ArrayList<>(employees.subList(from, to));
+            }
+
+            @Override
+            public int indexOf(Employee<T> employee) {
+                for (int i = 0; i < employees.size(); i++) {
+                    if (Objects.equals(employees.get(i).employeeId(), employee.employeeId())) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+/**
+ * Typed set of field changes applied to one employee in a single EmployeeDatabase.updateEmployee call
+ * Values are held unboxed; only the fields that were set take part in the update.
+ * A patch is a plain mutable value: build it on one thread, then hand it to the database.
+ */
+public class EmployeePatch {
+
+    private int fields; // bit per EEmployeeField ordinal
+    private String name;
+    private EEmployeeDepartment department;
+    private double salary;
+    private double rating;
+    private int experience;
+    private boolean active;
+
+    //Sets every field to the values of an employee
+    public static EmployeePatch of(Employee<?> employee) {
+        return new EmployeePatch()
+                .name(employee.employeeName())
+                .department(employee.employeeDepartment())
+                .salary(employee.employeeSalary())
+                .rating(employee.performanceRating())
+                .experience(employee.yearsOfExperience())
+                .active(employee.isActive());
+    }
+
+    //Gets the employee with every field set in the patch replaced (the same record when nothing differs)
+    public <T> Employee<T> applyTo(Employee<T> employee) {
+        Employee<T> patched = employee;
+        if (has(EEmployeeField.NAME)) {
+            patched = patched.withEmployeeName(name);
+        }
+        if (has(EEmployeeField.DEPARTMENT)) {
+            patched = patched.withEmployeeDepartment(department);
+        }
+        if (has(EEmployeeField.SALARY)) {
+            patched = patched.withEmployeeSalary(salary);
+        }
+        if (has(EEmployeeField.RATING)) {
+            patched = patched.withPerformanceRating(rating);
+        }
+        if (has(EEmployeeField.EXPERIENCE)) {
+            patched = patched.withYearsOfExperience(experience);
+        }
+        if (has(EEmployeeField.ACTIVE)) {
+            patched = patched.withActive(active);
+        }
+        return patched;
+    }
+
+    public EmployeePatch name(String name) {
+        this.name = name;
+        return mark(EEmployeeField.NAME);
+    }
+
+    public EmployeePatch department(EEmployeeDepartment department) {
+        this.department = department;
+        return mark(EEmployeeField.DEPARTMENT);
+    }
+
+    public EmployeePatch salary(double salary) {
+        this.salary = salary;
+        return mark(EEmployeeField.SALARY);
+    }
+
+    public EmployeePatch rating(double rating) {
+        this.rating = rating;
+        return mark(EEmployeeField.RATING);
+    }
+
+    public EmployeePatch experience(int experience) {
+        this.experience = experience;
+        return mark(EEmployeeField.EXPERIENCE);
+    }
+
+    public EmployeePatch active(boolean active) {
+        this.active = active;
+        return mark(EEmployeeField.ACTIVE);
+    }
+
+    //Sets a field from an untyped value, throwing ClassCastException when the value has the wrong type
+    public EmployeePatch set(EEmployeeField field, Object value) {
+        switch (field) {
+            case NAME:
+                return name((String) value);
+            case DEPARTMENT:
+                return department((EEmployeeDepartment) value);
+            case SALARY:
+                return salary((Double) value);
+            case RATING:
+                return rating((Double) value);
+            case EXPERIENCE:
+                return experience((Integer) value);
+            case ACTIVE:
+                return active((Boolean) value);
+            default:
+                throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    //Gets the value set for a field, boxed (used where updates travel as name and value, e.g. the write-ahead log)
+    public Object get(EEmployeeField field) {
+        switch (field) {
+            case NAME:
+                return name;
+            case DEPARTMENT:
+                return department;
+            case SALARY:
+                return salary;
+            case RATING:
+                return rating;
+            case EXPERIENCE:
+                return experience;
+            case ACTIVE:
+                return active;
+            default:
+                throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    //Checks whether the patch sets a field
+    public boolean has(EEmployeeField field) {
+        return (fields & (1 << field.ordinal())) != 0;
+    }
+
+    public boolean isEmpty() {
+        return fields == 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EEmployeeDepartment getDepartment() {
+        return department;
+    }
+
+    public double getSalary() {
+        return salary;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    private EmployeePatch mark(EEmployeeField field) {
+        fields |= 1 << field.ordinal();
+        return this;
+    }
+}
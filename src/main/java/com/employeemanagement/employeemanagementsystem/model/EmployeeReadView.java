@@ -0,0 +1,204 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.model.index.DoubleRangeIndex;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.VersionStore;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Point-in-time view of an EmployeeDatabase for long reads such as reports and exports
+ * Everything read through the view is the state at the moment it was opened, however long reading takes:
+ * employees added since are missing, deleted ones still show, and an employee updated since (by a raise
+ * run, say) shows its old values. Employees are the immutable records they had then, so nothing is copied.
+ * Writers carry on meanwhile without waiting; they keep before-images of what they change until the view
+ * is closed, so close it as soon as the read is done (try-with-resources).
+ * @param <T> Type of the employee ID
+ */
+public class EmployeeReadView<T> implements Iterable<Employee<T>>, AutoCloseable {
+
+    private final Map<T, EmployeeDatabase.Row<T>> rows;
+    private final VersionStore<T> versions;
+    private final long version;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    //constructor, opened by EmployeeDatabase.openReadView
+    EmployeeReadView(Map<T, EmployeeDatabase.Row<T>> rows, VersionStore<T> versions) {
+        this.rows = rows;
+        this.versions = versions;
+        this.version = versions.open();
+    }
+
+    //Gets the database version the view reads
+    public long version() {
+        return version;
+    }
+
+    //Gets an employee as it was when the view was opened, null if it did not exist then
+    public Employee<T> getEmployee(T employeeId) {
+        EmployeeDatabase.Row<T> row = rows.get(employeeId);
+        Employee<T> current = row == null ? null : row.employee();
+        // checked after reading: a write that began meanwhile recorded the old record first
+        VersionStore.Version<T> written = versions.at(employeeId, version);
+        return written != null ? written.before() : current;
+    }
+
+    //Streams every employee as it was when the view was opened (sequential; consume it before closing the view)
+    //Employees not written since come from the roster, the others from their before-images
+    public Stream<Employee<T>> employees() {
+        BitSet shown = new BitSet(); // rows of the employees taken from the roster
+        return Stream.concat(
+                rows.values().stream().map(row -> unchangedSinceOpen(row, shown)).filter(Objects::nonNull),
+                Stream.of(shown).flatMap(this::writtenSinceOpen)); // flatMap defers this until the roster is done
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return employees().iterator();
+    }
+
+    // Gets a stored employee if nothing wrote it since the view was opened, else gives null
+    private Employee<T> unchangedSinceOpen(EmployeeDatabase.Row<T> row, BitSet shown) {
+        Employee<T> current = row.employee();
+        if (versions.at(current.employeeId(), version) != null || shown.get(row.row())) {
+            return null; // written since (its before-image is used), or already seen
+        }
+        shown.set(row.row());
+        return current;
+    }
+
+    // The employees written since the view was opened that existed then and were not taken from the roster
+    // (one the roster walk took just before it was written is recognized by its row)
+    private Stream<Employee<T>> writtenSinceOpen(BitSet shown) {
+        List<Employee<T>> employees = new ArrayList<>();
+        versions.forEachWrittenSince(version, written -> {
+            if (written.before() != null && !shown.get(written.row())) {
+                employees.add(written.before());
+            }
+        });
+        return employees.stream();
+    }
+
+    //Iterates the employees as of the view in the order of a sort index (highest first), walking the live index
+    //Employees written since the view was opened are skipped in the walk and their before-images merged in at
+    //their old place, so only those are held in memory, never the whole roster
+    Iterator<Employee<T>> inIndexOrder(DoubleRangeIndex<EmployeeDatabase.Row<T>> index,
+                                       ToDoubleFunction<Employee<T>> sortKey) {
+        return new IndexOrderIterator(index.descendingEntries(), sortKey);
+    }
+
+    // Merges a walk of a live sort index with the before-images of the employees written since the view was opened
+    // A before-image is always recorded before the write moves or removes the employee's index entry, so by the
+    // time the walk has gone past the entry's old place its before-image can be read from the journal.
+    // Before-images recorded after the walk went past their place belong to employees the walk already gave.
+    private final class IndexOrderIterator implements Iterator<Employee<T>> {
+        private final Iterator<DoubleRangeIndex.Entry<EmployeeDatabase.Row<T>>> entries;
+        private final ToDoubleFunction<Employee<T>> sortKey;
+        private final PriorityQueue<VersionStore.Version<T>> pending; // before-images not given yet, in index order
+        private final Set<T> journaled = new HashSet<>(); // IDs whose state as of the view has been read
+        private VersionStore.Recorded<T> journal = versions.journal();
+        private DoubleRangeIndex.Entry<EmployeeDatabase.Row<T>> held; // next entry of the walk
+        private double lastValue = Double.POSITIVE_INFINITY; // place of the last employee given
+        private int lastRow = Integer.MAX_VALUE;
+        private Employee<T> next;
+
+        IndexOrderIterator(Iterator<DoubleRangeIndex.Entry<EmployeeDatabase.Row<T>>> entries,
+                           ToDoubleFunction<Employee<T>> sortKey) {
+            this.entries = entries;
+            this.sortKey = sortKey;
+            Comparator<VersionStore.Version<T>> byValue =
+                    Comparator.comparingDouble(version -> sortKey.applyAsDouble(version.before()));
+            this.pending = new PriorityQueue<>(byValue.thenComparingInt(VersionStore.Version::row).reversed());
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Employee<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Employee<T> employee = next;
+            next = null;
+            return employee;
+        }
+
+        // Gets the next employee in index order as of the view, null at the end
+        private Employee<T> advance() {
+            while (true) {
+                if (held == null && entries.hasNext()) {
+                    held = entries.next();
+                }
+                readJournal();
+                VersionStore.Version<T> written = pending.peek();
+                if (written != null && (held == null
+                        || comesBefore(sortKey.applyAsDouble(written.before()), written.row(), held.value(), held.row()))) {
+                    pending.poll();
+                    return given(sortKey.applyAsDouble(written.before()), written.row(), written.before());
+                }
+                if (held == null) {
+                    return null;
+                }
+                DoubleRangeIndex.Entry<EmployeeDatabase.Row<T>> entry = held;
+                held = null;
+                Employee<T> current = entry.element().employee();
+                // checked after reading: a write that began meanwhile recorded the old record first
+                if (versions.at(current.employeeId(), version) == null) {
+                    return given(entry.value(), entry.row(), current);
+                }
+            }
+        }
+
+        // Queues the before-images recorded since the last look that hold an employee's state as of the view
+        // (the first one recorded after the view for each ID; those of employees added since are null)
+        private void readJournal() {
+            VersionStore.Recorded<T> recorded;
+            while ((recorded = journal.next()) != null) {
+                journal = recorded;
+                VersionStore.Version<T> written = recorded.version();
+                if (written.version() > version && journaled.add(recorded.employeeId()) && written.before() != null
+                        && comesBefore(lastValue, lastRow, sortKey.applyAsDouble(written.before()), written.row())) {
+                    pending.add(written); // behind the last one given: the walk passed it after the write
+                }
+            }
+        }
+
+        private Employee<T> given(double value, int row, Employee<T> employee) {
+            lastValue = value;
+            lastRow = row;
+            return employee;
+        }
+
+        // Checks whether (value, row) comes before (otherValue, otherRow) in descending index order
+        private static boolean comesBefore(double value, int row, double otherValue, int otherRow) {
+            int byValue = Double.compare(value, otherValue);
+            return byValue != 0 ? byValue > 0 : row > otherRow;
+        }
+    }
+
+    //Closes the view, letting writers drop the before-images kept for it
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            versions.close(version);
+        }
+    }
+}
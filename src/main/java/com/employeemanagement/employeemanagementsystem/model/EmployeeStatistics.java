@@ -0,0 +1,116 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Aggregate figures of a set of employees, computed in a single pass
+ * Overall totals plus a breakdown per department (departments without employees are left out).
+ * Built with an Accumulator, either fed one employee at a time or used as a Collector;
+ * accumulators combine, so parallel streams split the work without changing the result.
+ * @param count number of employees
+ * @param activeCount number of active employees
+ * @param salary salary figures
+ * @param rating performance rating figures
+ * @param departments figures per department
+ */
+public record EmployeeStatistics(long count, long activeCount, Summary salary, Summary rating,
+                                 Map<EEmployeeDepartment, DepartmentStatistics> departments) {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    /**
+     * Count, sum, minimum and maximum of one attribute (minimum and maximum are 0 when count is 0)
+     */
+    public record Summary(long count, double sum, double min, double max) {
+
+        public double average() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        private static Summary of(DoubleSummaryStatistics values) {
+            return values.getCount() == 0
+                    ? new Summary(0, 0, 0, 0)
+                    : new Summary(values.getCount(), values.getSum(), values.getMin(), values.getMax());
+        }
+    }
+
+    /**
+     * Figures of one department
+     */
+    public record DepartmentStatistics(EEmployeeDepartment department, long count, long activeCount,
+                                       Summary salary, Summary rating) {
+    }
+
+    //Gets the share of active employees among all employees, in percent
+    public double activePercentage() {
+        return count == 0 ? 0 : activeCount * 100.0 / count;
+    }
+
+    //Collects the statistics of a stream of employees (sequential or parallel)
+    public static <T> Collector<Employee<T>, Accumulator, EmployeeStatistics> collector() {
+        return Collector.of(Accumulator::new, Accumulator::add, Accumulator::combine, Accumulator::result,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Mutable running totals, kept per department and summed into the overall figures at the end
+     */
+    public static final class Accumulator {
+
+        private final long[] active = new long[DEPARTMENTS.length];
+        private final DoubleSummaryStatistics[] salaries = new DoubleSummaryStatistics[DEPARTMENTS.length];
+        private final DoubleSummaryStatistics[] ratings = new DoubleSummaryStatistics[DEPARTMENTS.length];
+
+        public Accumulator() {
+            for (int i = 0; i < DEPARTMENTS.length; i++) {
+                salaries[i] = new DoubleSummaryStatistics();
+                ratings[i] = new DoubleSummaryStatistics();
+            }
+        }
+
+        //Adds one employee
+        public void add(Employee<?> employee) {
+            int department = employee.employeeDepartment().ordinal();
+            salaries[department].accept(employee.employeeSalary());
+            ratings[department].accept(employee.performanceRating());
+            if (employee.isActive()) {
+                active[department]++;
+            }
+        }
+
+        //Adds the employees of another accumulator (returns this one)
+        public Accumulator combine(Accumulator other) {
+            for (int i = 0; i < DEPARTMENTS.length; i++) {
+                active[i] += other.active[i];
+                salaries[i].combine(other.salaries[i]);
+                ratings[i].combine(other.ratings[i]);
+            }
+            return this;
+        }
+
+        //Builds the statistics of the employees added so far
+        public EmployeeStatistics result() {
+            DoubleSummaryStatistics salary = new DoubleSummaryStatistics();
+            DoubleSummaryStatistics rating = new DoubleSummaryStatistics();
+            long activeCount = 0;
+            Map<EEmployeeDepartment, DepartmentStatistics> departments = new EnumMap<>(EEmployeeDepartment.class);
+            for (int i = 0; i < DEPARTMENTS.length; i++) {
+                long count = salaries[i].getCount();
+                if (count == 0) {
+                    continue;
+                }
+                departments.put(DEPARTMENTS[i], new DepartmentStatistics(DEPARTMENTS[i], count, active[i],
+                        Summary.of(salaries[i]), Summary.of(ratings[i])));
+                salary.combine(salaries[i]);
+                rating.combine(ratings[i]);
+                activeCount += active[i];
+            }
+            return new EmployeeStatistics(salary.getCount(), activeCount, Summary.of(salary), Summary.of(rating),
+                    Collections.unmodifiableMap(departments));
+        }
+    }
+}
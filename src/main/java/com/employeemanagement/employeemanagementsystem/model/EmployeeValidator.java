@@ -0,0 +1,62 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import java.util.Arrays;
+
+/**
+ * Field rules every new or updated employee must satisfy
+ * Shared by the employee form and the bulk importer so both accept exactly the same data
+ */
+public final class EmployeeValidator {
+
+    public static final double MIN_RATING = 0;
+    public static final double MAX_RATING = 5;
+
+    private EmployeeValidator() {
+    }
+
+    //Checks the fields, returning a message for the first problem found or null when they are valid
+    public static String validate(String name, String department, double rating) {
+        if (name == null || name.isBlank()) {
+            return "Name is required";
+        }
+        if (parseDepartment(department) == null) {
+            return "Department must be one of " + Arrays.toString(EEmployeeDepartment.values());
+        }
+        if (Double.isNaN(rating) || rating < MIN_RATING || rating > MAX_RATING) {
+            return "Rating must be between 0 and 5";
+        }
+        return null;
+    }
+
+    //Checks a whole record (a new employee or the result of an update), returning a message for the first
+    //problem or null; an unknown department is a null one
+    public static String validate(Employee<?> employee) {
+        EEmployeeDepartment department = employee.employeeDepartment();
+        String problem = validate(employee.employeeName(), department == null ? null : department.name(),
+                employee.performanceRating());
+        if (problem != null) {
+            return problem;
+        }
+        if (!Double.isFinite(employee.employeeSalary()) || employee.employeeSalary() < 0) {
+            return "Salary must be a non-negative number";
+        }
+        if (employee.yearsOfExperience() < 0) {
+            return "Years of experience must not be negative";
+        }
+        return null;
+    }
+
+    //Resolves a department name case-insensitively, null when it is unknown
+    public static EEmployeeDepartment parseDepartment(String department) {
+        if (department == null) {
+            return null;
+        }
+        String trimmed = department.trim();
+        for (EEmployeeDepartment candidate : EEmployeeDepartment.values()) {
+            if (candidate.name().equalsIgnoreCase(trimmed)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
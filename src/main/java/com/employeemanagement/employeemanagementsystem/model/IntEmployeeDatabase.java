@@ -0,0 +1,107 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.model.persistence.MutationLog;
+import com.employeemanagement.employeemanagementsystem.model.storage.ConcurrentIntMap;
+import com.employeemanagement.employeemanagementsystem.model.storage.StorageMode;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * EmployeeDatabase for Integer employee IDs, stored in a ConcurrentIntMap instead of a ConcurrentHashMap
+ * The int-keyed map needs no hash node per employee, and the int overloads of getEmployee and
+ * deleteEmployee look IDs up without boxing them. addEmployee already takes the ID from the employee,
+ * so it does not box either. Everything else behaves exactly like EmployeeDatabase<Integer>.
+ * New IDs come from an EmployeeIdAllocator that sees every stored ID, so they never collide.
+ */
+public class IntEmployeeDatabase extends EmployeeDatabase<Integer> {
+
+    private final ConcurrentIntMap<Row<Integer>> ids;
+    private final EmployeeIdAllocator idAllocator = new EmployeeIdAllocator();
+
+    //constructor
+    public IntEmployeeDatabase() {
+        this(StorageMode.OBJECT);
+    }
+
+    //constructor with an explicit storage mode
+    public IntEmployeeDatabase(StorageMode storageMode) {
+        this(storageMode, new ConcurrentIntMap<>());
+    }
+
+    private IntEmployeeDatabase(StorageMode storageMode, ConcurrentIntMap<Row<Integer>> ids) {
+        super(storageMode, ids);
+        this.ids = ids;
+    }
+
+    //Create (the ID moves the ID sequence past it, whether or not it is taken)
+    @Override
+    public boolean addEmployee(Employee<Integer> employee) {
+        idAllocator.observe(employee.employeeId());
+        return super.addEmployee(employee);
+    }
+
+    @Override
+    public List<Employee<Integer>> addEmployees(Collection<Employee<Integer>> batch) {
+        for (Employee<Integer> employee : batch) {
+            idAllocator.observe(employee.employeeId());
+        }
+        return super.addEmployees(batch);
+    }
+
+    // ID allocation
+
+    //Gets a fresh employee ID that no stored or previously allocated employee has
+    public int allocateId() {
+        return idAllocator.allocate();
+    }
+
+    //Gets a block of consecutive fresh IDs, e.g. for a bulk import
+    public EmployeeIdAllocator.IdBlock allocateIds(int count) {
+        return idAllocator.allocateBlock(count);
+    }
+
+    //Saves ID reservations from now on, so allocation resumes past every handed-out ID after a restart
+    //(attach after restoring the database)
+    public void setIdReservations(EmployeeIdAllocator.ReservationStore store) throws IOException {
+        idAllocator.attach(store);
+    }
+
+    //Retrieve employee by employeeId
+    public Employee<Integer> getEmployee(int employeeId) {
+        Row<Integer> row = ids.get(employeeId);
+        return row == null ? null : row.employee();
+    }
+
+    //Checks whether an employee ID is taken
+    public boolean containsEmployee(int employeeId) {
+        return ids.containsKey(employeeId);
+    }
+
+    //Delete
+    public boolean deleteEmployee(int employeeId) {
+        MutationLog<Integer> log = mutationLog();
+        PendingChanges<Integer> events = pendingChanges();
+        long ticket;
+        int stripe = stripeForHash(employeeId); // Integer.hashCode is the value, so the boxed path agrees
+        long version = beginWrite(stripe);
+        try {
+            Row<Integer> row = ids.get(employeeId);
+            if (row == null) {
+                return false; // Employee not found
+            }
+            ticket = removeRow(row, version, log, events);
+        } finally {
+            endWrite(stripe);
+            events.publish();
+        }
+        awaitDurable(log, ticket);
+        return true;
+    }
+
+    //Estimates the heap held by the ID map, in bytes (the employees themselves excluded)
+    public long idMapBytes() {
+        return ids.sizeInBytes();
+    }
+}
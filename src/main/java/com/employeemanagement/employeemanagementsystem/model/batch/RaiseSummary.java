@@ -0,0 +1,66 @@
+package com.employeemanagement.employeemanagementsystem.model.batch;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk salary update (or of its dry run)
+ * @param count number of employees whose salary changed (or would change)
+ * @param costDelta total change of the salary bill
+ * @param departments figures per department (departments without changes are left out)
+ * @param dryRun true when nothing was applied
+ */
+public record RaiseSummary(int count, double costDelta, Map<EEmployeeDepartment, DepartmentCost> departments,
+                           boolean dryRun) {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    /**
+     * Changes in one department
+     */
+    public record DepartmentCost(EEmployeeDepartment department, int count, double costDelta) {
+    }
+
+    /**
+     * Mutable running totals per department; accumulators of parallel partitions combine
+     */
+    public static final class Accumulator {
+
+        private final int[] counts = new int[DEPARTMENTS.length];
+        private final double[] costs = new double[DEPARTMENTS.length];
+
+        //Adds one salary change
+        public void add(EEmployeeDepartment department, double oldSalary, double newSalary) {
+            counts[department.ordinal()]++;
+            costs[department.ordinal()] += newSalary - oldSalary;
+        }
+
+        //Adds the changes of another accumulator (returns this one)
+        public Accumulator combine(Accumulator other) {
+            for (int i = 0; i < DEPARTMENTS.length; i++) {
+                counts[i] += other.counts[i];
+                costs[i] += other.costs[i];
+            }
+            return this;
+        }
+
+        //Builds the summary of the changes added so far
+        public RaiseSummary result(boolean dryRun) {
+            int count = 0;
+            double costDelta = 0;
+            Map<EEmployeeDepartment, DepartmentCost> departments = new EnumMap<>(EEmployeeDepartment.class);
+            for (int i = 0; i < DEPARTMENTS.length; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                departments.put(DEPARTMENTS[i], new DepartmentCost(DEPARTMENTS[i], counts[i], costs[i]));
+                count += counts[i];
+                costDelta += costs[i];
+            }
+            return new RaiseSummary(count, costDelta, Collections.unmodifiableMap(departments), dryRun);
+        }
+    }
+}
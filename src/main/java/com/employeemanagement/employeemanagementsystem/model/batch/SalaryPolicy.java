@@ -0,0 +1,83 @@
+package com.employeemanagement.employeemanagementsystem.model.batch;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Rule of a bulk salary update: which employees it applies to and what their new salary is
+ * Both methods may be called from several ForkJoinPool threads at once and must not modify the employee.
+ * @param <T> Type of the employee ID
+ */
+public interface SalaryPolicy<T> {
+
+    // Threshold and raise of the classic "high performer" raise
+    double HIGH_PERFORMER_RATING = 3.5;
+    double HIGH_PERFORMER_RAISE_PERCENT = 2.0;
+
+    //Checks whether the policy changes the employee's salary
+    boolean appliesTo(Employee<T> employee);
+
+    //Gets the new salary of an employee the policy applies to
+    double newSalary(Employee<T> employee);
+
+    /**
+     * One step of a tiered raise: employees with at least the rating and experience get the raise
+     */
+    record RaiseTier(double minRating, int minExperience, double percent) {
+    }
+
+    //Builds a policy from a predicate and a salary function
+    static <T> SalaryPolicy<T> of(Predicate<? super Employee<T>> filter, ToDoubleFunction<? super Employee<T>> salary) {
+        return new SalaryPolicy<>() {
+            @Override
+            public boolean appliesTo(Employee<T> employee) {
+                return filter.test(employee);
+            }
+
+            @Override
+            public double newSalary(Employee<T> employee) {
+                return salary.applyAsDouble(employee);
+            }
+        };
+    }
+
+    //Raises the salary of every employee rated at least minRating by a percentage
+    static <T> SalaryPolicy<T> percentRaise(double minRating, double percent) {
+        return of(employee -> employee.performanceRating() >= minRating,
+                employee -> employee.employeeSalary() * (1 + percent / 100));
+    }
+
+    //The raise of the "Give Raise" button: 2% for ratings of 3.5 and above
+    static <T> SalaryPolicy<T> highPerformerRaise() {
+        return percentRaise(HIGH_PERFORMER_RATING, HIGH_PERFORMER_RAISE_PERCENT);
+    }
+
+    //Raises salaries by the first tier (in the given order) each employee qualifies for; others are left alone
+    static <T> SalaryPolicy<T> tiered(List<RaiseTier> tiers) {
+        RaiseTier[] ordered = tiers.toArray(new RaiseTier[0]);
+        return new SalaryPolicy<>() {
+            @Override
+            public boolean appliesTo(Employee<T> employee) {
+                return tierOf(employee) != null;
+            }
+
+            @Override
+            public double newSalary(Employee<T> employee) {
+                return employee.employeeSalary() * (1 + tierOf(employee).percent() / 100);
+            }
+
+            private RaiseTier tierOf(Employee<T> employee) {
+                for (RaiseTier tier : ordered) {
+                    if (employee.performanceRating() >= tier.minRating()
+                            && employee.yearsOfExperience() >= tier.minExperience()) {
+                        return tier;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+}
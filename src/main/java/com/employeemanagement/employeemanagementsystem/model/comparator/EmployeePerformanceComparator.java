@@ -12,7 +12,7 @@ public class EmployeePerformanceComparator<T> implements Comparator<Employee<T>>
     @Override
     public int compare(Employee<T> employee1, Employee<T> employee2) {
         // Comparing in reverse order (highest rating first)
-        return Double.compare(employee2.getPerformanceRating(), employee1.getPerformanceRating());
+        return Double.compare(employee2.performanceRating(), employee1.performanceRating());
 
     }
 }
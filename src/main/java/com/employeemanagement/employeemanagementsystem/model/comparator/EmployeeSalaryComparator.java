@@ -12,6 +12,6 @@ public class EmployeeSalaryComparator<T> implements Comparator<Employee<T>> {
     @Override
     public int compare(Employee<T> employee1, Employee<T> employee2) {
         // Comparing in reverse order (highest first)
-        return Double.compare(employee2.getEmployeeSalary(), employee1.getEmployeeSalary());
+        return Double.compare(employee2.employeeSalary(), employee1.employeeSalary());
     }
 }
@@ -0,0 +1,18 @@
+package com.employeemanagement.employeemanagementsystem.model.events;
+
+import java.util.List;
+
+/**
+ * Receives the changes of an EmployeeDatabase in batches, on the subscription's own thread
+ * A listener must return reasonably quickly and must not write to the database: a writer waits for
+ * room in the change buffer before its write returns.
+ * Subscribers only observe: the indexes, aggregates and log are updated by the writer itself, because
+ * a write must be indexed and logged by the time it returns.
+ * @param <T> Type of the employee ID
+ */
+@FunctionalInterface
+public interface ChangeListener<T> {
+
+    //Handles the next changes, oldest first (the list is the listener's to keep)
+    void onChanges(List<EmployeeChange<T>> changes);
+}
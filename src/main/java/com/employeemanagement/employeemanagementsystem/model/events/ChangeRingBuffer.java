@@ -0,0 +1,193 @@
+package com.employeemanagement.employeemanagementsystem.model.events;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free broadcast buffer: every subscriber sees every event published after it subscribed
+ * A producer claims a sequence number with one fetch-and-add, stores the event in the sequence's slot
+ * and marks the slot with the sequence (release store); producers never lock or wait for each other.
+ * Each subscriber has its own thread and cursor: it takes every consecutive marked slot at once (up to
+ * a batch size), hands the batch to its listener and then moves its cursor, which frees the slots.
+ * When the slowest subscriber is a full ring behind, producers wait for it, so no event is ever lost.
+ * An idle subscriber spins briefly, then parks until a producer publishes the event it waits for.
+ * @param <E> Type of the events
+ */
+public class ChangeRingBuffer<E> {
+
+    private static final VarHandle MARK = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int IDLE_SPINS = 100; // empty polls before a subscriber parks
+
+    private final Object[] slots;
+    private final long[] marks; // sequence last published in each slot
+    private final int mask;
+    private final int maxBatch;
+    private final AtomicLong next = new AtomicLong(); // next sequence to claim
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>(); // read only when the ring looks full
+    private volatile long gate = Long.MIN_VALUE; // lowest subscriber cursor last seen by a producer
+    private final AtomicInteger parked = new AtomicInteger(); // subscribers parked until the next publish
+
+    /**
+     * Handle of one subscriber; closing it stops its thread (events not yet taken are dropped)
+     */
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    //constructor, capacity is rounded up to a power of two
+    public ChangeRingBuffer(int capacity, int maxBatch) {
+        if (capacity <= 0 || maxBatch <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        slots = new Object[Math.max(size, 2)];
+        marks = new long[slots.length];
+        Arrays.fill(marks, -1);
+        mask = slots.length - 1;
+        this.maxBatch = maxBatch;
+    }
+
+    //Publishes an event to every current subscriber, waiting only while the ring is full
+    public void publish(E event) {
+        publish(next.getAndIncrement(), event);
+    }
+
+    //Claims the sequences of a run of events, to be published later with publish(sequence, event)
+    //Claiming never waits, so it can be done under a lock to fix the events' order, and the publishing
+    //(which may wait for subscribers) after it is released. Subscribers stop at the first claimed sequence
+    //not published yet, so every claimed sequence must be published.
+    public long claim(int count) {
+        return next.getAndAdd(count);
+    }
+
+    //Publishes an event under a sequence obtained from claim
+    public void publish(long sequence, E event) {
+        long wrap = sequence - slots.length; // the slot still holds this sequence until it is consumed
+        if (wrap >= gate) {
+            awaitSubscribers(wrap);
+        }
+        int slot = (int) sequence & mask;
+        slots[slot] = event;
+        // a volatile store, so either this producer sees a subscriber that is about to park,
+        // or that subscriber sees the mark on its last check
+        MARK.setVolatile(marks, slot, sequence);
+        if (parked.get() > 0) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.wake();
+            }
+        }
+    }
+
+    // Waits until every subscriber has consumed the given sequence
+    // With no subscriber the gate only moves past this sequence: one subscribing later starts at the next
+    // sequence to claim, so the gate must not jump ahead to where it would never check that subscriber
+    private void awaitSubscribers(long sequence) {
+        long lowest;
+        while ((lowest = lowestCursor()) <= sequence) {
+            LockSupport.parkNanos(1_000);
+        }
+        gate = lowest == Long.MAX_VALUE ? sequence + 1 : lowest;
+    }
+
+    private long lowestCursor() {
+        long lowest = Long.MAX_VALUE;
+        for (Subscriber subscriber : subscribers) {
+            lowest = Math.min(lowest, subscriber.cursor);
+        }
+        return lowest;
+    }
+
+    //Starts a subscriber thread that passes the events published from now on to the listener, in batches
+    public synchronized Subscription subscribe(String name, Consumer<List<E>> listener) {
+        Subscriber subscriber = new Subscriber(next.get(), listener);
+        subscribers.add(subscriber);
+        Thread.ofPlatform().name("employee-changes-" + name).daemon().start(subscriber);
+        return subscriber;
+    }
+
+    // One subscriber: its cursor is the next sequence it will read, every sequence below it is consumed
+    private final class Subscriber implements Subscription, Runnable {
+        private final Consumer<List<E>> listener;
+        private volatile long cursor;
+        private volatile boolean running = true;
+        private volatile boolean waiting;
+        private volatile Thread thread;
+
+        Subscriber(long start, Consumer<List<E>> listener) {
+            this.cursor = start;
+            this.listener = listener;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            thread = Thread.currentThread();
+            int idle = 0;
+            while (running) {
+                long sequence = cursor;
+                List<E> batch = new ArrayList<>();
+                while (batch.size() < maxBatch && (long) MARK.getAcquire(marks, (int) sequence & mask) == sequence) {
+                    batch.add((E) slots[(int) sequence & mask]);
+                    sequence++;
+                }
+                if (batch.isEmpty()) {
+                    if (++idle < IDLE_SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        awaitPublished(sequence);
+                    }
+                    continue;
+                }
+                idle = 0;
+                try {
+                    listener.accept(batch);
+                } catch (RuntimeException e) {
+                    System.err.println("Change listener " + thread.getName() + " failed: " + e);
+                }
+                cursor = sequence; // frees the slots for producers
+            }
+        }
+
+        // Parks until the given sequence is published or the subscription is closed
+        private void awaitPublished(long sequence) {
+            int slot = (int) sequence & mask;
+            waiting = true;
+            parked.incrementAndGet();
+            try {
+                while (running && (long) MARK.getVolatile(marks, slot) != sequence) {
+                    LockSupport.park(this);
+                }
+            } finally {
+                parked.decrementAndGet();
+                waiting = false;
+            }
+        }
+
+        // Unparks the subscriber if it waits for an event
+        private void wake() {
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void close() {
+            subscribers.remove(this);
+            running = false;
+            Thread current = thread;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.employeemanagement.employeemanagementsystem.model.events;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeField;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One mutation of an EmployeeDatabase, as published to its change subscribers
+ * Changes of one employee are published in the order they were made (under the employee's write lock).
+ * Employees are immutable records, so a subscriber sees each exactly as it was at the change.
+ * @param <T> Type of the employee ID
+ */
+public sealed interface EmployeeChange<T> {
+
+    //Gets the IDs of the employees the change concerns
+    List<T> employeeIds();
+
+    /**
+     * An employee was added
+     */
+    record Added<T>(Employee<T> employee) implements EmployeeChange<T> {
+        @Override
+        public List<T> employeeIds() {
+            return List.of(employee.employeeId());
+        }
+    }
+
+    /**
+     * A batch of employees was added at once (e.g. by an import), in batch order
+     */
+    record AddedAll<T>(List<Employee<T>> employees) implements EmployeeChange<T> {
+        @Override
+        public List<T> employeeIds() {
+            List<T> ids = new ArrayList<>(employees.size());
+            for (Employee<T> employee : employees) {
+                ids.add(employee.employeeId());
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * One field of an employee changed (values are boxed as in EmployeePatch.get)
+     */
+    record FieldUpdated<T>(T employeeId, EEmployeeField field, Object oldValue, Object newValue)
+            implements EmployeeChange<T> {
+        @Override
+        public List<T> employeeIds() {
+            return List.of(employeeId);
+        }
+    }
+
+    /**
+     * An employee was deleted
+     */
+    record Deleted<T>(Employee<T> employee) implements EmployeeChange<T> {
+        @Override
+        public List<T> employeeIds() {
+            return List.of(employee.employeeId());
+        }
+    }
+}
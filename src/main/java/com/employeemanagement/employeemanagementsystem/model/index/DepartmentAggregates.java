@@ -0,0 +1,148 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+/**
+ * Running totals per department: headcount, active count, salary sum, salary sum of squares and rating sum
+ * Every add, remove and field change adjusts the totals in O(1), so averages, variance and headcount
+ * are answered in constant time without touching a single employee.
+ * Each department's totals are guarded by their own monitor: writers to different departments never
+ * contend, and a reader always sees a count and sums that belong together.
+ */
+public class DepartmentAggregates {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    private final Totals[] totals = new Totals[DEPARTMENTS.length];
+
+    /**
+     * Consistent copy of one department's totals
+     */
+    public record DepartmentAggregate(EEmployeeDepartment department, int headcount, int activeCount,
+                                      double salarySum, double salarySumOfSquares, double ratingSum) {
+
+        public double averageSalary() {
+            return headcount == 0 ? 0 : salarySum / headcount;
+        }
+
+        //Population variance of the salaries
+        public double salaryVariance() {
+            if (headcount == 0) {
+                return 0;
+            }
+            double mean = salarySum / headcount;
+            return Math.max(0, salarySumOfSquares / headcount - mean * mean); // rounding can dip below zero
+        }
+
+        public double salaryStandardDeviation() {
+            return Math.sqrt(salaryVariance());
+        }
+
+        public double averageRating() {
+            return headcount == 0 ? 0 : ratingSum / headcount;
+        }
+    }
+
+    // Mutable totals of one department (guarded by the instance's monitor)
+    private static final class Totals {
+        int headcount;
+        int activeCount;
+        double salarySum;
+        double salarySumOfSquares;
+        double ratingSum;
+    }
+
+    //constructor
+    public DepartmentAggregates() {
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = new Totals();
+        }
+    }
+
+    //Counts an employee into a department
+    public void add(EEmployeeDepartment department, double salary, double rating, boolean active) {
+        Totals t = totals[department.ordinal()];
+        synchronized (t) {
+            t.headcount++;
+            t.activeCount += active ? 1 : 0;
+            t.salarySum += salary;
+            t.salarySumOfSquares += salary * salary;
+            t.ratingSum += rating;
+        }
+    }
+
+    //Takes an employee out of a department
+    public void remove(EEmployeeDepartment department, double salary, double rating, boolean active) {
+        Totals t = totals[department.ordinal()];
+        synchronized (t) {
+            t.headcount--;
+            t.activeCount -= active ? 1 : 0;
+            if (t.headcount == 0) {
+                // start the sums afresh so rounding error cannot outlive the employees
+                t.salarySum = 0;
+                t.salarySumOfSquares = 0;
+                t.ratingSum = 0;
+            } else {
+                t.salarySum -= salary;
+                t.salarySumOfSquares -= salary * salary;
+                t.ratingSum -= rating;
+            }
+        }
+    }
+
+    //Moves an employee between departments
+    public void move(EEmployeeDepartment from, EEmployeeDepartment to, double salary, double rating, boolean active) {
+        if (from != to) {
+            remove(from, salary, rating, active);
+            add(to, salary, rating, active);
+        }
+    }
+
+    //Records a salary change
+    public void changeSalary(EEmployeeDepartment department, double oldSalary, double newSalary) {
+        Totals t = totals[department.ordinal()];
+        synchronized (t) {
+            t.salarySum += newSalary - oldSalary;
+            t.salarySumOfSquares += newSalary * newSalary - oldSalary * oldSalary;
+        }
+    }
+
+    //Records a rating change
+    public void changeRating(EEmployeeDepartment department, double oldRating, double newRating) {
+        Totals t = totals[department.ordinal()];
+        synchronized (t) {
+            t.ratingSum += newRating - oldRating;
+        }
+    }
+
+    //Records an active flag change
+    public void changeActive(EEmployeeDepartment department, boolean oldActive, boolean newActive) {
+        if (oldActive == newActive) {
+            return;
+        }
+        Totals t = totals[department.ordinal()];
+        synchronized (t) {
+            t.activeCount += newActive ? 1 : -1;
+        }
+    }
+
+    //Gets a consistent copy of a department's totals
+    public DepartmentAggregate get(EEmployeeDepartment department) {
+        Totals t = totals[department.ordinal()];
+        synchronized (t) {
+            return new DepartmentAggregate(department, t.headcount, t.activeCount,
+                    t.salarySum, t.salarySumOfSquares, t.ratingSum);
+        }
+    }
+
+    //Gets the number of active employees over all departments
+    public int activeCount() {
+        int active = 0;
+        for (Totals t : totals) {
+            synchronized (t) {
+                active += t.activeCount;
+            }
+        }
+        return active;
+    }
+}
@@ -0,0 +1,125 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted secondary index over a numeric attribute (salary, performance rating, experience)
+ * Entries are keyed by (value, row) so employees sharing the same value stay distinct
+ * Range lookups and walks run in O(log n + k) on a skip list and never block writers
+ * The index doubles as a maintained "highest first" sort order: an order-statistic tree over the same keys
+ * gives positions and range counts in O(log n) and any page in O(log n + k), however deep and however often
+ * the order changes
+ * @param <E> Type of the indexed element
+ */
+public class DoubleRangeIndex<E> {
+
+    private final ConcurrentSkipListMap<Key, E> entries = new ConcurrentSkipListMap<>();
+    private final OrderStatisticTree<E> positions = new OrderStatisticTree<>();
+
+    // Composite key: attribute value first, internal row number as tie-breaker
+    private record Key(double value, int row) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byValue = Double.compare(value, other.value);
+            return byValue != 0 ? byValue : Integer.compare(row, other.row);
+        }
+    }
+
+    /**
+     * An indexed element with the value and row it is indexed under
+     */
+    public record Entry<E>(double value, int row, E element) {
+    }
+
+    //Adds an element under the given value
+    public void add(double value, int row, E element) {
+        entries.put(new Key(value, row), element);
+        positions.add(value, row, element);
+    }
+
+    //Removes the element previously added under the given value
+    public void remove(double value, int row) {
+        if (entries.remove(new Key(value, row)) != null) {
+            positions.remove(value, row);
+        }
+    }
+
+    //Moves an element from its old value to its new value
+    public void move(double oldValue, double newValue, int row, E element) {
+        if (Double.compare(oldValue, newValue) == 0) {
+            return;
+        }
+        remove(oldValue, row);
+        add(newValue, row, element);
+    }
+
+    //Gets all elements with a value in [min, max], in ascending value order
+    public List<E> range(double min, double max) {
+        if (Double.compare(min, max) > 0) {
+            return new ArrayList<>();
+        }
+        NavigableMap<Key, E> window = entries.subMap(
+                new Key(min, Integer.MIN_VALUE), true,
+                new Key(max, Integer.MAX_VALUE), true);
+        return new ArrayList<>(window.values());
+    }
+
+    //Counts the elements with a value in [min, max] in O(log n), capped at cap
+    public int count(double min, double max, int cap) {
+        if (Double.compare(min, max) > 0) {
+            return 0;
+        }
+        return Math.min(positions.count(min, max), cap);
+    }
+
+    //Gets all elements with a value greater than or equal to min, in ascending value order
+    public List<E> atLeast(double min) {
+        return new ArrayList<>(entries.tailMap(new Key(min, Integer.MIN_VALUE), true).values());
+    }
+
+    //Gets all elements, highest value first
+    public List<E> descending() {
+        return new ArrayList<>(entries.descendingMap().values());
+    }
+
+    //Iterates the entries highest first, straight from the index: nothing is copied, and changes made
+    //meanwhile may or may not show (an entry present throughout the walk is always returned, and only once)
+    public Iterator<Entry<E>> descendingEntries() {
+        Iterator<Map.Entry<Key, E>> walk = entries.descendingMap().entrySet().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return walk.hasNext();
+            }
+
+            @Override
+            public Entry<E> next() {
+                Map.Entry<Key, E> entry = walk.next();
+                return new Entry<>(entry.getKey().value(), entry.getKey().row(), entry.getValue());
+            }
+        };
+    }
+
+    //Gets the position of an element in the descending order, -1 when it is not indexed under that value
+    public int descendingPosition(double value, int row) {
+        return positions.descendingPosition(value, row);
+    }
+
+    //Gets one page of the descending order (e.g. offset 5000, limit 100)
+    public List<E> descendingPage(int offset, int limit) {
+        int count = Math.max(limit, 0);
+        List<E> page = new ArrayList<>(Math.min(count, 1024));
+        positions.descendingPage(Math.max(offset, 0), count, page);
+        return page;
+    }
+
+    //Gets the number of indexed elements (O(1): the map keeps a running count)
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,137 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram index over normalized (lower-cased) names for case-insensitive "contains" searches
+ * Each name is split into overlapping three-character grams and the element is added to the
+ * posting set of every gram. A query intersects the posting sets of its own grams, starting
+ * from the smallest, and only the surviving candidates are checked with String.contains
+ * @param <E> Type of the indexed element
+ */
+public class NameTrigramIndex<E> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<E>> postings = new ConcurrentHashMap<>();
+    private final Map<E, String> normalizedNames = new ConcurrentHashMap<>();
+
+    //Adds an element under the given name
+    public void add(E element, String name) {
+        String normalized = normalize(name);
+        normalizedNames.put(element, normalized);
+        for (long gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(element);
+        }
+    }
+
+    //Removes an element and all of its grams
+    public void remove(E element) {
+        String normalized = normalizedNames.remove(element);
+        if (normalized == null) {
+            return;
+        }
+        for (long gram : grams(normalized)) {
+            Set<E> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(element);
+            }
+        }
+    }
+
+    //Re-indexes an element after its name changed
+    public void rename(E element, String newName) {
+        remove(element);
+        add(element, newName);
+    }
+
+    //Finds the elements whose name contains the search term (case-insensitive)
+    public List<E> search(String searchTerm) {
+        String term = normalize(searchTerm);
+
+        // Terms shorter than a gram cannot use the postings, so check the stored names directly
+        if (term.length() < GRAM_LENGTH) {
+            List<E> matches = new ArrayList<>();
+            normalizedNames.forEach((element, name) -> {
+                if (name.contains(term)) {
+                    matches.add(element);
+                }
+            });
+            return matches;
+        }
+
+        // Collect the posting set of every gram in the term, smallest first
+        List<Set<E>> sets = new ArrayList<>();
+        for (long gram : grams(term)) {
+            Set<E> posting = postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return new ArrayList<>(); // some gram never occurs, so nothing can match
+            }
+            sets.add(posting);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+
+        List<E> matches = new ArrayList<>();
+        Set<E> smallest = sets.get(0);
+        for (E candidate : smallest) {
+            if (containsAll(sets, candidate)) {
+                // sharing every gram does not guarantee a contiguous match, so verify
+                String name = normalizedNames.get(candidate);
+                if (name != null && name.contains(term)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    //Gets an upper bound on the number of matches of a search term without running it (smallest posting set)
+    public int estimate(String searchTerm) {
+        String term = normalize(searchTerm);
+        if (term.length() < GRAM_LENGTH) {
+            return normalizedNames.size();
+        }
+        int smallest = Integer.MAX_VALUE;
+        for (long gram : grams(term)) {
+            Set<E> posting = postings.get(gram);
+            if (posting == null) {
+                return 0;
+            }
+            smallest = Math.min(smallest, posting.size());
+        }
+        return smallest;
+    }
+
+    //Gets the number of indexed elements
+    public int size() {
+        return normalizedNames.size();
+    }
+
+    // Checks that the candidate is present in every posting set after the first
+    private boolean containsAll(List<Set<E>> sets, E candidate) {
+        for (int i = 1; i < sets.size(); i++) {
+            if (!sets.get(i).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Lower-cases a name the same way for indexing and searching
+    private static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    // Packs every distinct three-character window of the text into a long (16 bits per char)
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            long gram = ((long) text.charAt(i) << 32)
+                    | ((long) text.charAt(i + 1) << 16)
+                    | text.charAt(i + 2);
+            grams.add(gram);
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,220 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Order-statistic tree over (value, row) keys: a treap whose nodes count the nodes below them
+ * A key's position and the k-th key are found in O(log n), and a page of k keys in O(log n + k),
+ * so deep pages of a sort order never walk or copy the entries above them.
+ * Writers hold the write lock for the O(log n) update; readers share the read lock.
+ * @param <E> Type of the element stored with each key
+ */
+final class OrderStatisticTree<E> {
+
+    private final StampedLock lock = new StampedLock();
+    private Node<E> root;
+
+    private static final class Node<E> {
+        private final double value;
+        private final int row;
+        private final int priority = ThreadLocalRandom.current().nextInt(); // heap order keeps the treap balanced
+        private final E element;
+        private int size = 1; // nodes in this subtree
+        private Node<E> left;
+        private Node<E> right;
+
+        Node(double value, int row, E element) {
+            this.value = value;
+            this.row = row;
+            this.element = element;
+        }
+    }
+
+    // Writes
+
+    //Adds a key that is not in the tree yet
+    void add(double value, int row, E element) {
+        Node<E> node = new Node<>(value, row, element);
+        long stamp = lock.writeLock();
+        try {
+            root = insert(root, node);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    //Removes a key, if present
+    void remove(double value, int row) {
+        long stamp = lock.writeLock();
+        try {
+            root = delete(root, value, row);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Reads (positions count from the highest key)
+
+    //Gets the number of keys above (value, row), -1 when the key is not in the tree
+    int descendingPosition(double value, int row) {
+        long stamp = lock.readLock();
+        try {
+            int above = 0;
+            Node<E> node = root;
+            while (node != null) {
+                int order = compare(value, row, node);
+                if (order == 0) {
+                    return above + size(node.right);
+                }
+                if (order < 0) {
+                    above += size(node.right) + 1;
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Adds the elements at descending positions [offset, offset + limit) to the page
+    void descendingPage(int offset, int limit, List<E> page) {
+        long stamp = lock.readLock();
+        try {
+            collectDescending(root, offset, page, page.size() + limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Counts the keys with a value in [min, max]
+    int count(double min, double max) {
+        long stamp = lock.readLock();
+        try {
+            return below(max, Integer.MAX_VALUE, true) - below(min, Integer.MIN_VALUE, false);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Tree operations (callers hold the lock)
+
+    private static <E> Node<E> insert(Node<E> node, Node<E> added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            split(node, added);
+            return update(added);
+        }
+        if (compare(added.value, added.row, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    // Splits a subtree around a new node's key into the new node's left (smaller keys) and right children
+    private static <E> void split(Node<E> node, Node<E> at) {
+        if (node == null) {
+            at.left = null;
+            at.right = null;
+            return;
+        }
+        if (compare(at.value, at.row, node) < 0) {
+            split(node.left, at);
+            node.left = at.right;
+            at.right = update(node);
+        } else {
+            split(node.right, at);
+            node.right = at.left;
+            at.left = update(node);
+        }
+    }
+
+    private static <E> Node<E> delete(Node<E> node, double value, int row) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(value, row, node);
+        if (order == 0) {
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = delete(node.left, value, row);
+        } else {
+            node.right = delete(node.right, value, row);
+        }
+        return update(node);
+    }
+
+    // Joins two subtrees whose keys are all smaller on the left
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    // Visits a subtree highest first, skipping its first `skip` keys, until the page holds `end` elements
+    private static <E> void collectDescending(Node<E> node, int skip, List<E> page, int end) {
+        if (node == null || page.size() >= end) {
+            return;
+        }
+        int rightSize = size(node.right);
+        if (skip < rightSize) {
+            collectDescending(node.right, skip, page, end);
+        }
+        if (page.size() >= end) {
+            return;
+        }
+        if (skip <= rightSize) {
+            page.add(node.element);
+        }
+        collectDescending(node.left, Math.max(0, skip - rightSize - 1), page, end);
+    }
+
+    // Counts the keys below (value, row), or up to and including it
+    private int below(double value, int row, boolean inclusive) {
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int order = compare(value, row, node);
+            if (order > 0 || (inclusive && order == 0)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static <E> Node<E> update(Node<E> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    // Orders keys like DoubleRangeIndex: by value, then by row
+    private static int compare(double value, int row, Node<?> node) {
+        int byValue = Double.compare(value, node.value);
+        return byValue != 0 ? byValue : Integer.compare(row, node.row);
+    }
+}
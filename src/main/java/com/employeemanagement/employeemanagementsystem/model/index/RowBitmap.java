@@ -0,0 +1,316 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of internal row numbers in the style of a roaring bitmap
+ * Rows are split into chunks of 65536 by their high 16 bits. A sparse chunk stores its low 16 bits as a
+ * sorted char array; once it holds more than 4096 rows it switches to a fixed 8 KB bitmap (and back when
+ * it thins out to half of that). AND, OR and AND-counts work chunk by chunk, word by word on bitmaps,
+ * so combining two sets costs about one popcount per 64 rows.
+ * Not thread-safe: the owner guards it (see RowBitmapIndex).
+ */
+public class RowBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int ARRAY_LIMIT = 4096; // rows a sparse chunk holds before it becomes a bitmap
+    private static final int WORDS = 1 << (CHUNK_BITS - 6);
+
+    private Chunk[] chunks = new Chunk[0]; // by high 16 bits, null when a chunk holds no row
+    private int cardinality;
+
+    //Adds a row, returning false when it was already present
+    public boolean add(int row) {
+        int high = row >>> CHUNK_BITS;
+        if (high >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, high + 1);
+        }
+        Chunk chunk = chunks[high];
+        if (chunk == null) {
+            chunk = chunks[high] = new Chunk();
+        }
+        if (!chunk.add((char) (row & CHUNK_MASK))) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    //Removes a row, returning false when it was not present
+    public boolean remove(int row) {
+        int high = row >>> CHUNK_BITS;
+        Chunk chunk = high < chunks.length ? chunks[high] : null;
+        if (chunk == null || !chunk.remove((char) (row & CHUNK_MASK))) {
+            return false;
+        }
+        if (chunk.size == 0) {
+            chunks[high] = null;
+        }
+        cardinality--;
+        return true;
+    }
+
+    public boolean contains(int row) {
+        int high = row >>> CHUNK_BITS;
+        Chunk chunk = high < chunks.length ? chunks[high] : null;
+        return chunk != null && chunk.contains((char) (row & CHUNK_MASK));
+    }
+
+    //Gets the number of rows in the set (kept up to date, O(1))
+    public int cardinality() {
+        return cardinality;
+    }
+
+    //Counts the rows present in both sets without building the intersection
+    public int andCardinality(RowBitmap other) {
+        int count = 0;
+        int shared = Math.min(chunks.length, other.chunks.length);
+        for (int i = 0; i < shared; i++) {
+            if (chunks[i] != null && other.chunks[i] != null) {
+                count += chunks[i].andCardinality(other.chunks[i]);
+            }
+        }
+        return count;
+    }
+
+    //Builds the intersection of two sets
+    public static RowBitmap and(RowBitmap a, RowBitmap b) {
+        RowBitmap result = new RowBitmap();
+        int shared = Math.min(a.chunks.length, b.chunks.length);
+        result.chunks = new Chunk[shared];
+        for (int i = 0; i < shared; i++) {
+            if (a.chunks[i] != null && b.chunks[i] != null) {
+                result.setChunk(i, a.chunks[i].and(b.chunks[i]));
+            }
+        }
+        return result;
+    }
+
+    //Builds the union of two sets
+    public static RowBitmap or(RowBitmap a, RowBitmap b) {
+        RowBitmap result = new RowBitmap();
+        result.chunks = new Chunk[Math.max(a.chunks.length, b.chunks.length)];
+        for (int i = 0; i < result.chunks.length; i++) {
+            Chunk left = i < a.chunks.length ? a.chunks[i] : null;
+            Chunk right = i < b.chunks.length ? b.chunks[i] : null;
+            if (left == null) {
+                result.setChunk(i, right == null ? null : right.copy());
+            } else {
+                result.setChunk(i, right == null ? left.copy() : left.or(right));
+            }
+        }
+        return result;
+    }
+
+    //Calls the action for every row, in ascending order
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                chunks[i].forEach(i << CHUNK_BITS, action);
+            }
+        }
+    }
+
+    //Estimates the heap held by the set, in bytes
+    public long sizeInBytes() {
+        long bytes = 16L + 16L + 4L * chunks.length;
+        for (Chunk chunk : chunks) {
+            if (chunk != null) {
+                bytes += 24 + (chunk.words != null ? 16 + 8L * WORDS : 16 + 2L * chunk.values.length);
+            }
+        }
+        return bytes;
+    }
+
+    private void setChunk(int high, Chunk chunk) {
+        if (chunk != null && chunk.size > 0) {
+            chunks[high] = chunk;
+            cardinality += chunk.size;
+        }
+    }
+
+    // The rows of one 65536-row range: a sorted array while sparse, a bitmap while dense
+    private static final class Chunk {
+        private char[] values = new char[4]; // used while words == null
+        private long[] words;
+        private int size;
+
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (words != null) {
+                long before = words[low >>> 6];
+                words[low >>> 6] = before | (1L << low);
+                if (before == words[low >>> 6]) {
+                    return false;
+                }
+                size++;
+                return true;
+            }
+            int position = Arrays.binarySearch(values, 0, size, low);
+            if (position >= 0) {
+                return false;
+            }
+            if (size == ARRAY_LIMIT) {
+                toBitmap();
+                return add(low);
+            }
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, size * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = low;
+            size++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (words != null) {
+                long before = words[low >>> 6];
+                words[low >>> 6] = before & ~(1L << low);
+                if (before == words[low >>> 6]) {
+                    return false;
+                }
+                size--;
+                if (size <= ARRAY_LIMIT / 2) {
+                    toArray(); // the gap to ARRAY_LIMIT keeps a chunk near the limit from flipping back and forth
+                }
+                return true;
+            }
+            int position = Arrays.binarySearch(values, 0, size, low);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        int andCardinality(Chunk other) {
+            if (words != null && other.words != null) {
+                int count = 0;
+                for (int i = 0; i < WORDS; i++) {
+                    count += Long.bitCount(words[i] & other.words[i]);
+                }
+                return count;
+            }
+            Chunk sparse = words == null ? this : other;
+            Chunk probe = sparse == this ? other : this;
+            int count = 0;
+            for (int i = 0; i < sparse.size; i++) {
+                if (probe.contains(sparse.values[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        Chunk and(Chunk other) {
+            Chunk result = new Chunk();
+            if (words != null && other.words != null) {
+                result.words = new long[WORDS];
+                for (int i = 0; i < WORDS; i++) {
+                    result.words[i] = words[i] & other.words[i];
+                    result.size += Long.bitCount(result.words[i]);
+                }
+                if (result.size <= ARRAY_LIMIT) {
+                    result.toArray();
+                }
+                return result;
+            }
+            Chunk sparse = words == null ? this : other;
+            Chunk probe = sparse == this ? other : this;
+            result.values = new char[Math.max(4, sparse.size)];
+            for (int i = 0; i < sparse.size; i++) {
+                if (probe.contains(sparse.values[i])) {
+                    result.values[result.size++] = sparse.values[i];
+                }
+            }
+            return result;
+        }
+
+        Chunk or(Chunk other) {
+            Chunk result = new Chunk();
+            Chunk seed = words != null ? this : other.words != null ? other : null;
+            result.words = seed != null ? seed.words.clone() : new long[WORDS];
+            for (Chunk source : new Chunk[]{this, other}) {
+                if (source == seed) {
+                    continue;
+                }
+                if (source.words == null) {
+                    for (int i = 0; i < source.size; i++) {
+                        result.words[source.values[i] >>> 6] |= 1L << source.values[i];
+                    }
+                } else {
+                    for (int i = 0; i < WORDS; i++) {
+                        result.words[i] |= source.words[i];
+                    }
+                }
+            }
+            for (long word : result.words) {
+                result.size += Long.bitCount(word);
+            }
+            if (result.size <= ARRAY_LIMIT) {
+                result.toArray();
+            }
+            return result;
+        }
+
+        Chunk copy() {
+            Chunk result = new Chunk();
+            result.size = size;
+            if (words != null) {
+                result.words = words.clone();
+            } else {
+                result.values = Arrays.copyOf(values, Math.max(4, size));
+            }
+            return result;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < size; i++) {
+                    action.accept(base | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private void toBitmap() {
+            words = new long[WORDS];
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArray() {
+            char[] sparse = new char[Math.max(4, size)];
+            int n = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    sparse[n++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = sparse;
+            words = null;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Bitmap indexes over internal row numbers for the low-cardinality attributes: one RowBitmap per department
+ * plus one for active and one for inactive rows, and a row-to-element table to turn rows back into elements
+ * A combined filter such as "active IT employees" is a bitmap AND; its count is an AND popcount that never
+ * builds the result. A department costs about one bit per row instead of a hash set entry per employee.
+ * Every bitmap has its own StampedLock, so writes to different departments or statuses never wait for each
+ * other. A write or read that spans several bitmaps locks them in index order, so a department move or
+ * status change is seen whole. Rows get their element before their bits are set and lose it after they are
+ * cleared, so a reader that finds a row's bit under the bitmap's lock always finds its element.
+ * @param <E> Type of the indexed element
+ */
+public class RowBitmapIndex<E> {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+    private static final int ACTIVE = DEPARTMENTS.length; // bitmap numbers: the departments, then the statuses
+    private static final int INACTIVE = ACTIVE + 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final RowBitmap[] bitmaps = new RowBitmap[INACTIVE + 1];
+    private final StampedLock[] locks = new StampedLock[bitmaps.length]; // one per bitmap
+    private final StampedLock tableLock = new StampedLock(); // read-held to store an element, write-held to grow
+    private volatile Object[] elements = new Object[INITIAL_CAPACITY]; // element of each row, null for a free row
+
+    //constructor
+    public RowBitmapIndex() {
+        for (int i = 0; i < bitmaps.length; i++) {
+            bitmaps[i] = new RowBitmap();
+            locks[i] = new StampedLock();
+        }
+    }
+
+    // Writes
+
+    //Adds an element under its row
+    public void add(int row, E element, EEmployeeDepartment department, boolean isActive) {
+        setElement(row, element);
+        int departmentBitmap = department.ordinal();
+        int statusBitmap = status(isActive);
+        lockWrite(departmentBitmap, statusBitmap);
+        try {
+            bitmaps[departmentBitmap].add(row);
+            bitmaps[statusBitmap].add(row);
+        } finally {
+            unlockWrite(departmentBitmap, statusBitmap);
+        }
+    }
+
+    //Removes the element of a row
+    public void remove(int row, EEmployeeDepartment department, boolean isActive) {
+        int departmentBitmap = department.ordinal();
+        int statusBitmap = status(isActive);
+        lockWrite(departmentBitmap, statusBitmap);
+        try {
+            bitmaps[departmentBitmap].remove(row);
+            bitmaps[statusBitmap].remove(row);
+        } finally {
+            unlockWrite(departmentBitmap, statusBitmap);
+        }
+        setElement(row, null);
+    }
+
+    //Moves a row to another department
+    public void changeDepartment(int row, EEmployeeDepartment oldDepartment, EEmployeeDepartment newDepartment) {
+        int from = oldDepartment.ordinal();
+        int to = newDepartment.ordinal();
+        lockWrite(from, to);
+        try {
+            bitmaps[from].remove(row);
+            bitmaps[to].add(row);
+        } finally {
+            unlockWrite(from, to);
+        }
+    }
+
+    //Moves a row between the active and inactive bitmaps
+    public void changeActive(int row, boolean isActive) {
+        lockWrite(ACTIVE, INACTIVE);
+        try {
+            bitmaps[status(!isActive)].remove(row);
+            bitmaps[status(isActive)].add(row);
+        } finally {
+            unlockWrite(ACTIVE, INACTIVE);
+        }
+    }
+
+    // Stores the element of a row, growing the table first if needed
+    private void setElement(int row, E element) {
+        if (row >= elements.length) {
+            long stamp = tableLock.writeLock();
+            try {
+                if (row >= elements.length) {
+                    elements = Arrays.copyOf(elements, Math.max(row + 1, elements.length * 2));
+                }
+            } finally {
+                tableLock.unlockWrite(stamp);
+            }
+        }
+        long stamp = tableLock.readLock(); // writers store into distinct rows; only a copy must not run meanwhile
+        try {
+            ELEMENT.setRelease(elements, row, element);
+        } finally {
+            tableLock.unlockRead(stamp);
+        }
+    }
+
+    // Reads (null for a criterion means "any")
+
+    //Counts the rows matching a department and status
+    public int count(EEmployeeDepartment department, Boolean isActive) {
+        int first = department == null ? ACTIVE : department.ordinal();
+        int second = department == null ? INACTIVE : isActive == null ? first : status(isActive);
+        lockRead(first, second);
+        try {
+            if (department == null) {
+                return isActive == null ? bitmaps[ACTIVE].cardinality() + bitmaps[INACTIVE].cardinality()
+                        : bitmaps[status(isActive)].cardinality();
+            }
+            RowBitmap rows = bitmaps[first];
+            return isActive == null ? rows.cardinality() : rows.andCardinality(bitmaps[second]);
+        } finally {
+            unlockRead(first, second);
+        }
+    }
+
+    //Counts the rows of every department with the given status
+    //Every department bitmap is read-locked (in order) for the whole count, so no move is counted twice
+    public Map<EEmployeeDepartment, Integer> departmentCounts(Boolean isActive) {
+        Map<EEmployeeDepartment, Integer> counts = new EnumMap<>(EEmployeeDepartment.class);
+        int last = isActive == null ? ACTIVE - 1 : status(isActive);
+        for (int i = 0; i <= last; i++) {
+            if (i < ACTIVE || i == last) {
+                locks[i].asReadLock().lock();
+            }
+        }
+        try {
+            for (EEmployeeDepartment department : DEPARTMENTS) {
+                RowBitmap rows = bitmaps[department.ordinal()];
+                counts.put(department, isActive == null ? rows.cardinality() : rows.andCardinality(bitmaps[last]));
+            }
+        } finally {
+            for (int i = last; i >= 0; i--) {
+                if (i < ACTIVE || i == last) {
+                    locks[i].asReadLock().unlock();
+                }
+            }
+        }
+        return counts;
+    }
+
+    //Gets the elements matching a department and status, in row order
+    @SuppressWarnings("unchecked")
+    public List<E> select(EEmployeeDepartment department, Boolean isActive) {
+        int first = department == null ? ACTIVE : department.ordinal();
+        int second = department == null ? INACTIVE : isActive == null ? first : status(isActive);
+        lockRead(first, second);
+        try {
+            RowBitmap rows;
+            if (department == null) {
+                rows = isActive == null ? RowBitmap.or(bitmaps[ACTIVE], bitmaps[INACTIVE]) : bitmaps[status(isActive)];
+            } else {
+                rows = bitmaps[first];
+                if (isActive != null) {
+                    rows = RowBitmap.and(rows, bitmaps[second]);
+                }
+            }
+            List<E> matches = new ArrayList<>(rows.cardinality());
+            Object[] table = elements; // read after the locks: holds every row whose bit is set
+            rows.forEach(row -> matches.add((E) ELEMENT.getAcquire(table, row)));
+            return matches;
+        } finally {
+            unlockRead(first, second);
+        }
+    }
+
+    //Estimates the heap held by the bitmaps, in bytes (the row table excluded)
+    public long bitmapBytes() {
+        long bytes = 0;
+        for (int i = 0; i < bitmaps.length; i++) {
+            lockRead(i, i);
+            try {
+                bytes += bitmaps[i].sizeInBytes();
+            } finally {
+                unlockRead(i, i);
+            }
+        }
+        return bytes;
+    }
+
+    private static int status(boolean isActive) {
+        return isActive ? ACTIVE : INACTIVE;
+    }
+
+    // Locks one or two bitmaps, the lower number first so no two lockers ever wait for each other
+
+    private void lockWrite(int first, int second) {
+        locks[Math.min(first, second)].asWriteLock().lock();
+        if (first != second) {
+            locks[Math.max(first, second)].asWriteLock().lock();
+        }
+    }
+
+    private void unlockWrite(int first, int second) {
+        if (first != second) {
+            locks[Math.max(first, second)].asWriteLock().unlock();
+        }
+        locks[Math.min(first, second)].asWriteLock().unlock();
+    }
+
+    private void lockRead(int first, int second) {
+        locks[Math.min(first, second)].asReadLock().lock();
+        if (first != second) {
+            locks[Math.max(first, second)].asReadLock().lock();
+        }
+    }
+
+    private void unlockRead(int first, int second) {
+        if (first != second) {
+            locks[Math.max(first, second)].asReadLock().unlock();
+        }
+        locks[Math.min(first, second)].asReadLock().unlock();
+    }
+}
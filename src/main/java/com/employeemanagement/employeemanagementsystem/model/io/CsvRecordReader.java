@@ -0,0 +1,161 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV records: a header row naming the columns, then one employee per row
+ * Fields may be quoted ("..." with "" for a quote), and quoted fields may span a few lines; a quote still
+ * open after that is taken as a stray one, so its row is rejected alone and reading resumes on the next line
+ */
+class CsvRecordReader implements RecordReader {
+
+    // Most lines and characters one record may span before an open quote is given up on
+    static final int MAX_RECORD_LINES = 32;
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ArrayDeque<String> lookahead = new ArrayDeque<>(); // lines read past a record given up on
+    private final int[] columnOfField; // file field position -> EmployeeColumn ordinal, -1 for ignored fields
+    private final int columnCount;
+    private long lineNumber;
+
+    CsvRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String header = readLine();
+        while (header != null && header.isBlank()) {
+            header = readLine();
+        }
+        if (header == null) {
+            throw new IOException("The CSV file is empty");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1); // byte order mark
+        }
+
+        List<String> names = split(header);
+        columnOfField = new int[names.size()];
+        boolean[] present = new boolean[EmployeeColumn.values().length];
+        for (int i = 0; i < names.size(); i++) {
+            EmployeeColumn column = EmployeeColumn.forName(names.get(i));
+            columnOfField[i] = column == null ? -1 : column.ordinal();
+            if (column != null) {
+                present[column.ordinal()] = true;
+            }
+        }
+        for (EmployeeColumn column : EmployeeColumn.values()) {
+            if (column.isRequired() && !present[column.ordinal()]) {
+                throw new IOException("The CSV header has no '" + column.key() + "' column");
+            }
+        }
+        columnCount = names.size();
+    }
+
+    // Reads the next physical line, counting it
+    private String readLine() throws IOException {
+        String line = lookahead.isEmpty() ? reader.readLine() : lookahead.poll();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    @Override
+    public List<RawRecord> next(int max) throws IOException {
+        List<RawRecord> records = new ArrayList<>(max);
+        String line;
+        while (records.size() < max && (line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long start = lineNumber;
+            // an odd number of quotes means a quoted field continues on the next line
+            int quotes = countQuotes(line);
+            if (quotes % 2 != 0) {
+                List<String> continued = new ArrayList<>();
+                int length = line.length();
+                String more;
+                while (quotes % 2 != 0 && continued.size() < MAX_RECORD_LINES && length <= MAX_RECORD_CHARS
+                        && (more = readLine()) != null) {
+                    continued.add(more);
+                    quotes += countQuotes(more);
+                    length += more.length() + 1;
+                }
+                if (quotes % 2 == 0) {
+                    line = line + '\n' + String.join("\n", continued);
+                } else {
+                    // never closed: the record is its first line alone (fields rejects it), the rest is read again
+                    for (int i = continued.size() - 1; i >= 0; i--) {
+                        lookahead.push(continued.get(i));
+                    }
+                    lineNumber -= continued.size();
+                }
+            }
+            records.add(new RawRecord(start, line));
+        }
+        return records;
+    }
+
+    private static int countQuotes(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String[] fields(String text) {
+        List<String> values = split(text);
+        if (values.size() != columnCount) {
+            throw new IllegalArgumentException("Expected " + columnCount + " fields but found " + values.size());
+        }
+        String[] fields = new String[EmployeeColumn.values().length];
+        for (int i = 0; i < columnCount; i++) {
+            if (columnOfField[i] >= 0) {
+                String value = values.get(i).trim();
+                fields[columnOfField[i]] = value.isEmpty() ? null : value;
+            }
+        }
+        return fields;
+    }
+
+    // Splits one CSV record into its fields, unquoting quoted ones
+    private static List<String> split(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,48 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.util.Locale;
+
+/**
+ * Employee fields as named in import and export files
+ * Each column is the canonical (CSV header / JSON key) name; the aliases also accept the Employee field names
+ */
+public enum EmployeeColumn {
+    ID("id", "employeeId"),
+    NAME("name", "employeeName"),
+    DEPARTMENT("department", "employeeDepartment"),
+    SALARY("salary", "employeeSalary"),
+    RATING("rating", "performanceRating"),
+    EXPERIENCE("experience", "yearsOfExperience"),
+    ACTIVE("active", "isActive");
+
+    private static final EmployeeColumn[] COLUMNS = values();
+
+    private final String key;
+    private final String alias;
+
+    EmployeeColumn(String key, String alias) {
+        this.key = key;
+        this.alias = alias;
+    }
+
+    //Gets the canonical column name
+    public String key() {
+        return key;
+    }
+
+    //Whether a file must provide the column (a missing active flag means active)
+    public boolean isRequired() {
+        return this != ACTIVE;
+    }
+
+    //Finds a column by name or alias, ignoring case, spaces and underscores; null when unknown
+    public static EmployeeColumn forName(String name) {
+        String normalized = name.trim().replace(" ", "").replace("_", "").toLowerCase(Locale.ROOT);
+        for (EmployeeColumn column : COLUMNS) {
+            if (column.key.equalsIgnoreCase(normalized) || column.alias.equalsIgnoreCase(normalized)) {
+                return column;
+            }
+        }
+        return null;
+    }
+}
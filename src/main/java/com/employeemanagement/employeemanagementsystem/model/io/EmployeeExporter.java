@@ -0,0 +1,286 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streaming export of employees as CSV, JSON Lines or the fixed-width console table
+ * Rows are appended to one reusable StringBuilder by hand-written formatters (no format strings),
+ * encoded in blocks into a reusable direct buffer and written to an NIO channel.
+ * Employees are pulled from the stream one at a time, so memory stays constant for any number of rows;
+ * the stream may be filtered, sorted or paged from the database.
+ */
+public class EmployeeExporter {
+
+    // Separator line of the fixed-width table
+    public static final String TABLE_RULE =
+            "----------------------------------------------------------------------------------------------------";
+
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int ENCODE_THRESHOLD = 8192; // chars collected before they are encoded
+    private static final int NAME_WIDTH = 20;
+
+    private final WritableByteChannel channel;
+    private final ExportFormat format;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final StringBuilder text = new StringBuilder(ENCODE_THRESHOLD + 256);
+
+    private EmployeeExporter(WritableByteChannel channel, ExportFormat format, Charset charset) {
+        this.channel = channel;
+        this.format = format;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    //Exports the employees to a file (created or replaced) and returns the number of rows written
+    public static <T> long export(Stream<Employee<T>> employees, Path file, ExportFormat format) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return export(employees, channel, format, StandardCharsets.UTF_8);
+        }
+    }
+
+    //Exports the employees to an open channel, which is left open, and returns the number of rows written
+    //The stream is closed afterwards, releasing what it reads from (e.g. a read view)
+    public static <T> long export(Stream<Employee<T>> employees, WritableByteChannel channel, ExportFormat format,
+                                  Charset charset) throws IOException {
+        try (employees) {
+            EmployeeExporter exporter = new EmployeeExporter(channel, format, charset);
+            exporter.writeHeader();
+            long rows = 0;
+            Iterator<Employee<T>> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                exporter.writeRow(iterator.next());
+                rows++;
+            }
+            exporter.writeFooter();
+            exporter.flush();
+            return rows;
+        }
+    }
+
+    // Format layouts
+
+    private void writeHeader() throws IOException {
+        switch (format) {
+            case CSV:
+                EmployeeColumn[] columns = EmployeeColumn.values();
+                for (int i = 0; i < columns.length; i++) {
+                    text.append(i == 0 ? "" : ",").append(columns[i].key());
+                }
+                text.append('\n');
+                break;
+            case TABLE:
+                pad("ID", 10);
+                pad("Name", NAME_WIDTH);
+                pad("Department", 15);
+                pad("Salary ($)", 12);
+                pad("Rating", 12);
+                pad("Experience", 10);
+                text.append("Status    ").append(System.lineSeparator());
+                text.append(TABLE_RULE).append(System.lineSeparator());
+                break;
+            default:
+                break; // JSON Lines has no header
+        }
+    }
+
+    private void writeRow(Employee<?> employee) throws IOException {
+        switch (format) {
+            case CSV:
+                csv(employee.employeeId().toString()).append(',');
+                csv(employee.employeeName()).append(',');
+                text.append(employee.employeeDepartment().name()).append(',');
+                text.append(employee.employeeSalary()).append(',');
+                text.append(employee.performanceRating()).append(',');
+                text.append(employee.yearsOfExperience()).append(',');
+                text.append(employee.isActive()).append('\n');
+                break;
+            case JSON_LINES:
+                Object id = employee.employeeId();
+                text.append("{\"").append(EmployeeColumn.ID.key()).append("\":");
+                if (id instanceof Number) {
+                    text.append(id);
+                } else {
+                    json(id.toString());
+                }
+                text.append(",\"").append(EmployeeColumn.NAME.key()).append("\":");
+                json(employee.employeeName());
+                text.append(",\"").append(EmployeeColumn.DEPARTMENT.key()).append("\":\"")
+                        .append(employee.employeeDepartment().name()).append('"');
+                text.append(",\"").append(EmployeeColumn.SALARY.key()).append("\":").append(employee.employeeSalary());
+                text.append(",\"").append(EmployeeColumn.RATING.key()).append("\":").append(employee.performanceRating());
+                text.append(",\"").append(EmployeeColumn.EXPERIENCE.key()).append("\":").append(employee.yearsOfExperience());
+                text.append(",\"").append(EmployeeColumn.ACTIVE.key()).append("\":").append(employee.isActive());
+                text.append("}\n");
+                break;
+            case TABLE:
+                pad(employee.employeeId().toString(), 10);
+                pad(truncate(employee.employeeName(), NAME_WIDTH), NAME_WIDTH);
+                pad(employee.employeeDepartment().name(), 15);
+                padFixed2(employee.employeeSalary(), 12);
+                padFixed2(employee.performanceRating(), 12);
+                pad(Integer.toString(employee.yearsOfExperience()), 10);
+                text.append(employee.isActive() ? "Active    " : "Inactive  ").append(System.lineSeparator());
+                break;
+        }
+        if (text.length() >= ENCODE_THRESHOLD) {
+            encodeText();
+        }
+    }
+
+    private void writeFooter() {
+        if (format == ExportFormat.TABLE) {
+            text.append(TABLE_RULE).append(System.lineSeparator());
+        }
+    }
+
+    // Formatters (append to the reusable builder)
+
+    // Left-aligned in a column of the width followed by one space, like %-Ns in the console format
+    private void pad(String value, int width) {
+        text.append(value);
+        for (int i = value.length(); i < width; i++) {
+            text.append(' ');
+        }
+        text.append(' ');
+    }
+
+    // A number with two decimals, left-aligned like %-N.2f (rounded half up)
+    private void padFixed2(double value, int width) {
+        int start = text.length();
+        if (!Double.isFinite(value) || Math.abs(value) >= 1e15) {
+            text.append(String.format(Locale.ROOT, "%.2f", value)); // outside the range of the fast path
+        } else {
+            long cents = Math.round(Math.abs(value) * 100);
+            if (value < 0 && cents != 0) {
+                text.append('-');
+            }
+            text.append(cents / 100).append('.');
+            long fraction = cents % 100;
+            if (fraction < 10) {
+                text.append('0');
+            }
+            text.append(fraction);
+        }
+        for (int i = text.length() - start; i < width; i++) {
+            text.append(' ');
+        }
+        text.append(' ');
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength - 3) + "...";
+    }
+
+    // A CSV field, quoted only when it contains a separator, quote or line break
+    private StringBuilder csv(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return text.append(value);
+        }
+        text.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                text.append('"');
+            }
+            text.append(c);
+        }
+        return text.append('"');
+    }
+
+    // A JSON string literal
+    private void json(String value) {
+        text.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    text.append("\\\"");
+                    break;
+                case '\\':
+                    text.append("\\\\");
+                    break;
+                case '\n':
+                    text.append("\\n");
+                    break;
+                case '\r':
+                    text.append("\\r");
+                    break;
+                case '\t':
+                    text.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        text.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        text.append(c);
+                    }
+            }
+        }
+        text.append('"');
+    }
+
+    // Encoding and writing
+
+    // Encodes the collected text into the byte buffer, writing the buffer out whenever it fills
+    private void encodeText() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, false);
+            if (result.isOverflow()) {
+                drain();
+            } else {
+                break; // underflow: everything but a trailing half surrogate pair was encoded
+            }
+        }
+        text.delete(0, chars.position());
+    }
+
+    private void flush() throws IOException {
+        encodeText();
+        CharBuffer rest = CharBuffer.wrap(text);
+        while (encoder.encode(rest, bytes, true).isOverflow()) {
+            drain();
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            drain();
+        }
+        text.setLength(0);
+        drain();
+    }
+
+    // Writes the bytes encoded so far to the channel
+    private void drain() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,275 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeValidator;
+import com.employeemanagement.employeemanagementsystem.model.io.RecordReader.RawRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Streaming bulk import of employees from CSV or JSON files
+ * The calling thread reads the file in chunks of raw records; parser threads turn each chunk into
+ * validated employees in parallel; chunks are inserted in file order as database batches.
+ * Only a bounded number of chunks is in flight, so memory stays flat however large the file is.
+ * Rows are checked with the same rules as the employee form (EmployeeValidator) plus the duplicate ID
+ * check of addEmployee; a bad row is reported and skipped without aborting the load.
+ * Given an ID block source, rows without an ID get fresh IDs, one block per batch, in file order.
+ * @param <T> Type of the employee ID
+ */
+public class EmployeeImporter<T> {
+
+    // Rows per parse chunk and database batch
+    public static final int DEFAULT_BATCH_SIZE = 2048;
+    // Rejected rows kept in the result (the failed count covers all of them)
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EmployeeDatabase<T> database;
+    private final Function<String, T> idParser;
+    private final IntFunction<List<T>> idBlocks; // null: rows without an ID are rejected
+    private final int batchSize;
+    private final int parallelism;
+
+    //constructor
+    public EmployeeImporter(EmployeeDatabase<T> database, Function<String, T> idParser) {
+        this(database, idParser, null);
+    }
+
+    //constructor with a source of fresh IDs for rows without one (idBlocks gives that many unused IDs)
+    public EmployeeImporter(EmployeeDatabase<T> database, Function<String, T> idParser, IntFunction<List<T>> idBlocks) {
+        this(database, idParser, idBlocks, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    //constructor with explicit batch size and number of parser threads
+    public EmployeeImporter(EmployeeDatabase<T> database, Function<String, T> idParser, int batchSize, int parallelism) {
+        this(database, idParser, null, batchSize, parallelism);
+    }
+
+    //constructor with every option
+    public EmployeeImporter(EmployeeDatabase<T> database, Function<String, T> idParser, IntFunction<List<T>> idBlocks,
+                            int batchSize, int parallelism) {
+        if (batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive");
+        }
+        this.database = database;
+        this.idParser = idParser;
+        this.idBlocks = idBlocks;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    // A chunk after parsing: the valid employees with their lines, and the rows rejected so far
+    private record ParsedChunk<T>(List<Employee<T>> employees, List<Long> lines, List<ImportResult.RowError> errors) {
+    }
+
+    //Imports a file, picking the format from its extension
+    public ImportResult importFile(Path file) throws IOException {
+        ImportFormat format = ImportFormat.forFile(file);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importFrom(reader, format);
+        }
+    }
+
+    //Imports every record of the input; throws IOException only when the file as a whole is unreadable
+    public ImportResult importFrom(Reader input, ImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        RecordReader records = format == ImportFormat.CSV
+                ? new CsvRecordReader(input instanceof BufferedReader buffered ? buffered : new BufferedReader(input))
+                : new JsonRecordReader(input);
+
+        ExecutorService parsers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "employee-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<ParsedChunk<T>>> inFlight = new ArrayDeque<>();
+        int[] counts = new int[2]; // imported, failed
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        try {
+            List<RawRecord> chunk;
+            while (!(chunk = records.next(batchSize)).isEmpty()) {
+                List<RawRecord> toParse = chunk;
+                inFlight.add(parsers.submit(() -> parse(records, toParse)));
+                if (inFlight.size() > parallelism) {
+                    insert(await(inFlight.poll()), counts, errors);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                insert(await(inFlight.poll()), counts, errors);
+            }
+        } finally {
+            parsers.shutdownNow();
+        }
+        return new ImportResult(counts[0], counts[1], errors, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // Waits for a parse task, rethrowing its failure
+    private static <R> R await(Future<R> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Import failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // Parses and validates one chunk (runs on a parser thread)
+    private ParsedChunk<T> parse(RecordReader records, List<RawRecord> chunk) {
+        List<Employee<T>> employees = new ArrayList<>(chunk.size());
+        List<Long> lines = new ArrayList<>(chunk.size());
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        for (RawRecord record : chunk) {
+            try {
+                employees.add(toEmployee(records.fields(record.text())));
+                lines.add(record.line());
+            } catch (IllegalArgumentException e) {
+                errors.add(new ImportResult.RowError(record.line(), e.getMessage()));
+            }
+        }
+        return new ParsedChunk<>(employees, lines, errors);
+    }
+
+    // Builds an employee from its field values, throwing IllegalArgumentException when a value is invalid
+    // (the ID is left null when it is missing and will be generated)
+    private Employee<T> toEmployee(String[] fields) {
+        String idText = fields[EmployeeColumn.ID.ordinal()];
+        T id = idText == null && idBlocks != null ? null : parseId(required(fields, EmployeeColumn.ID));
+        String name = fields[EmployeeColumn.NAME.ordinal()];
+        String department = fields[EmployeeColumn.DEPARTMENT.ordinal()];
+        double salary = parseNumber(required(fields, EmployeeColumn.SALARY), EmployeeColumn.SALARY);
+        double rating = parseNumber(required(fields, EmployeeColumn.RATING), EmployeeColumn.RATING);
+        int experience = parseWholeNumber(required(fields, EmployeeColumn.EXPERIENCE), EmployeeColumn.EXPERIENCE);
+        String activeText = fields[EmployeeColumn.ACTIVE.ordinal()];
+        boolean active = activeText == null || parseActive(activeText);
+
+        Employee<T> employee = new Employee<>(id, name == null ? null : name.trim(),
+                EmployeeValidator.parseDepartment(department), salary, rating, experience, active);
+        String problem = EmployeeValidator.validate(employee);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        return employee;
+    }
+
+    private static String required(String[] fields, EmployeeColumn column) {
+        String value = fields[column.ordinal()];
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + column.key());
+        }
+        return value;
+    }
+
+    private T parseId(String text) {
+        try {
+            return idParser.apply(text);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid id: " + text);
+        }
+    }
+
+    private static double parseNumber(String text, EmployeeColumn column) {
+        try {
+            double value = Double.parseDouble(text);
+            if (!Double.isFinite(value)) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column.key() + " must be a number: " + text);
+        }
+    }
+
+    private static int parseWholeNumber(String text, EmployeeColumn column) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column.key() + " must be a whole number: " + text);
+        }
+    }
+
+    private static boolean parseActive(String text) {
+        switch (text.toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "1":
+            case "active":
+                return true;
+            case "false":
+            case "no":
+            case "0":
+            case "inactive":
+                return false;
+            default:
+                throw new IllegalArgumentException("active must be true or false: " + text);
+        }
+    }
+
+    // Gives the employees without an ID fresh IDs from one block, in file order
+    private void assignMissingIds(List<Employee<T>> employees) {
+        int missing = 0;
+        for (Employee<T> employee : employees) {
+            if (employee.employeeId() == null) {
+                missing++;
+            }
+        }
+        if (missing == 0) {
+            return;
+        }
+        List<T> ids = idBlocks.apply(missing);
+        int next = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            Employee<T> employee = employees.get(i);
+            if (employee.employeeId() == null) {
+                employees.set(i, new Employee<>(ids.get(next++), employee.employeeName(),
+                        employee.employeeDepartment(), employee.employeeSalary(), employee.performanceRating(),
+                        employee.yearsOfExperience(), employee.isActive()));
+            }
+        }
+    }
+
+    // Adds a parsed chunk as one database batch and records its outcome (runs on the reading thread)
+    private void insert(ParsedChunk<T> chunk, int[] counts, List<ImportResult.RowError> errors) {
+        assignMissingIds(chunk.employees());
+        List<ImportResult.RowError> chunkErrors = new ArrayList<>(chunk.errors());
+        List<Employee<T>> rejected = database.addEmployees(chunk.employees());
+        if (!rejected.isEmpty()) {
+            Map<Employee<T>, Long> lineOf = new IdentityHashMap<>();
+            for (int i = 0; i < chunk.employees().size(); i++) {
+                lineOf.put(chunk.employees().get(i), chunk.lines().get(i));
+            }
+            for (Employee<T> employee : rejected) {
+                chunkErrors.add(new ImportResult.RowError(lineOf.get(employee),
+                        "Employee with ID " + employee.employeeId() + " already exists"));
+            }
+            chunkErrors.sort((a, b) -> Long.compare(a.line(), b.line()));
+        }
+        counts[0] += chunk.employees().size() - rejected.size();
+        counts[1] += chunkErrors.size();
+        for (ImportResult.RowError error : chunkErrors) {
+            if (errors.size() == MAX_REPORTED_ERRORS) {
+                break;
+            }
+            errors.add(error);
+        }
+    }
+}
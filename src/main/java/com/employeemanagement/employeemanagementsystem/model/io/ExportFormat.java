@@ -0,0 +1,25 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * File formats written by the EmployeeExporter
+ * CSV and JSON_LINES use the EmployeeColumn names, so exported files can be imported again
+ * TABLE is the fixed-width layout of the console reports
+ */
+public enum ExportFormat {
+    CSV, JSON_LINES, TABLE;
+
+    //Picks the format from the file extension (.csv, .jsonl / .ndjson / .json, anything else is a table)
+    public static ExportFormat forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json")) {
+            return JSON_LINES;
+        }
+        return TABLE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * File formats accepted by the EmployeeImporter
+ * CSV: a header row naming the columns (any order), then one employee per row
+ * JSON: an array of flat employee objects, or one object per line (JSON Lines)
+ */
+public enum ImportFormat {
+    CSV, JSON;
+
+    //Picks the format from the file extension (.csv, .json, .jsonl, .ndjson)
+    public static ImportFormat forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file type: " + file.getFileName());
+    }
+}
@@ -0,0 +1,22 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import
+ * imported: rows added to the database
+ * failed: rows rejected by parsing, validation or a duplicate ID
+ * errors: the first rejected rows with their reason (capped so huge bad files stay cheap to report)
+ * @param elapsed Wall-clock time of the whole import
+ */
+public record ImportResult(int imported, int failed, List<RowError> errors, Duration elapsed) {
+
+    //A rejected row: its line number in the file (1-based) and why it was rejected
+    public record RowError(long line, String message) {
+        @Override
+        public String toString() {
+            return "Line " + line + ": " + message;
+        }
+    }
+}
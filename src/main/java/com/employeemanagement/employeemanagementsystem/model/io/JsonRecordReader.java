@@ -0,0 +1,218 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON records: flat employee objects, either inside one top-level array or one per line (JSON Lines)
+ * The reading thread only finds where each object starts and ends; the objects are parsed by fields
+ * Values may be strings, numbers, booleans or null; nested objects and arrays are rejected per record
+ */
+class JsonRecordReader implements RecordReader {
+
+    private final Reader reader;
+    private final char[] buffer = new char[1 << 14];
+    private int bufferPosition;
+    private int bufferLimit;
+    private long lineNumber = 1;
+
+    JsonRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Reads the next character (-1 at the end), counting lines
+    private int read() throws IOException {
+        if (bufferPosition == bufferLimit) {
+            bufferLimit = reader.read(buffer, 0, buffer.length);
+            bufferPosition = 0;
+            if (bufferLimit <= 0) {
+                bufferLimit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[bufferPosition++];
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    @Override
+    public List<RawRecord> next(int max) throws IOException {
+        List<RawRecord> records = new ArrayList<>(max);
+        while (records.size() < max) {
+            int c = read();
+            // between objects only array brackets, commas, whitespace and a byte order mark are allowed
+            while (c == '[' || c == ']' || c == ',' || c == '\uFEFF' || Character.isWhitespace(c)) {
+                c = read();
+            }
+            if (c < 0) {
+                break;
+            }
+            if (c != '{') {
+                throw new IOException("Malformed JSON at line " + lineNumber + ": expected an employee object");
+            }
+            long start = lineNumber;
+            records.add(new RawRecord(start, readObject()));
+        }
+        return records;
+    }
+
+    // Reads an object whose opening brace was just read, up to its matching closing brace
+    private String readObject() throws IOException {
+        StringBuilder text = new StringBuilder(128).append('{');
+        int depth = 1;
+        boolean inString = false;
+        while (depth > 0) {
+            int c = read();
+            if (c < 0) {
+                throw new IOException("Malformed JSON at line " + lineNumber + ": unterminated object");
+            }
+            text.append((char) c);
+            if (inString) {
+                if (c == '\\') {
+                    int escaped = read();
+                    if (escaped < 0) {
+                        throw new IOException("Malformed JSON at line " + lineNumber + ": unterminated string");
+                    }
+                    text.append((char) escaped);
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String[] fields(String text) {
+        String[] fields = new String[EmployeeColumn.values().length];
+        Parser parser = new Parser(text);
+        parser.expect('{');
+        if (!parser.consume('}')) {
+            do {
+                String key = parser.string();
+                parser.expect(':');
+                String value = parser.value();
+                EmployeeColumn column = EmployeeColumn.forName(key);
+                if (column != null) {
+                    fields[column.ordinal()] = value;
+                }
+            } while (parser.consume(','));
+            parser.expect('}');
+        }
+        return fields;
+    }
+
+    // Recursive-descent parser for one flat object
+    private static final class Parser {
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        boolean consume(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void expect(char expected) {
+            if (!consume(expected)) {
+                throw new IllegalArgumentException("Malformed JSON: expected '" + expected + "'");
+            }
+        }
+
+        // Reads a value as text: strings unescaped, numbers and booleans verbatim, null as null
+        String value() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw new IllegalArgumentException("Malformed JSON: missing value");
+            }
+            char c = text.charAt(position);
+            if (c == '"') {
+                return string();
+            }
+            if (c == '{' || c == '[') {
+                throw new IllegalArgumentException("Nested JSON values are not supported");
+            }
+            int start = position;
+            while (position < text.length() && ",}".indexOf(text.charAt(position)) < 0
+                    && !Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            String literal = text.substring(start, position);
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("Malformed JSON: missing value");
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        String string() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                if (position >= text.length()) {
+                    throw new IllegalArgumentException("Malformed JSON: unterminated string");
+                }
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    throw new IllegalArgumentException("Malformed JSON: unterminated string");
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        if (position + 4 > text.length()) {
+                            throw new IllegalArgumentException("Malformed JSON: bad unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default:
+                        value.append(escaped); // \" \\ \/
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Splits an import file into raw records on the reading thread (next) and turns each raw record
+ * into field values on the parser threads (fields), so the expensive parsing can run in parallel
+ */
+interface RecordReader {
+
+    // The text of one record and the line it starts on
+    record RawRecord(long line, String text) {
+    }
+
+    //Reads up to max records, an empty list at the end of the input
+    List<RawRecord> next(int max) throws IOException;
+
+    //Splits a record into values indexed by EmployeeColumn ordinal, null for an absent value (thread-safe)
+    //Throws IllegalArgumentException when the record is malformed
+    String[] fields(String text);
+}
@@ -0,0 +1,233 @@
+package com.employeemanagement.employeemanagementsystem.model.mvcc;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Version numbers and before-images that let readers see an employee database as of one point in time
+ * Every write takes the next version from one clock. While at least one read view is open, a write first
+ * records the state each employee had before it (null for an employee it adds) under its version, so a
+ * view opened at version v rebuilds an employee from the oldest before-image newer than v, or takes the
+ * stored employee when nothing newer was recorded. Nothing is recorded while no view is open.
+ * Before-images are also kept in a journal in the order they were recorded, which lets readers pick up
+ * the ones recorded after a given point, and lets them be dropped oldest first once no open view needs them.
+ * Writers never wait for readers. Opening a view waits only for the writes already in progress (each
+ * stripe has at most one), so it never reads an employee halfway through a write.
+ * @param <T> Type of the employee ID
+ */
+public class VersionStore<T> {
+
+    private static final long IDLE = 0; // stripe has no write in progress
+    private static final long PENDING = -1; // stripe is taking its write version
+
+    private final AtomicLong clock = new AtomicLong(); // version of the latest write begun
+    private final AtomicLongArray inFlight; // per write stripe: version of its write in progress
+    private final ConcurrentHashMap<T, Version<T>> history = new ConcurrentHashMap<>();
+    private final TreeMap<Long, Integer> openVersions = new TreeMap<>(); // open views per version (guarded by this)
+    private volatile int openViews;
+
+    // Journal of the recorded before-images, oldest first; its head is the last one dropped
+    private final AtomicReference<Recorded<T>> journalTail;
+    private final Object pruneLock = new Object();
+    private Recorded<T> journalHead; // guarded by pruneLock
+
+    /**
+     * State of an employee before the write with the given version, linked to the older before-images
+     * @param version version of the write that replaced this state
+     * @param before record of the employee before the write, null if it did not exist
+     * @param row internal row the employee had then (meaningless when before is null)
+     * @param older before-image of the previous recorded write of the same ID, null if none
+     */
+    public record Version<T>(long version, Employee<T> before, int row, Version<T> older) {
+    }
+
+    /**
+     * A before-image in the journal, linked to the one recorded after it
+     */
+    public static final class Recorded<T> {
+        private final T employeeId;
+        private final Version<T> version;
+        private final AtomicReference<Recorded<T>> next = new AtomicReference<>();
+
+        private Recorded(T employeeId, Version<T> version) {
+            this.employeeId = employeeId;
+            this.version = version;
+        }
+
+        public T employeeId() {
+            return employeeId;
+        }
+
+        public Version<T> version() {
+            return version;
+        }
+
+        //Gets the before-image recorded after this one, null if none was recorded yet
+        public Recorded<T> next() {
+            return next.get();
+        }
+    }
+
+    //constructor for a database with the given number of write stripes
+    public VersionStore(int stripes) {
+        this.inFlight = new AtomicLongArray(stripes);
+        this.journalHead = new Recorded<>(null, null);
+        this.journalTail = new AtomicReference<>(journalHead);
+    }
+
+    // Writers (callers hold the write stripe's lock for the whole write)
+
+    //Starts a write on a stripe and returns its version
+    public long beginWrite(int stripe) {
+        inFlight.set(stripe, PENDING); // set before the clock moves, so a view opening now waits for it
+        long version = clock.incrementAndGet();
+        inFlight.set(stripe, version);
+        return version;
+    }
+
+    //Starts a write that holds every stripe (a bulk update) and returns its version
+    public long beginWriteAll() {
+        for (int i = 0; i < inFlight.length(); i++) {
+            inFlight.set(i, PENDING);
+        }
+        long version = clock.incrementAndGet();
+        for (int i = 0; i < inFlight.length(); i++) {
+            inFlight.set(i, version);
+        }
+        return version;
+    }
+
+    public void endWrite(int stripe) {
+        inFlight.set(stripe, IDLE);
+    }
+
+    public void endWriteAll() {
+        for (int i = 0; i < inFlight.length(); i++) {
+            inFlight.set(i, IDLE);
+        }
+    }
+
+    //Checks whether writes must record before-images (checked after beginWrite, so no view is missed)
+    public boolean isRecording() {
+        return openViews > 0;
+    }
+
+    //Records the state an employee had before a write; record it before changing anything
+    public void recordBefore(long version, T employeeId, Employee<T> before, int row) {
+        Version<T> recorded = history.compute(employeeId, (id, older) -> new Version<>(version, before, row, older));
+        append(new Recorded<>(employeeId, recorded));
+        if (openViews == 0) {
+            prune(); // the last view closed after this write checked isRecording, so nothing needs it
+        }
+    }
+
+    // Links a before-image to the end of the journal (writers of different stripes append concurrently)
+    private void append(Recorded<T> recorded) {
+        while (true) {
+            Recorded<T> tail = journalTail.get();
+            Recorded<T> next = tail.next.get();
+            if (next != null) {
+                journalTail.compareAndSet(tail, next); // help a writer that linked but has not moved the tail yet
+            } else if (tail.next.compareAndSet(null, recorded)) {
+                journalTail.compareAndSet(tail, recorded);
+                return;
+            }
+        }
+    }
+
+    // Readers
+
+    //Opens a read version: every write up to it has completed and every later write records before-images
+    public long open() {
+        long version;
+        synchronized (this) {
+            openViews++; // counted before reading the clock, so writes after the version see the view
+            version = clock.get();
+            openVersions.merge(version, 1, Integer::sum);
+        }
+        for (int i = 0; i < inFlight.length(); i++) {
+            long writing;
+            while ((writing = inFlight.get(i)) == PENDING || (writing != IDLE && writing <= version)) {
+                LockSupport.parkNanos(1_000); // writes are short; parking lets the writer run even on one core
+            }
+        }
+        return version;
+    }
+
+    //Closes a read version and drops the before-images no open view needs anymore
+    public void close(long version) {
+        synchronized (this) {
+            if (openVersions.merge(version, -1, Integer::sum) == 0) {
+                openVersions.remove(version);
+            }
+            openViews--;
+        }
+        prune();
+    }
+
+    //Gets the before-image that holds an employee's state as of a read version,
+    //or null when the employee has not been written since (its stored state applies)
+    public Version<T> at(T employeeId, long readVersion) {
+        Version<T> found = null;
+        for (Version<T> version = history.get(employeeId); version != null && version.version() > readVersion;
+             version = version.older()) {
+            found = version;
+        }
+        return found;
+    }
+
+    //Passes the state as of a read version of every employee written since, one before-image per ID
+    public void forEachWrittenSince(long readVersion, Consumer<Version<T>> action) {
+        for (T employeeId : history.keySet()) {
+            Version<T> found = at(employeeId, readVersion);
+            if (found != null) {
+                action.accept(found);
+            }
+        }
+    }
+
+    //Gets the start of the journal: the before-images an open view needs are all recorded after it
+    //(follow next() to read them, including those recorded later)
+    public Recorded<T> journal() {
+        synchronized (pruneLock) {
+            return journalHead;
+        }
+    }
+
+    //Number of IDs with before-images kept
+    public int historySize() {
+        return history.size();
+    }
+
+    // Drops the before-images no open view needs, oldest first, stopping at the first one still needed
+    // (a view opened later reads the clock after this, so it needs nothing up to it either)
+    private void prune() {
+        long oldestNeeded;
+        synchronized (this) {
+            oldestNeeded = openVersions.isEmpty() ? clock.get() : openVersions.firstKey();
+        }
+        synchronized (pruneLock) {
+            Recorded<T> next;
+            while ((next = journalHead.next()) != null && next.version().version() <= oldestNeeded) {
+                history.computeIfPresent(next.employeeId(), (id, newest) -> newerThan(newest, oldestNeeded));
+                journalHead = next;
+            }
+        }
+    }
+
+    // Keeps the part of a chain (newest first) that is newer than the given version
+    private static <T> Version<T> newerThan(Version<T> version, long oldestNeeded) {
+        if (version == null || version.version() <= oldestNeeded) {
+            return null;
+        }
+        Version<T> older = newerThan(version.older(), oldestNeeded);
+        return older == version.older() ? version : new Version<>(version.version(), version.before(), version.row(), older);
+    }
+}
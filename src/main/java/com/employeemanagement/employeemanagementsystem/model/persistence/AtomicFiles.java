@@ -0,0 +1,35 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Crash-safe replacement of a file by a fully written and synced temporary file
+ * The rename is atomic, and the directory is synced after it, so once replace returns
+ * the new file survives a crash or power loss (not only the old one).
+ */
+final class AtomicFiles {
+
+    private AtomicFiles() {
+    }
+
+    //Moves the temporary file over the target and makes the rename durable
+    static void replace(Path temporary, Path target) throws IOException {
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    // Forces the directory entry changes (renames, new files) of a directory to the storage device
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException e) {
+            // Windows cannot open a directory as a file; there the rename is all that can be done
+        }
+    }
+}
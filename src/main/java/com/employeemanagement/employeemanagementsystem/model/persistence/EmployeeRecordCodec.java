@@ -0,0 +1,97 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Shared binary layout of employees and updated field values in the persistence files
+ */
+public final class EmployeeRecordCodec {
+
+    // Type tags of updated field values
+    private static final byte STRING_VALUE = 1;
+    private static final byte DEPARTMENT_VALUE = 2;
+    private static final byte DOUBLE_VALUE = 3;
+    private static final byte INT_VALUE = 4;
+    private static final byte BOOLEAN_VALUE = 5;
+
+    private EmployeeRecordCodec() {
+    }
+
+    //Writes every field of an employee
+    public static <T> void writeEmployee(DataOutput out, IdCodec<T> idCodec, Employee<T> employee) throws IOException {
+        idCodec.write(out, employee.employeeId());
+        out.writeUTF(employee.employeeName());
+        out.writeByte(employee.employeeDepartment().ordinal());
+        out.writeDouble(employee.employeeSalary());
+        out.writeDouble(employee.performanceRating());
+        out.writeInt(employee.yearsOfExperience());
+        out.writeBoolean(employee.isActive());
+    }
+
+    //Reads an employee written by writeEmployee
+    public static <T> Employee<T> readEmployee(DataInput in, IdCodec<T> idCodec) throws IOException {
+        T id = idCodec.read(in);
+        String name = in.readUTF();
+        EEmployeeDepartment department = department(in.readByte());
+        double salary = in.readDouble();
+        double rating = in.readDouble();
+        int experience = in.readInt();
+        boolean active = in.readBoolean();
+        return new Employee<>(id, name, department, salary, rating, experience, active);
+    }
+
+    //Writes a value passed to updateEmployeeDetails, prefixed with its type tag
+    public static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value instanceof String text) {
+            out.writeByte(STRING_VALUE);
+            out.writeUTF(text);
+        } else if (value instanceof EEmployeeDepartment department) {
+            out.writeByte(DEPARTMENT_VALUE);
+            out.writeByte(department.ordinal());
+        } else if (value instanceof Double number) {
+            out.writeByte(DOUBLE_VALUE);
+            out.writeDouble(number);
+        } else if (value instanceof Integer number) {
+            out.writeByte(INT_VALUE);
+            out.writeInt(number);
+        } else if (value instanceof Boolean flag) {
+            out.writeByte(BOOLEAN_VALUE);
+            out.writeBoolean(flag);
+        } else {
+            throw new IOException("Unsupported field value: " + value);
+        }
+    }
+
+    //Reads a value written by writeValue
+    public static Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case STRING_VALUE:
+                return in.readUTF();
+            case DEPARTMENT_VALUE:
+                return department(in.readByte());
+            case DOUBLE_VALUE:
+                return in.readDouble();
+            case INT_VALUE:
+                return in.readInt();
+            case BOOLEAN_VALUE:
+                return in.readBoolean();
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    //Maps a stored ordinal back to its department
+    public static EEmployeeDepartment department(int ordinal) throws IOException {
+        EEmployeeDepartment[] values = EEmployeeDepartment.values();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Unknown department ordinal: " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
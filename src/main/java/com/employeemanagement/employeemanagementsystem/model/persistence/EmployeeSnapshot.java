@@ -0,0 +1,95 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeReadView;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary image of an EmployeeDatabase
+ * Layout: [magic:int][log LSN:long] then per employee [1:byte][employee], then [0:byte][CRC32 of all before:int]
+ * The image is read from a point-in-time view while writers keep running, so it holds one consistent state.
+ * The LSN is read from the write-ahead log before the view is opened; every mutation logged before it is in
+ * the image, and replaying the log from that LSN on (re-applying the few mutations already in it) brings it up to date.
+ * A snapshot is only loaded once its checksum is verified, so a damaged file leaves the database untouched.
+ */
+public final class EmployeeSnapshot {
+
+    private static final int MAGIC = 0x45534E31; // "ESN1"
+    private static final byte EMPLOYEE = 1;
+    private static final byte END = 0;
+
+    private EmployeeSnapshot() {
+    }
+
+    //Writes the database to the file; the previous snapshot is replaced atomically once the new one is synced
+    public static <T> void write(Path file, IdCodec<T> idCodec, EmployeeDatabase<T> database, long lsn)
+            throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeLong(lsn);
+            // a point-in-time view: it never blocks writers, and it is released even if writing fails
+            try (EmployeeReadView<T> view = database.openReadView()) {
+                for (Employee<T> employee : view) {
+                    out.writeByte(EMPLOYEE);
+                    EmployeeRecordCodec.writeEmployee(out, idCodec, employee);
+                }
+            }
+            out.writeByte(END);
+            out.flush();
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        }
+        AtomicFiles.replace(temporary, file);
+    }
+
+    //Loads a snapshot into an empty database and returns the LSN to replay the log from (0 when there is no snapshot)
+    //Nothing is added unless the whole file is intact: a corrupt or truncated snapshot throws and adds no employee
+    public static <T> long load(Path file, IdCodec<T> idCodec, EmployeeDatabase<T> database) throws IOException {
+        CRC32 crc = new CRC32();
+        DataInputStream in;
+        try {
+            // checksum only the bytes consumed, not the buffer's read-ahead
+            in = new DataInputStream(new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(file), 1 << 16), crc));
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+        try (in) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an employee snapshot: " + file);
+            }
+            long lsn = in.readLong();
+            List<Employee<T>> employees = new ArrayList<>();
+            while (in.readByte() == EMPLOYEE) {
+                employees.add(EmployeeRecordCodec.readEmployee(in, idCodec));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("Corrupt employee snapshot: " + file);
+            }
+            database.addEmployees(employees);
+            return lsn;
+        } catch (EOFException e) {
+            throw new IOException("Truncated employee snapshot: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary encoding of an employee ID type for the log and snapshot files
+ * @param <T> Type of the employee ID
+ */
+public interface IdCodec<T> {
+
+    void write(DataOutput out, T id) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    IdCodec<Integer> INTEGER = new IdCodec<>() {
+        @Override
+        public void write(DataOutput out, Integer id) throws IOException {
+            out.writeInt(id);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    IdCodec<String> STRING = new IdCodec<>() {
+        @Override
+        public void write(DataOutput out, String id) throws IOException {
+            out.writeUTF(id);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    IdCodec<java.util.UUID> UUID = new IdCodec<>() {
+        @Override
+        public void write(DataOutput out, java.util.UUID id) throws IOException {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+
+        @Override
+        public java.util.UUID read(DataInput in) throws IOException {
+            return new java.util.UUID(in.readLong(), in.readLong());
+        }
+    };
+}
@@ -0,0 +1,68 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.EmployeeIdAllocator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the employee ID reservation limit in a small file
+ * Layout: [magic:int][limit:long][CRC32 of the limit:int]. A new limit is written to a temporary file,
+ * synced and moved over the old one, so a crash leaves either the old or the new limit.
+ */
+public class IdReservationFile implements EmployeeIdAllocator.ReservationStore {
+
+    private static final int MAGIC = 0x45494431; // "EID1"
+    private static final int SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path file;
+
+    //constructor
+    public IdReservationFile(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public long load() throws IOException {
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+        if (buffer.remaining() != SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not an ID reservation file: " + file);
+        }
+        long limit = buffer.getLong();
+        if (buffer.getInt() != checksum(limit)) {
+            throw new IOException("Corrupt ID reservation file: " + file);
+        }
+        return limit;
+    }
+
+    @Override
+    public void save(long limit) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE).putInt(MAGIC).putLong(limit).putInt(checksum(limit)).flip();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        AtomicFiles.replace(temporary, file);
+    }
+
+    private static int checksum(long limit) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(limit).flip());
+        return (int) crc.getValue();
+    }
+}
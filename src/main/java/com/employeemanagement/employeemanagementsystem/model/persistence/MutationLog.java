@@ -0,0 +1,33 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePatch;
+
+import java.util.List;
+
+/**
+ * Receives every successful EmployeeDatabase mutation, in the order it was applied per employee
+ * The log methods are called while the employee's write lock is held and return a ticket;
+ * awaitDurable(ticket) is called after the lock is released so slow syncs never block other writers.
+ * A mutation is logged before it changes anything, and a log method throws when it can no longer save
+ * the record, so a log that fails rejects the mutation instead of letting it apply in memory only
+ * @param <T> Type of the employee ID
+ */
+public interface MutationLog<T> {
+
+    long logAdd(Employee<T> employee);
+
+    //Logs every field set in an update as one record, so a multi-field update is restored whole or not at all
+    long logUpdate(T employeeId, EmployeePatch changes);
+
+    long logDelete(T employeeId);
+
+    //Logs the new salaries of a salary batch as one record, so the batch is restored whole or not at all
+    long logSalaryBatch(List<T> employeeIds, double[] newSalaries);
+
+    //Throws if records can no longer be logged (the log failed or was closed)
+    void ensureWritable();
+
+    //Blocks until every record up to the ticket is durable
+    void awaitDurable(long ticket);
+}
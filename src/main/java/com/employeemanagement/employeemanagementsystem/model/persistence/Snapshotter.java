@@ -0,0 +1,78 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes EmployeeSnapshot images of a database in the background at a fixed interval
+ * Writers are never paused: each snapshot reads a point-in-time view anchored at the write-ahead log's checkpoint LSN.
+ * Once a snapshot is durable the log records it covers are dropped, so startup loads the snapshot
+ * and replays only the short log written after it.
+ * @param <T> Type of the employee ID
+ */
+public class Snapshotter<T> implements Closeable {
+
+    private final Path file;
+    private final IdCodec<T> idCodec;
+    private final EmployeeDatabase<T> database;
+    private final WriteAheadLog<T> log; // null when the database is not logged
+    private final ScheduledExecutorService scheduler;
+
+    private Snapshotter(Path file, IdCodec<T> idCodec, EmployeeDatabase<T> database, WriteAheadLog<T> log) {
+        this.file = file;
+        this.idCodec = idCodec;
+        this.database = database;
+        this.log = log;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshotter");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    //Starts taking a snapshot every interval (the log may be null)
+    public static <T> Snapshotter<T> start(Path file, IdCodec<T> idCodec, EmployeeDatabase<T> database,
+                                           WriteAheadLog<T> log, Duration interval) {
+        Snapshotter<T> snapshotter = new Snapshotter<>(file, idCodec, database, log);
+        long millis = interval.toMillis();
+        snapshotter.scheduler.scheduleWithFixedDelay(snapshotter::scheduledSnapshot, millis, millis, TimeUnit.MILLISECONDS);
+        return snapshotter;
+    }
+
+    //Takes a snapshot on the calling thread and truncates the log it covers
+    public synchronized void snapshotNow() throws IOException {
+        long lsn = log == null ? 0 : log.checkpointLsn();
+        EmployeeSnapshot.write(file, idCodec, database, lsn);
+        if (log != null) {
+            log.truncateBefore(lsn);
+        }
+    }
+
+    // A failed snapshot leaves the previous one and the full log in place, so the next run simply retries
+    private void scheduledSnapshot() {
+        try {
+            snapshotNow();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Snapshot failed: " + e.getMessage());
+        }
+    }
+
+    //Stops taking snapshots, waiting for one in progress to finish
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
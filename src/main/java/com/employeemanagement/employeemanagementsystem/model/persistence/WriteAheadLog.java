@@ -0,0 +1,494 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeField;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePatch;
+import com.employeemanagement.employeemanagementsystem.model.batch.SalaryPolicy;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of EmployeeDatabase mutations with group commit
+ * File header: [magic:int][LSN of the first record:long]
+ * Record frame: [payload length:int][CRC32 of payload:int][payload]
+ * Payload: [operation:byte][employee ID][operation data]; an update's data is [field count:byte] followed by
+ * [field name][value] per changed field; a salary batch is [operation:byte][count:int] followed by
+ * [employee ID][new salary:double] per employee
+ * Writers only copy their record into an in-memory batch; a flusher thread writes the batch with one
+ * write and one fsync, so many concurrent mutations share the cost of a single sync.
+ * On open the log is replayed and a torn or corrupt tail (from a crash mid-write) is truncated away.
+ * If a batch cannot be written the log fails for good: later mutations are rejected before they change
+ * anything, and the failure listener is told so the application can warn the user.
+ * Records are addressed by log sequence number (LSN): the byte offset of the record counted from the
+ * start of the log's whole history, so LSNs stay valid after truncateBefore drops an old prefix.
+ * @param <T> Type of the employee ID
+ */
+public class WriteAheadLog<T> implements MutationLog<T>, Closeable {
+
+    private static final byte ADD = 1;
+    private static final byte UPDATE = 2;
+    private static final byte DELETE = 3;
+    private static final byte SALARY_BATCH = 4;
+    private static final byte PATCH = 5;
+    private static final EEmployeeField[] FIELDS = EEmployeeField.values();
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int MAGIC = 0x45574C31; // "EWL1"
+    private static final int FILE_HEADER_BYTES = 12;
+
+    /**
+     * Group commit settings
+     * groupCommitWindow: how long the flusher waits for more records before syncing a batch
+     * maxBatchRecords: a batch this large is synced without waiting for the window to end
+     * fsync: whether batches are forced to the storage device (false only trades durability for speed)
+     * waitForDurability: whether mutations block until their record is synced
+     */
+    public record Options(Duration groupCommitWindow, int maxBatchRecords, boolean fsync, boolean waitForDurability) {
+        public static Options defaults() {
+            return new Options(Duration.ofMillis(2), 4096, true, true);
+        }
+    }
+
+    private final Path file;
+    private final IdCodec<T> idCodec;
+    private final Options options;
+    private final Thread flusher;
+
+    // Guarded by channelLock (the flusher writes and truncateBefore swaps files under it)
+    private final Object channelLock = new Object();
+    private FileChannel channel;
+    private long baseLsn; // LSN of the first record in the file
+
+    // Guarded by this
+    private ByteArrayOutputStream batch = new ByteArrayOutputStream();
+    private int batchRecords;
+    private long appendedTicket;
+    private long appendedLsn; // LSN just past the last appended record
+    private long durableTicket;
+    private IOException flushFailure;
+    private boolean closed;
+    private Consumer<IOException> failureListener = failure -> { };
+
+    private WriteAheadLog(Path file, FileChannel channel, IdCodec<T> idCodec, Options options) {
+        this.file = file;
+        this.channel = channel;
+        this.idCodec = idCodec;
+        this.options = options;
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    //Opens (or creates) a log, replays all of its records into the database and starts group commit
+    public static <T> WriteAheadLog<T> open(Path file, IdCodec<T> idCodec, Options options,
+                                            EmployeeDatabase<T> database) throws IOException {
+        return open(file, idCodec, options, database, 0);
+    }
+
+    //Opens (or creates) a log, replays the records from fromLsn on (e.g. those after a snapshot) and starts group commit
+    public static <T> WriteAheadLog<T> open(Path file, IdCodec<T> idCodec, Options options,
+                                            EmployeeDatabase<T> database, long fromLsn) throws IOException {
+        Files.deleteIfExists(compactionFile(file)); // left over from a crash during truncateBefore
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        WriteAheadLog<T> log = new WriteAheadLog<>(file, channel, idCodec, options);
+        try {
+            log.readHeader(fromLsn);
+            if (log.baseLsn > fromLsn) {
+                throw new IOException("Write-ahead log starts at LSN " + log.baseLsn
+                        + " but replay must start at " + fromLsn + "; records are missing");
+            }
+            long start = FILE_HEADER_BYTES + (fromLsn - log.baseLsn);
+            long validEnd = start <= channel.size() ? log.replay(database, start) : start;
+            if (validEnd > channel.size()) {
+                // the snapshot is newer than anything left in the log, so start an empty log after it
+                writeHeader(channel, fromLsn);
+                log.baseLsn = fromLsn;
+                validEnd = FILE_HEADER_BYTES;
+            } else if (validEnd < channel.size()) {
+                channel.truncate(validEnd); // drop the torn tail
+                channel.force(true);
+            }
+            channel.position(validEnd);
+            log.appendedLsn = log.baseLsn + validEnd - FILE_HEADER_BYTES;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        log.flusher.start();
+        return log;
+    }
+
+    // Reads the file header, writing one for a new file (whose first record gets LSN initialLsn)
+    private void readHeader(long initialLsn) throws IOException {
+        if (channel.size() < FILE_HEADER_BYTES) {
+            writeHeader(channel, initialLsn); // new log, or crashed before its header was synced
+            baseLsn = initialLsn;
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // keep reading until the header is complete
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not an employee write-ahead log: " + file);
+        }
+        baseLsn = header.getLong();
+    }
+
+    // Writes and syncs a file header at the start of the channel
+    private static void writeHeader(FileChannel channel, long baseLsn) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putLong(baseLsn);
+        header.flip();
+        channel.truncate(0);
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+    }
+
+    // Replay
+
+    // Applies every intact record from the given file offset on and returns the offset just past the last one
+    private long replay(EmployeeDatabase<T> database, long start) throws IOException {
+        long size = channel.size();
+        long position = start;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                java.nio.channels.Channels.newInputStream(channel.position(position)), 1 << 16));
+        CRC32 crc = new CRC32();
+        while (size - position >= FRAME_HEADER_BYTES) {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0 || length > size - position - FRAME_HEADER_BYTES) {
+                break; // torn tail: the frame claims more bytes than were written
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                break; // torn tail: partially written payload
+            }
+            apply(database, payload);
+            position += FRAME_HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    // Re-applies one logged mutation
+    private void apply(EmployeeDatabase<T> database, byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte operation = in.readByte();
+        switch (operation) {
+            case ADD:
+                // replace any copy of the employee already restored from a snapshot taken while it was changing
+                Employee<T> employee = EmployeeRecordCodec.readEmployee(in, idCodec);
+                if (!database.addEmployee(employee)) {
+                    database.deleteEmployee(employee.employeeId());
+                    database.addEmployee(employee);
+                }
+                break;
+            case UPDATE: // one field, as logged before updates were logged whole
+                T id = idCodec.read(in);
+                String field = in.readUTF();
+                database.updateEmployeeDetails(id, field, EmployeeRecordCodec.readValue(in));
+                break;
+            case PATCH:
+                T patchedId = idCodec.read(in);
+                int fields = in.readUnsignedByte();
+                EmployeePatch patch = new EmployeePatch();
+                for (int i = 0; i < fields; i++) {
+                    EEmployeeField patched = EEmployeeField.forKey(in.readUTF());
+                    Object value = EmployeeRecordCodec.readValue(in);
+                    if (patched == null) {
+                        throw new IOException("Unknown field in logged update of employee " + patchedId);
+                    }
+                    patch.set(patched, value);
+                }
+                database.updateEmployee(patchedId, patch);
+                break;
+            case DELETE:
+                database.deleteEmployee(idCodec.read(in));
+                break;
+            case SALARY_BATCH:
+                int count = in.readInt();
+                Map<T, Double> newSalaries = new HashMap<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    newSalaries.put(idCodec.read(in), in.readDouble());
+                }
+                database.applySalaryPolicy(SalaryPolicy.of(
+                        restored -> newSalaries.containsKey(restored.employeeId()),
+                        restored -> newSalaries.get(restored.employeeId())), false);
+                break;
+            default:
+                throw new IOException("Unknown log operation: " + operation);
+        }
+    }
+
+    // Logging
+
+    @Override
+    public long logAdd(Employee<T> employee) {
+        return append(out -> {
+            out.writeByte(ADD);
+            EmployeeRecordCodec.writeEmployee(out, idCodec, employee);
+        });
+    }
+
+    @Override
+    public long logUpdate(T employeeId, EmployeePatch changes) {
+        return append(out -> {
+            out.writeByte(PATCH);
+            idCodec.write(out, employeeId);
+            int fields = 0;
+            for (EEmployeeField field : FIELDS) {
+                fields += changes.has(field) ? 1 : 0;
+            }
+            out.writeByte(fields);
+            for (EEmployeeField field : FIELDS) {
+                if (changes.has(field)) {
+                    out.writeUTF(field.key());
+                    EmployeeRecordCodec.writeValue(out, changes.get(field));
+                }
+            }
+        });
+    }
+
+    @Override
+    public long logDelete(T employeeId) {
+        return append(out -> {
+            out.writeByte(DELETE);
+            idCodec.write(out, employeeId);
+        });
+    }
+
+    @Override
+    public long logSalaryBatch(List<T> employeeIds, double[] newSalaries) {
+        return append(out -> {
+            out.writeByte(SALARY_BATCH);
+            out.writeInt(employeeIds.size());
+            for (int i = 0; i < newSalaries.length; i++) {
+                idCodec.write(out, employeeIds.get(i));
+                out.writeDouble(newSalaries[i]);
+            }
+        });
+    }
+
+    // Writes a record payload
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // Frames a record and adds it to the current batch
+    private long append(PayloadWriter writer) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        try {
+            writer.write(new DataOutputStream(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        synchronized (this) {
+            ensureWritable(); // a failed log buffers nothing more: its batches are never written
+            DataOutputStream out = new DataOutputStream(batch);
+            try {
+                out.writeInt(bytes.length);
+                out.writeInt((int) crc.getValue());
+                out.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // cannot happen for an in-memory stream
+            }
+            batchRecords++;
+            appendedLsn += FRAME_HEADER_BYTES + bytes.length;
+            if (batchRecords == 1 || batchRecords >= options.maxBatchRecords()) {
+                notifyAll(); // wake the flusher
+            }
+            return ++appendedTicket;
+        }
+    }
+
+    @Override
+    public synchronized void ensureWritable() {
+        if (flushFailure != null) {
+            throw new UncheckedIOException("Write-ahead log failed, changes can no longer be saved", flushFailure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+    }
+
+    //Gets the failure that stopped the log, null while it is working
+    public synchronized IOException failure() {
+        return flushFailure;
+    }
+
+    //Sets the listener told (on the flusher thread) when the log fails and stops saving changes
+    public synchronized void setFailureListener(Consumer<IOException> failureListener) {
+        this.failureListener = failureListener;
+    }
+
+    //Gets the LSN the next record will get; every mutation logged before it is already applied to the database
+    public synchronized long checkpointLsn() {
+        return appendedLsn;
+    }
+
+    @Override
+    public void awaitDurable(long ticket) {
+        if (!options.waitForDurability()) {
+            return;
+        }
+        synchronized (this) {
+            while (durableTicket < ticket) {
+                if (flushFailure != null) {
+                    throw new UncheckedIOException("Write-ahead log flush failed", flushFailure);
+                }
+                if (closed && batchRecords == 0 && durableTicket < ticket) {
+                    throw new IllegalStateException("Write-ahead log closed before the record was written");
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the write-ahead log", e);
+                }
+            }
+        }
+    }
+
+    // Group commit
+
+    // Collects records for up to the group commit window, then writes and syncs them as one batch
+    private void flushLoop() {
+        long windowNanos = options.groupCommitWindow().toNanos();
+        while (true) {
+            ByteArrayOutputStream toWrite;
+            long batchTicket;
+            synchronized (this) {
+                try {
+                    while (batchRecords == 0 && !closed) {
+                        wait();
+                    }
+                    long deadline = System.nanoTime() + windowNanos;
+                    while (!closed && batchRecords < options.maxBatchRecords()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (batchRecords == 0 && closed) {
+                    notifyAll();
+                    return;
+                }
+                toWrite = batch;
+                batchTicket = appendedTicket;
+                batch = new ByteArrayOutputStream(Math.max(1024, toWrite.size()));
+                batchRecords = 0;
+            }
+
+            IOException failure = null;
+            synchronized (channelLock) {
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(toWrite.toByteArray());
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    if (options.fsync()) {
+                        channel.force(false);
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+
+            Consumer<IOException> listener;
+            synchronized (this) {
+                notifyAll();
+                if (failure == null) {
+                    durableTicket = batchTicket;
+                    continue;
+                }
+                flushFailure = failure;
+                batch = new ByteArrayOutputStream(); // records appended meanwhile will never be written either
+                batchRecords = 0;
+                listener = failureListener;
+            }
+            listener.accept(failure);
+            return;
+        }
+    }
+
+    // Compaction
+
+    //Drops the records before the LSN (e.g. once a snapshot covering them is durable)
+    //The records after it are copied into a new file that atomically replaces the log;
+    //writers keep appending meanwhile, only the flusher waits for the copy
+    public void truncateBefore(long lsn) throws IOException {
+        synchronized (channelLock) {
+            if (!channel.isOpen()) {
+                return;
+            }
+            long writtenLsn = baseLsn + channel.size() - FILE_HEADER_BYTES;
+            if (lsn <= baseLsn || lsn > writtenLsn) {
+                return; // nothing to drop, or the records up to the LSN are not written yet
+            }
+            Path compacted = compactionFile(file);
+            try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeHeader(target, lsn);
+                long from = FILE_HEADER_BYTES + (lsn - baseLsn);
+                long count = channel.size() - from;
+                long copied = 0;
+                while (copied < count) {
+                    copied += channel.transferTo(from + copied, count - copied, target.position(FILE_HEADER_BYTES + copied));
+                }
+                target.force(true);
+            }
+            AtomicFiles.replace(compacted, file);
+            channel.close();
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            baseLsn = lsn;
+        }
+    }
+
+    // Temporary file the retained records are copied to by truncateBefore
+    private static Path compactionFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".compact");
+    }
+
+    //Flushes outstanding records and closes the file
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (channelLock) {
+            channel.close();
+        }
+    }
+}
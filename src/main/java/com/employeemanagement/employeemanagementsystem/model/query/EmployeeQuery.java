@@ -0,0 +1,165 @@
+package com.employeemanagement.employeemanagementsystem.model.query;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeSortOrder;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.Locale;
+
+/**
+ * Multi-criteria employee query: any mix of department, name, salary, rating, experience and status filters,
+ * with an optional sort order and limit
+ * Criteria that are not set match every employee. EmployeeDatabase.query plans and runs it.
+ * A query is a plain mutable value: build it on one thread, then hand it to the database.
+ */
+public class EmployeeQuery {
+
+    private EEmployeeDepartment department;
+    private String nameContains;
+    private String normalizedName;
+    private double minSalary = Double.NEGATIVE_INFINITY;
+    private double maxSalary = Double.POSITIVE_INFINITY;
+    private double minRating = Double.NEGATIVE_INFINITY;
+    private double maxRating = Double.POSITIVE_INFINITY;
+    private int minExperience = Integer.MIN_VALUE;
+    private int maxExperience = Integer.MAX_VALUE;
+    private Boolean active;
+    private EEmployeeSortOrder sortOrder;
+    private int limit = Integer.MAX_VALUE;
+
+    public EmployeeQuery department(EEmployeeDepartment department) {
+        this.department = department;
+        return this;
+    }
+
+    //Keeps employees whose name contains the term (case-insensitive)
+    public EmployeeQuery nameContains(String term) {
+        this.nameContains = term;
+        this.normalizedName = term == null ? null : term.toLowerCase(Locale.ROOT);
+        return this;
+    }
+
+    //Keeps salaries in [min, max]
+    public EmployeeQuery salaryBetween(double min, double max) {
+        this.minSalary = min;
+        this.maxSalary = max;
+        return this;
+    }
+
+    //Keeps ratings in [min, max]
+    public EmployeeQuery ratingBetween(double min, double max) {
+        this.minRating = min;
+        this.maxRating = max;
+        return this;
+    }
+
+    //Keeps years of experience in [min, max]
+    public EmployeeQuery experienceBetween(int min, int max) {
+        this.minExperience = min;
+        this.maxExperience = max;
+        return this;
+    }
+
+    public EmployeeQuery active(boolean active) {
+        this.active = active;
+        return this;
+    }
+
+    //Orders the results highest first
+    public EmployeeQuery sortBy(EEmployeeSortOrder sortOrder) {
+        this.sortOrder = sortOrder;
+        return this;
+    }
+
+    //Returns at most this many results (the first ones of the sort order when one is set)
+    public EmployeeQuery limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    //Checks an employee against every criterion
+    public boolean matches(Employee<?> employee) {
+        if (department != null && employee.employeeDepartment() != department) {
+            return false;
+        }
+        if (active != null && employee.isActive() != active) {
+            return false;
+        }
+        double salary = employee.employeeSalary();
+        if (salary < minSalary || salary > maxSalary) {
+            return false;
+        }
+        double rating = employee.performanceRating();
+        if (rating < minRating || rating > maxRating) {
+            return false;
+        }
+        int experience = employee.yearsOfExperience();
+        if (experience < minExperience || experience > maxExperience) {
+            return false;
+        }
+        return normalizedName == null || employee.employeeName().toLowerCase(Locale.ROOT).contains(normalizedName);
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != Double.NEGATIVE_INFINITY || maxSalary != Double.POSITIVE_INFINITY;
+    }
+
+    public boolean hasRatingRange() {
+        return minRating != Double.NEGATIVE_INFINITY || maxRating != Double.POSITIVE_INFINITY;
+    }
+
+    public boolean hasExperienceRange() {
+        return minExperience != Integer.MIN_VALUE || maxExperience != Integer.MAX_VALUE;
+    }
+
+    public boolean hasLimit() {
+        return limit != Integer.MAX_VALUE;
+    }
+
+    public EEmployeeDepartment getDepartment() {
+        return department;
+    }
+
+    public String getNameContains() {
+        return nameContains;
+    }
+
+    public double getMinSalary() {
+        return minSalary;
+    }
+
+    public double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public double getMinRating() {
+        return minRating;
+    }
+
+    public double getMaxRating() {
+        return maxRating;
+    }
+
+    public int getMinExperience() {
+        return minExperience;
+    }
+
+    public int getMaxExperience() {
+        return maxExperience;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public EEmployeeSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,23 @@
+package com.employeemanagement.employeemanagementsystem.model.query;
+
+/**
+ * How EmployeeDatabase runs an EmployeeQuery: where candidates come from and how many are expected
+ * Every candidate is still checked against all criteria, so the access path only decides how much is read.
+ * @param access source of the candidates
+ * @param estimatedRows number of candidates the planner expects to read
+ */
+public record QueryPlan(Access access, int estimatedRows) {
+
+    /**
+     * Candidate sources, from a full scan to a single index
+     */
+    public enum Access {
+        FULL_SCAN,          // every stored employee
+        BITMAP_INDEX,       // the department and status bitmaps, ANDed when both are filtered
+        NAME_INDEX,         // trigram matches of the name term
+        SALARY_INDEX,       // a salary range
+        RATING_INDEX,       // a rating range
+        EXPERIENCE_INDEX,   // an experience range
+        SORTED_INDEX_WALK   // the sort order's index, highest first, stopping once the limit is reached
+    }
+}
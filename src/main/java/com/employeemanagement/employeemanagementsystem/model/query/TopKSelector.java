@@ -0,0 +1,70 @@
+package com.employeemanagement.employeemanagementsystem.model.query;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+/**
+ * Bounded-heap selection of the first k elements of an ordering (e.g. the k highest paid employees)
+ * Runs in O(m log k) time and O(k) memory instead of sorting all m elements.
+ * The collector form merges per-chunk heaps, so it also works on parallel streams.
+ * @param <E> Type of the selected element
+ */
+public class TopKSelector<E> {
+
+    private final int k;
+    private final Comparator<? super E> order;
+    private final PriorityQueue<E> heap; // head is the worst element kept so far
+
+    //constructor
+    public TopKSelector(int k, Comparator<? super E> order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), order.reversed());
+    }
+
+    //Offers an element, keeping it only if it belongs to the current top k
+    public void offer(E element) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (k > 0 && order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    //Merges the elements kept by another selector into this one
+    public TopKSelector<E> merge(TopKSelector<E> other) {
+        for (E element : other.heap) {
+            offer(element);
+        }
+        return this;
+    }
+
+    //Gets the selected elements, best first
+    public List<E> result() {
+        List<E> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    //Selects the first k elements of the ordering from any iterable source
+    public static <E> List<E> select(Iterable<? extends E> source, int k, Comparator<? super E> order) {
+        TopKSelector<E> selector = new TopKSelector<>(k, order);
+        for (E element : source) {
+            selector.offer(element);
+        }
+        return selector.result();
+    }
+
+    //Collector form: each stream chunk fills its own heap and the heaps are merged at the end
+    public static <E> Collector<E, ?, List<E>> topK(int k, Comparator<? super E> order) {
+        return Collector.of(
+                () -> new TopKSelector<E>(k, order),
+                TopKSelector::offer,
+                TopKSelector::merge,
+                TopKSelector::result);
+    }
+}
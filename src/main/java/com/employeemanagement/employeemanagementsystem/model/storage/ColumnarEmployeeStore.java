@@ -0,0 +1,222 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Column-oriented copy of the employee fields, addressed by internal row number
+ * Salary, rating and experience live in parallel primitive arrays, the active flag in a bitset,
+ * the department in a byte column (ordinal, -1 for an empty row) and the name as a dictionary code.
+ * Aggregates are plain loops over the arrays and never touch Employee objects.
+ */
+public class ColumnarEmployeeStore {
+
+    private static final byte EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+
+    private double[] salary;
+    private double[] rating;
+    private int[] experience;
+    private byte[] department;
+    private int[] nameCode;
+    private long[] activeBits;
+    private int rowLimit; // one past the highest row ever written
+
+    // Name dictionary: each distinct name is stored once
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> nameCodes = new HashMap<>();
+
+    //constructor
+    public ColumnarEmployeeStore() {
+        salary = new double[INITIAL_CAPACITY];
+        rating = new double[INITIAL_CAPACITY];
+        experience = new int[INITIAL_CAPACITY];
+        department = new byte[INITIAL_CAPACITY];
+        Arrays.fill(department, EMPTY);
+        nameCode = new int[INITIAL_CAPACITY];
+        activeBits = new long[INITIAL_CAPACITY >>> 6];
+    }
+
+    // Writes
+
+    //Writes every column of a row
+    public void put(int row, String name, EEmployeeDepartment dept, double salaryValue,
+                    double ratingValue, int yearsOfExperience, boolean active) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(row + 1);
+            salary[row] = salaryValue;
+            rating[row] = ratingValue;
+            experience[row] = yearsOfExperience;
+            department[row] = (byte) dept.ordinal();
+            nameCode[row] = encodeName(name);
+            writeActive(row, active);
+            rowLimit = Math.max(rowLimit, row + 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    //Clears a row after its employee was deleted
+    public void clear(int row) {
+        long stamp = lock.writeLock();
+        try {
+            if (row < rowLimit) {
+                department[row] = EMPTY;
+                writeActive(row, false);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void setSalary(int row, double value) {
+        long stamp = lock.writeLock();
+        try {
+            salary[row] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void setRating(int row, double value) {
+        long stamp = lock.writeLock();
+        try {
+            rating[row] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void setExperience(int row, int value) {
+        long stamp = lock.writeLock();
+        try {
+            experience[row] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void setDepartment(int row, EEmployeeDepartment value) {
+        long stamp = lock.writeLock();
+        try {
+            department[row] = (byte) value.ordinal();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void setName(int row, String value) {
+        long stamp = lock.writeLock();
+        try {
+            nameCode[row] = encodeName(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void setActive(int row, boolean value) {
+        long stamp = lock.writeLock();
+        try {
+            writeActive(row, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Aggregates
+
+    //Calculates the average salary of a department, 0 when it has no employees
+    public double averageSalary(EEmployeeDepartment dept) {
+        long stamp = lock.readLock();
+        try {
+            byte code = (byte) dept.ordinal();
+            double sum = 0;
+            int count = 0;
+            for (int i = 0; i < rowLimit; i++) {
+                if (department[i] == code) {
+                    sum += salary[i];
+                    count++;
+                }
+            }
+            return count == 0 ? 0 : sum / count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Counts active employees with a popcount over the active bitset
+    public int activeCount() {
+        long stamp = lock.readLock();
+        try {
+            int words = (rowLimit + 63) >>> 6;
+            int count = 0;
+            for (int i = 0; i < words; i++) {
+                count += Long.bitCount(activeBits[i]);
+            }
+            return count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Counts the employees of a department
+    public int departmentCount(EEmployeeDepartment dept) {
+        long stamp = lock.readLock();
+        try {
+            byte code = (byte) dept.ordinal();
+            int count = 0;
+            for (int i = 0; i < rowLimit; i++) {
+                if (department[i] == code) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Helpers (callers hold the write lock)
+
+    private void writeActive(int row, boolean active) {
+        if (active) {
+            activeBits[row >>> 6] |= 1L << row;
+        } else {
+            activeBits[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    private int encodeName(String name) {
+        Integer code = nameCodes.get(name);
+        if (code == null) {
+            code = names.size();
+            names.add(name);
+            nameCodes.put(name, code);
+        }
+        return code;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= salary.length) {
+            return;
+        }
+        int capacity = Math.max(rows, salary.length * 2);
+        salary = Arrays.copyOf(salary, capacity);
+        rating = Arrays.copyOf(rating, capacity);
+        experience = Arrays.copyOf(experience, capacity);
+        int oldLength = department.length;
+        department = Arrays.copyOf(department, capacity);
+        Arrays.fill(department, oldLength, capacity, EMPTY);
+        nameCode = Arrays.copyOf(nameCode, capacity);
+        activeBits = Arrays.copyOf(activeBits, (capacity + 63) >>> 6);
+    }
+}
@@ -0,0 +1,416 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent map from primitive int keys to values, using open addressing with linear probing
+ * Keys live in an int[] next to a parallel value array, so an entry costs two array slots instead of a
+ * hash node plus a boxed Integer, and int lookups never box. A probe only reads the key array until it
+ * finds the key (0 marks a free slot, so the entry of key 0 is kept aside), which keeps a miss to one
+ * cache line. The keys are split over 64 segments; writes lock only their segment, reads are lock-free:
+ * a key is published with a release store after its value, and a slot keeps its key until the segment
+ * is rehashed, so a reader never pairs a key with another key's value. A removed entry leaves a tombstone
+ * that only the same key reuses; tombstones are dropped when the segment is rehashed.
+ * Null values are not allowed.
+ * Iteration is weakly consistent, like ConcurrentHashMap's.
+ * @param <V> Type of the mapped values
+ */
+public class ConcurrentIntMap<V> extends AbstractMap<Integer, V> {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_CAPACITY = 16; // slots per segment, a power of two
+    private static final int FREE = 0; // key of an unused slot
+    private static final Object DELETED = new Object(); // tombstone value
+    private static final VarHandle KEY = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final Object freeKeyLock = new Object(); // writers of key 0 synchronize on it
+    private volatile Object freeKeyValue; // value of key 0, null when absent
+
+    // One probe table: values[i] is meaningful only once keys[i] is set
+    private static final class Table {
+        final int[] keys;
+        final Object[] values;
+        final int mask;
+        final int shift; // moves the hash bits just below the segment bits down to a slot number
+
+        Table(int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+            shift = Long.SIZE - SEGMENT_BITS - Integer.numberOfTrailingZeros(capacity);
+        }
+
+        // First slot to probe for a hash
+        int home(long hash) {
+            return (int) (hash >>> shift) & mask;
+        }
+    }
+
+    // Keys whose hash selects this segment; writers synchronize on it
+    private static final class Segment {
+        volatile Table table = new Table(MIN_CAPACITY);
+        volatile int size; // live entries
+        int used; // slots holding a live entry or a tombstone
+    }
+
+    //constructor
+    public ConcurrentIntMap() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    // Fibonacci hashing: the top bits of the product pick the segment and the bits below them the first slot,
+    // which spreads runs and strides of IDs (e.g. multiples of 4096) evenly; the low bits would not
+    private static long hash(int key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    // Primitive operations
+
+    //Gets the value of a key, null when absent
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == FREE) {
+            return (V) freeKeyValue;
+        }
+        long h = hash(key);
+        Table table = segmentFor(h).table;
+        for (int i = table.home(h); ; i = (i + 1) & table.mask) {
+            int stored = (int) KEY.getAcquire(table.keys, i);
+            if (stored == key) {
+                Object value = SLOT.getAcquire(table.values, i);
+                return value == DELETED ? null : (V) value;
+            }
+            if (stored == FREE) {
+                return null;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    //Maps a key to a value, returning the previous value (null if none)
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("null values are not supported");
+        }
+        if (key == FREE) {
+            synchronized (freeKeyLock) {
+                V previous = (V) freeKeyValue;
+                freeKeyValue = value;
+                return previous;
+            }
+        }
+        long h = hash(key);
+        Segment segment = segmentFor(h);
+        synchronized (segment) {
+            Table table = segment.table;
+            int slot = probe(table, key, h);
+            if (table.keys[slot] == key) {
+                Object previous = table.values[slot];
+                SLOT.setRelease(table.values, slot, value); // live entry or tombstone of the same key
+                if (previous == DELETED) {
+                    segment.size++;
+                    return null;
+                }
+                return (V) previous;
+            }
+            if ((segment.used + 1) * 2 > table.keys.length) { // keep the load at or below 1/2
+                table = rehash(segment);
+                slot = probe(table, key, h);
+            }
+            table.values[slot] = value;
+            KEY.setRelease(table.keys, slot, key); // publishes the value with the key
+            segment.used++;
+            segment.size++;
+            return null;
+        }
+    }
+
+    //Removes a key, returning its value (null if it was absent)
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == FREE) {
+            synchronized (freeKeyLock) {
+                V previous = (V) freeKeyValue;
+                freeKeyValue = null;
+                return previous;
+            }
+        }
+        long h = hash(key);
+        Segment segment = segmentFor(h);
+        synchronized (segment) {
+            Table table = segment.table;
+            int slot = probe(table, key, h);
+            Object previous = table.values[slot];
+            if (table.keys[slot] != key || previous == DELETED) {
+                return null;
+            }
+            SLOT.setRelease(table.values, slot, DELETED);
+            segment.size--;
+            return (V) previous;
+        }
+    }
+
+    // Finds the slot holding the key, or the empty slot that ends its probe sequence
+    private static int probe(Table table, int key, long h) {
+        int i = table.home(h);
+        while (table.keys[i] != FREE && table.keys[i] != key) {
+            i = (i + 1) & table.mask;
+        }
+        return i;
+    }
+
+    // Copies a segment's live entries into a table with three slots per entry or more and publishes it
+    // (readers still probing the old table see it unchanged)
+    private static Table rehash(Segment segment) {
+        Table old = segment.table;
+        int capacity = MIN_CAPACITY;
+        while (capacity < (segment.size + 1) * 3) {
+            capacity <<= 1;
+        }
+        Table table = new Table(capacity);
+        for (int i = 0; i < old.keys.length; i++) {
+            Object value = old.values[i];
+            if (old.keys[i] != FREE && value != DELETED) {
+                int slot = probe(table, old.keys[i], hash(old.keys[i]));
+                table.keys[slot] = old.keys[i];
+                table.values[slot] = value;
+            }
+        }
+        segment.used = segment.size;
+        segment.table = table;
+        return table;
+    }
+
+    //Estimates the heap held by the probe tables, in bytes (the values themselves excluded)
+    public long sizeInBytes() {
+        long bytes = 16L + 16L + 4L * SEGMENTS;
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            bytes += 24 + 24 + 16 + 4L * table.keys.length + 16 + 4L * table.values.length;
+        }
+        return bytes;
+    }
+
+    // Map view (boxed keys are unboxed on the way in)
+
+    @Override
+    public V get(Object key) {
+        return key instanceof Integer id ? get(id.intValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(Integer key, V value) {
+        return put(key.intValue(), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return key instanceof Integer id ? remove(id.intValue()) : null;
+    }
+
+    @Override
+    public int size() {
+        int size = freeKeyValue != null ? 1 : 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        remove(FREE);
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.table = new Table(MIN_CAPACITY);
+                segment.used = 0;
+                segment.size = 0;
+            }
+        }
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Cursor<V>(0, SEGMENTS, (key, value) -> value);
+            }
+
+            @Override
+            public Spliterator<V> spliterator() {
+                return new Cursor<V>(0, SEGMENTS, (key, value) -> value);
+            }
+
+            @Override
+            public int size() {
+                return ConcurrentIntMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, V>> iterator() {
+                return new Cursor<Entry<Integer, V>>(0, SEGMENTS, SimpleImmutableEntry::new);
+            }
+
+            @Override
+            public int size() {
+                return ConcurrentIntMap.this.size();
+            }
+        };
+    }
+
+    // Turns a live slot into the element a view yields
+    private interface SlotReader<V, E> {
+        E read(int key, V value);
+    }
+
+    // Weakly consistent walk over a range of segments, usable as an iterator and as a spliterator that
+    // splits by segment so parallel streams get even shares (the range starting at segment 0 also yields key 0)
+    private final class Cursor<E> implements Iterator<E>, Spliterator<E> {
+        private final SlotReader<V, E> reader;
+        private int segment; // next segment to open
+        private final int end;
+        private boolean freeKeyPending;
+        private Table table; // table being walked, null before the first segment
+        private int slot;
+        private E next;
+
+        Cursor(int from, int to, SlotReader<V, E> reader) {
+            this.segment = from;
+            this.end = to;
+            this.freeKeyPending = from == 0;
+            this.reader = reader;
+        }
+
+        // Moves to the next live entry, returning false when the range is exhausted
+        @SuppressWarnings("unchecked")
+        private boolean advance() {
+            if (freeKeyPending) {
+                freeKeyPending = false;
+                Object value = freeKeyValue;
+                if (value != null) {
+                    next = reader.read(FREE, (V) value);
+                    return true;
+                }
+            }
+            while (true) {
+                if (table != null) {
+                    while (slot < table.keys.length) {
+                        int i = slot++;
+                        int key = (int) KEY.getAcquire(table.keys, i);
+                        if (key == FREE) {
+                            continue;
+                        }
+                        Object value = SLOT.getAcquire(table.values, i);
+                        if (value != DELETED) {
+                            next = reader.read(key, (V) value);
+                            return true;
+                        }
+                    }
+                    table = null;
+                }
+                if (segment >= end) {
+                    return false;
+                }
+                table = segments[segment++].table;
+                slot = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null || advance();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E element = next;
+            next = null;
+            return element;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            while (hasNext()) {
+                action.accept(next());
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (table != null || next != null || end - segment < 2) {
+                return null; // split only before walking, by whole segments
+            }
+            int middle = (segment + end) >>> 1;
+            Cursor<E> prefix = new Cursor<>(segment, middle, reader);
+            prefix.freeKeyPending = freeKeyPending;
+            freeKeyPending = false;
+            segment = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = freeKeyPending && freeKeyValue != null ? 1 : 0;
+            for (int i = segment; i < end; i++) {
+                size += segments[i].size;
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.NONNULL | Spliterator.CONCURRENT;
+        }
+    }
+}
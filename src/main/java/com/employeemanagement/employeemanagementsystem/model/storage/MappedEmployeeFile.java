@@ -0,0 +1,300 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePageSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-only roster file of fixed-width employee records, memory-mapped with FileChannel.map
+ * Layout: [header: 32 bytes][records: 32 bytes each][string heap]
+ * Record: [ID:int][name offset into the heap:int][salary:double][rating:double][experience:int]
+ *         [department ordinal:byte][active:byte][2 bytes padding]
+ * Heap entry: [UTF-8 length:int][UTF-8 bytes]
+ * Opening a file only maps it, so a multi-million-row roster opens instantly; fields are read
+ * in place through a reusable Record flyweight and heap usage does not grow with the roster size.
+ * All values are little-endian. IDs are stored as int, so the format covers the Integer-keyed roster the application uses.
+ */
+public class MappedEmployeeFile implements Closeable {
+
+    private static final int MAGIC = 0x454D5031; // "EMP1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 32;
+
+    // Field offsets within a record
+    private static final int ID = 0;
+    private static final int NAME_OFFSET = 4;
+    private static final int SALARY = 8;
+    private static final int RATING = 16;
+    private static final int EXPERIENCE = 24;
+    private static final int DEPARTMENT = 28;
+    private static final int ACTIVE = 29;
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer records;
+    private final MappedByteBuffer heap;
+    private final int size;
+
+    private MappedEmployeeFile(FileChannel channel, MappedByteBuffer records, MappedByteBuffer heap, int size) {
+        this.channel = channel;
+        this.records = records;
+        this.heap = heap;
+        this.size = size;
+    }
+
+    // Writing
+
+    //Writes employees to a new roster file (records and heap are streamed, nothing is held per employee)
+    public static void write(Path file, Collection<Employee<Integer>> employees) throws IOException {
+        int count = employees.size();
+        long recordsEnd = HEADER_BYTES + (long) count * RECORD_BYTES;
+        if (recordsEnd > Integer.MAX_VALUE) {
+            throw new IOException("Too many employees for one roster file: " + count);
+        }
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_BYTES * 2048).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer heapBuffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            long recordPosition = HEADER_BYTES;
+            long heapPosition = recordsEnd;
+            int heapOffset = 0;
+            int written = 0;
+
+            for (Employee<Integer> employee : employees) {
+                if (written++ == count) {
+                    throw new IOException("Employee collection grew while it was written");
+                }
+                byte[] name = employee.employeeName().getBytes(StandardCharsets.UTF_8);
+                if (heapBuffer.remaining() < Integer.BYTES + name.length) {
+                    heapPosition += flush(out, heapBuffer, heapPosition);
+                    if (heapBuffer.capacity() < Integer.BYTES + name.length) {
+                        heapBuffer = ByteBuffer.allocate(Integer.BYTES + name.length).order(ByteOrder.LITTLE_ENDIAN);
+                    }
+                }
+                heapBuffer.putInt(name.length).put(name);
+
+                if (!recordBuffer.hasRemaining()) {
+                    recordPosition += flush(out, recordBuffer, recordPosition);
+                }
+                recordBuffer.putInt(employee.employeeId())
+                        .putInt(heapOffset)
+                        .putDouble(employee.employeeSalary())
+                        .putDouble(employee.performanceRating())
+                        .putInt(employee.yearsOfExperience())
+                        .put((byte) employee.employeeDepartment().ordinal())
+                        .put((byte) (employee.isActive() ? 1 : 0))
+                        .putShort((short) 0);
+                heapOffset += Integer.BYTES + name.length;
+                if (heapOffset < 0) {
+                    throw new IOException("Employee names exceed the 2 GB string heap");
+                }
+            }
+            if (written != count) {
+                throw new IOException("Employee collection shrank while it was written");
+            }
+            flush(out, recordBuffer, recordPosition);
+            flush(out, heapBuffer, heapPosition);
+
+            // the header goes last, so a crashed write never looks like a valid file
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC).putInt(VERSION).putInt(count).putInt(RECORD_BYTES)
+                    .putLong(recordsEnd).putLong(heapOffset);
+            flush(out, header, 0);
+            out.force(true);
+        }
+    }
+
+    // Writes a filled buffer at the position, clears it and returns the number of bytes written
+    private static int flush(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            out.write(buffer, position + length - buffer.remaining());
+        }
+        buffer.clear();
+        return length;
+    }
+
+    // Reading
+
+    //Maps a roster file written by write
+    public static MappedEmployeeFile open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not an employee roster file: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not an employee roster file: " + file);
+            }
+            int count = header.getInt();
+            int recordBytes = header.getInt();
+            long heapStart = header.getLong();
+            long heapLength = header.getLong();
+            if (count < 0 || recordBytes != RECORD_BYTES || heapStart != HEADER_BYTES + (long) count * RECORD_BYTES
+                    || heapLength < 0 || heapStart + heapLength > channel.size()) {
+                throw new IOException("Corrupt employee roster file: " + file);
+            }
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, heapStart - HEADER_BYTES);
+            MappedByteBuffer heap = channel.map(FileChannel.MapMode.READ_ONLY, heapStart, heapLength);
+            records.order(ByteOrder.LITTLE_ENDIAN);
+            heap.order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedEmployeeFile(channel, records, heap, count);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //Gets the number of employees in the file
+    public int size() {
+        return size;
+    }
+
+    //Creates a flyweight for reading records; each reading thread needs its own
+    public Record record() {
+        return new Record();
+    }
+
+    /**
+     * Movable view of one record: at(index) repositions it, the getters read the mapped bytes in place
+     */
+    public final class Record {
+
+        private int base;
+
+        private Record() {
+        }
+
+        //Positions the flyweight on the record at the index
+        public Record at(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Record " + index + " of " + size);
+            }
+            base = index * RECORD_BYTES;
+            return this;
+        }
+
+        public int employeeId() {
+            return records.getInt(base + ID);
+        }
+
+        //Decodes the name from the string heap (the only getter that allocates)
+        public String employeeName() {
+            int offset = records.getInt(base + NAME_OFFSET);
+            int length = heap.getInt(offset);
+            byte[] bytes = new byte[length];
+            heap.get(offset + Integer.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        public EEmployeeDepartment department() {
+            return DEPARTMENTS[records.get(base + DEPARTMENT)];
+        }
+
+        public double salary() {
+            return records.getDouble(base + SALARY);
+        }
+
+        public double performanceRating() {
+            return records.getDouble(base + RATING);
+        }
+
+        public int yearsOfExperience() {
+            return records.getInt(base + EXPERIENCE);
+        }
+
+        public boolean isActive() {
+            return records.get(base + ACTIVE) != 0;
+        }
+
+        //Materializes the record as an Employee object
+        public Employee<Integer> toEmployee() {
+            return new Employee<>(employeeId(), employeeName(), department(), salary(),
+                    performanceRating(), yearsOfExperience(), isActive());
+        }
+    }
+
+    // Aggregates (scan the mapped records without creating objects)
+
+    //Calculates the average salary of a department, 0 when it has no employees
+    public double averageSalary(EEmployeeDepartment dept) {
+        byte ordinal = (byte) dept.ordinal();
+        double sum = 0;
+        int count = 0;
+        for (int base = 0; base < size * RECORD_BYTES; base += RECORD_BYTES) {
+            if (records.get(base + DEPARTMENT) == ordinal) {
+                sum += records.getDouble(base + SALARY);
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    //Counts the active employees
+    public int activeCount() {
+        int count = 0;
+        for (int base = 0; base < size * RECORD_BYTES; base += RECORD_BYTES) {
+            count += records.get(base + ACTIVE);
+        }
+        return count;
+    }
+
+    //Pages the file's records into the employee table; only the requested page is materialized
+    //Pages are in file order and cost O(limit); indexOf scans the ID column, O(n), as the file has no ID index
+    public EmployeePageSource<Integer> asPageSource() {
+        return new EmployeePageSource<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public List<Employee<Integer>> page(int offset, int limit) {
+                int from = Math.min(Math.max(offset, 0), size);
+                int to = (int) Math.min(size, (long) from + Math.max(limit, 0));
+                Record record = record();
+                List<Employee<Integer>> page = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    page.add(record.at(i).toEmployee());
+                }
+                return page;
+            }
+
+            // reads 4 bytes per record and creates no objects
+            @Override
+            public int indexOf(Employee<Integer> employee) {
+                int id = employee.employeeId();
+                for (int i = 0; i < size; i++) {
+                    if (records.getInt(i * RECORD_BYTES + ID) == id) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+        };
+    }
+
+    //Releases the file; the mapping itself is unmapped once it is no longer reachable
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out dense internal row numbers for stored employees
+ * Rows released by deletes are reused first so row numbers stay close to the employee count
+ */
+public class RowAllocator {
+
+    private final AtomicInteger nextRow = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> freeRows = new ConcurrentLinkedQueue<>();
+
+    //Gets a free row number
+    public int allocate() {
+        Integer reused = freeRows.poll();
+        return reused != null ? reused : nextRow.getAndIncrement();
+    }
+
+    //Returns a row number so a later allocation can reuse it
+    public void release(int row) {
+        freeRows.offer(row);
+    }
+
+    //Gets one past the highest row number ever handed out
+    public int highWaterMark() {
+        return nextRow.get();
+    }
+}
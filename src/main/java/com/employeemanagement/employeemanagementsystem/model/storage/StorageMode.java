@@ -0,0 +1,10 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+/**
+ * How EmployeeDatabase keeps the numeric employee fields used by aggregates
+ * OBJECT answers them from the running department aggregates, COLUMNAR also mirrors the fields into
+ * primitive column arrays and answers the average salary and active count by scanning those
+ */
+public enum StorageMode {
+    OBJECT, COLUMNAR
+}
@@ -179,12 +179,12 @@ public class EmployeeFormView extends VBox {
 
     public void displayEmployee(Employee<Integer> employee) {
         if (employee != null) {
-            idField.setText(employee.getEmployeeId().toString());
-            nameField.setText(employee.getEmployeeName());
-            departmentComboBox.setValue(employee.getEmployeeDepartment().name());
-            salaryField.setText(String.valueOf(employee.getEmployeeSalary()));
-            ratingField.setText(String.valueOf(employee.getPerformanceRating()));
-            experienceField.setText(String.valueOf(employee.getYearsOfExperience()));
+            idField.setText(employee.employeeId().toString());
+            nameField.setText(employee.employeeName());
+            departmentComboBox.setValue(employee.employeeDepartment().name());
+            salaryField.setText(String.valueOf(employee.employeeSalary()));
+            ratingField.setText(String.valueOf(employee.performanceRating()));
+            experienceField.setText(String.valueOf(employee.yearsOfExperience()));
             activeCheckBox.setSelected(employee.isActive());
         }
     }
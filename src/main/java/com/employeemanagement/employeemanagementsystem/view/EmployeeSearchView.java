@@ -9,12 +9,18 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 
 /**
  * JavaFX view component for searching and sorting employees
+ * The second row holds optional filters that are combined with the search term into one query
  */
 
-public class EmployeeSearchView extends HBox {
+public class EmployeeSearchView extends VBox {
+    // First entries of the filter dropdowns, meaning "no filter"
+    public static final String ANY_DEPARTMENT = "Any Department";
+    public static final String ANY_STATUS = "Any Status";
+
     private TextField searchField;
     private ComboBox<String> searchTypeComboBox;
     private ComboBox<String> sortComboBox;
@@ -22,14 +28,21 @@ public class EmployeeSearchView extends HBox {
     private Button sortButton;
     private Button resetButton;
     private Button refreshButton;
+    private ComboBox<String> departmentFilterComboBox;
+    private ComboBox<String> statusFilterComboBox;
+    private TextField minSalaryField;
+    private TextField maxSalaryField;
+    private TextField minRatingField;
+    private TextField minExperienceField;
+    private TextField limitField;
 
     // Constructor
     public EmployeeSearchView() {
         setPadding(new Insets(15));
         setSpacing(10);
-        setAlignment(Pos.CENTER_LEFT);
 
         setupSearchControls();
+        setupFilterControls();
     }
 
     private void setupSearchControls() {
@@ -87,7 +100,9 @@ public class EmployeeSearchView extends HBox {
         refreshButton.setOnMouseExited(e -> refreshButton.setStyle("-fx-background-color: #2ECC71; -fx-text-fill: white; " + buttonStyle));
 
         // Add all to search pane with better organization
-        getChildren().addAll(
+        HBox searchRow = new HBox(10);
+        searchRow.setAlignment(Pos.CENTER_LEFT);
+        searchRow.getChildren().addAll(
                 searchLabel,
                 searchField,
                 searchTypeComboBox,
@@ -99,6 +114,60 @@ public class EmployeeSearchView extends HBox {
                 resetButton,
                 refreshButton
         );
+        getChildren().add(searchRow);
+    }
+
+    private void setupFilterControls() {
+        Label filterLabel = new Label("Filters:");
+        filterLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+
+        String fieldStyle = "-fx-background-radius: 5; -fx-border-radius: 5;";
+
+        departmentFilterComboBox = new ComboBox<>();
+        departmentFilterComboBox.getItems().add(ANY_DEPARTMENT);
+        departmentFilterComboBox.setValue(ANY_DEPARTMENT);
+        departmentFilterComboBox.setStyle(fieldStyle);
+
+        statusFilterComboBox = new ComboBox<>();
+        statusFilterComboBox.getItems().addAll(ANY_STATUS, "Active", "Inactive");
+        statusFilterComboBox.setValue(ANY_STATUS);
+        statusFilterComboBox.setStyle(fieldStyle);
+
+        minSalaryField = filterField("Min salary", 90);
+        maxSalaryField = filterField("Max salary", 90);
+        minRatingField = filterField("Min rating", 80);
+        minExperienceField = filterField("Min experience", 100);
+        limitField = filterField("Limit", 60);
+
+        HBox filterRow = new HBox(10);
+        filterRow.setAlignment(Pos.CENTER_LEFT);
+        filterRow.getChildren().addAll(
+                filterLabel,
+                departmentFilterComboBox,
+                minSalaryField,
+                maxSalaryField,
+                minRatingField,
+                minExperienceField,
+                statusFilterComboBox,
+                limitField
+        );
+        getChildren().add(filterRow);
+    }
+
+    // Small text field with a prompt
+    private static TextField filterField(String prompt, double width) {
+        TextField field = new TextField();
+        field.setPromptText(prompt);
+        field.setPrefWidth(width);
+        field.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
+        return field;
+    }
+
+    // Populate the department filter (after the "any" entry)
+    public void populateDepartments(String[] departments) {
+        departmentFilterComboBox.getItems().setAll(ANY_DEPARTMENT);
+        departmentFilterComboBox.getItems().addAll(departments);
+        departmentFilterComboBox.setValue(ANY_DEPARTMENT);
     }
 
     // Flexible spacer
@@ -113,6 +182,17 @@ public class EmployeeSearchView extends HBox {
         searchField.clear();
     }
 
+    // Clear the filters back to "no filter"
+    public void clearFilters() {
+        departmentFilterComboBox.setValue(ANY_DEPARTMENT);
+        statusFilterComboBox.setValue(ANY_STATUS);
+        minSalaryField.clear();
+        maxSalaryField.clear();
+        minRatingField.clear();
+        minExperienceField.clear();
+        limitField.clear();
+    }
+
     // Getters remain the same
     public TextField getSearchField() {
         return searchField;
@@ -141,4 +221,32 @@ public class EmployeeSearchView extends HBox {
     public Button getRefreshButton() {
         return refreshButton;
     }
+
+    public ComboBox<String> getDepartmentFilterComboBox() {
+        return departmentFilterComboBox;
+    }
+
+    public ComboBox<String> getStatusFilterComboBox() {
+        return statusFilterComboBox;
+    }
+
+    public TextField getMinSalaryField() {
+        return minSalaryField;
+    }
+
+    public TextField getMaxSalaryField() {
+        return maxSalaryField;
+    }
+
+    public TextField getMinRatingField() {
+        return minRatingField;
+    }
+
+    public TextField getMinExperienceField() {
+        return minExperienceField;
+    }
+
+    public TextField getLimitField() {
+        return limitField;
+    }
 }
\ No newline at end of file
@@ -1,20 +1,20 @@
 package com.employeemanagement.employeemanagementsystem.view;
 
 import com.employeemanagement.employeemanagementsystem.model.Employee;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePageSource;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * JavaFX view component for displaying employees in a table
@@ -23,9 +23,13 @@ import java.util.List;
 public class EmployeeView extends BorderPane {
 
     private TableView<Employee<Integer>> employeeTable;
-    private ObservableList<Employee<Integer>> employeeData;
+    private PagedEmployeeList<Integer> employeeData;
     private final Label titleLabel;
     private final Button consoleReportButton;
+    private final Button importButton;
+    private final Button exportButton;
+    private EmployeePageSource<Integer> shownEmployees;
+    private final ProgressIndicator busyIndicator;
 
     // Constructor
     public EmployeeView() {
@@ -38,10 +42,24 @@ public class EmployeeView extends BorderPane {
         consoleReportButton = new Button("Print Employee Reports to Console");
         consoleReportButton.setStyle("-fx-background-color: #4CAF50; -fx-font-weight: bold ; -fx-text-fill: white;");
 
+        importButton = new Button("Import Employees");
+        importButton.setStyle("-fx-background-color: #2980B9; -fx-font-weight: bold ; -fx-text-fill: white;");
+
+        exportButton = new Button("Export Employees");
+        exportButton.setStyle("-fx-background-color: #2980B9; -fx-font-weight: bold ; -fx-text-fill: white;");
+
+        // Shown while database work runs in the background
+        busyIndicator = new ProgressIndicator();
+        busyIndicator.setPrefSize(24, 24);
+        busyIndicator.setVisible(false);
+
+        HBox actionBox = new HBox(10, busyIndicator, importButton, exportButton, consoleReportButton);
+        actionBox.setAlignment(Pos.CENTER_RIGHT);
+
         // Create a header with title on left and button on right
         BorderPane header = new BorderPane();
         header.setLeft(titleLabel);
-        header.setRight(consoleReportButton);
+        header.setRight(actionBox);
 
         VBox contentBox = new VBox(10);
         contentBox.getChildren().add(header);
@@ -52,6 +70,11 @@ public class EmployeeView extends BorderPane {
         setCenter(contentBox);
     }
 
+    // Reads a cell value, tolerating a row that vanished from a live source before the table was notified
+    private static <V> V valueOf(TableColumn.CellDataFeatures<Employee<Integer>, ?> data, Function<Employee<Integer>, V> getter) {
+        return data.getValue() == null ? null : getter.apply(data.getValue());
+    }
+
     private static class CenteredTableCell<T> extends TableCell<Employee<Integer>, T> {
         @Override
         protected void updateItem(T item, boolean empty) {
@@ -68,35 +91,36 @@ public class EmployeeView extends BorderPane {
     private void setupEmployeeTable() {
         employeeTable = new TableView<>();
         employeeTable.setStyle("-fx-font-size: 13px; -fx-border-color: #E0E0E0; -fx-border-width: 1px;");
-        employeeData = FXCollections.observableArrayList();
+        shownEmployees = EmployeePageSource.of(new ArrayList<>());
+        employeeData = new PagedEmployeeList<>(shownEmployees);
         employeeTable.setItems(employeeData);
 
         TableColumn<Employee<Integer>, Integer> idColumn = new TableColumn<>("ID");
-        idColumn.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getEmployeeId()));
+        idColumn.setCellValueFactory(data -> new SimpleObjectProperty<>(valueOf(data, Employee::employeeId)));
         idColumn.setPrefWidth(70);
         idColumn.setMinWidth(50);
         idColumn.setCellFactory(column -> new CenteredTableCell<>());
 
         TableColumn<Employee<Integer>, String> nameColumn = new TableColumn<>("Name");
-        nameColumn.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getEmployeeName()));
+        nameColumn.setCellValueFactory(data -> new SimpleStringProperty(valueOf(data, Employee::employeeName)));
         nameColumn.setPrefWidth(180);
         nameColumn.setMinWidth(120);
         nameColumn.setCellFactory(column -> new CenteredTableCell<>());
 
         TableColumn<Employee<Integer>, String> deptColumn = new TableColumn<>("Department");
-        deptColumn.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getEmployeeDepartment().name()));
+        deptColumn.setCellValueFactory(data -> new SimpleStringProperty(valueOf(data, employee -> employee.employeeDepartment().name())));
         deptColumn.setPrefWidth(140);
         deptColumn.setMinWidth(100);
         deptColumn.setCellFactory(column -> new CenteredTableCell<>());
 
         TableColumn<Employee<Integer>, String> salaryColumn = new TableColumn<>("Salary");
-        salaryColumn.setCellValueFactory(data -> new SimpleStringProperty(String.format("$%.2f", data.getValue().getEmployeeSalary())));
+        salaryColumn.setCellValueFactory(data -> new SimpleStringProperty(valueOf(data, employee -> String.format("$%.2f", employee.employeeSalary()))));
         salaryColumn.setPrefWidth(100);
         salaryColumn.setMinWidth(90);
         salaryColumn.setCellFactory(column -> new CenteredTableCell<>());
 
         TableColumn<Employee<Integer>, Double> ratingColumn = new TableColumn<>("Rating");
-        ratingColumn.setCellValueFactory(data -> new SimpleDoubleProperty(data.getValue().getPerformanceRating()).asObject());
+        ratingColumn.setCellValueFactory(data -> new SimpleObjectProperty<>(valueOf(data, Employee::performanceRating)));
         ratingColumn.setPrefWidth(80);
         ratingColumn.setMinWidth(60);
         ratingColumn.setCellFactory(column -> new TableCell<>() {
@@ -118,7 +142,7 @@ public class EmployeeView extends BorderPane {
         });
 
         TableColumn<Employee<Integer>, Integer> expColumn = new TableColumn<>("Experience");
-        expColumn.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getYearsOfExperience()));
+        expColumn.setCellValueFactory(data -> new SimpleObjectProperty<>(valueOf(data, Employee::yearsOfExperience)));
         expColumn.setPrefWidth(100);
         expColumn.setMinWidth(80);
         expColumn.setCellFactory(column -> new TableCell<>() {
@@ -135,7 +159,7 @@ public class EmployeeView extends BorderPane {
         });
 
         TableColumn<Employee<Integer>, Boolean> activeColumn = new TableColumn<>("Active");
-        activeColumn.setCellValueFactory(data -> new SimpleBooleanProperty(data.getValue().isActive()));
+        activeColumn.setCellValueFactory(data -> new SimpleObjectProperty<>(valueOf(data, Employee::isActive)));
         activeColumn.setPrefWidth(80);
         activeColumn.setMinWidth(70);
         activeColumn.setCellFactory(column -> new TableCell<>() {
@@ -192,13 +216,57 @@ public class EmployeeView extends BorderPane {
         employeeTable.getSelectionModel().setSelectionMode(SelectionMode.SINGLE);
     }
 
-    // Updates the table with new employee data
+    // Updates the table with a fixed list of employees (search results, top paid, ...)
     public void updateEmployeeTable(List<Employee<Integer>> employees) {
-        employeeData.clear();
-        employeeData.addAll(employees);
+        showEmployees(EmployeePageSource.of(employees));
+    }
+
+    // Shows a paged source; only the rows on screen are pulled from it
+    public void showEmployees(EmployeePageSource<Integer> source) {
+        shownEmployees = source;
+        employeeData = new PagedEmployeeList<>(source);
+        employeeTable.setItems(employeeData);
+        updateTitle();
+    }
+
+    // Whether the table shows a live database view that can take single-row updates
+    public boolean isShowingLiveData() {
+        return employeeData.isLive();
+    }
+
+    // Gets the row of an employee (call before changing or deleting it)
+    public int indexOfEmployee(Employee<Integer> employee) {
+        return employeeData.indexOf(employee);
+    }
+
+    // Inserts the row of a newly added employee
+    public void employeeAdded(Employee<Integer> employee) {
+        employeeData.employeeAdded(employee);
+        updateTitle();
+    }
 
-        // Update the title to show count
-        titleLabel.setText("Employee Directory (" + employees.size() + " employees)");
+    // Refreshes or moves the row of a changed employee
+    public void employeeUpdated(int oldIndex, Employee<Integer> employee) {
+        employeeData.employeeUpdated(oldIndex, employee);
+    }
+
+    // Removes the row of a deleted employee
+    public void employeeRemoved(int oldIndex, Employee<Integer> employee) {
+        employeeData.employeeRemoved(oldIndex, employee);
+        updateTitle();
+    }
+
+    // Re-reads a live source after changes made elsewhere (imports, bulk raises, ...)
+    public void sourceChanged() {
+        if (employeeData.isLive()) {
+            employeeData.sourceChanged();
+            updateTitle();
+        }
+    }
+
+    // Update the title to show count
+    private void updateTitle() {
+        titleLabel.setText("Employee Directory (" + employeeData.size() + " employees)");
     }
 
     // Get the selected employee
@@ -211,8 +279,26 @@ public class EmployeeView extends BorderPane {
         return employeeTable;
     }
 
+    // Shows or hides the progress indicator
+    public void setBusy(boolean busy) {
+        busyIndicator.setVisible(busy);
+    }
+
     // Make sure the button is accessible to the controller
     public Button getConsoleReportButton() {
         return consoleReportButton;
     }
+
+    public Button getImportButton() {
+        return importButton;
+    }
+
+    public Button getExportButton() {
+        return exportButton;
+    }
+
+    // Gets the employees the table currently shows (all of them, not only the loaded pages)
+    public EmployeePageSource<Integer> getShownEmployees() {
+        return shownEmployees;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.employeemanagement.employeemanagementsystem.view;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePageSource;
+import javafx.collections.ObservableListBase;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lazy ObservableList backing the employee TableView
+ * The table only asks for the rows it renders, so only those pages (plus one page of prefetch
+ * on each side) are pulled from the page source and kept in a small LRU cache.
+ * Single-row changes are published as fine-grained add/remove/update events instead of a reload.
+ */
+public class PagedEmployeeList<T> extends ObservableListBase<Employee<T>> {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 16;
+
+    private final EmployeePageSource<T> source;
+    private final Map<Integer, List<Employee<T>>> pages;
+    private int size;
+
+    //Constructor
+    public PagedEmployeeList(EmployeePageSource<T> source) {
+        this.source = source;
+        this.pages = new LinkedHashMap<>(MAX_CACHED_PAGES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<Employee<T>>> eldest) {
+                return size() > MAX_CACHED_PAGES;
+            }
+        };
+        this.size = source.size();
+    }
+
+    @Override
+    public Employee<T> get(int index) {
+        Objects.checkIndex(index, size);
+        int pageNumber = index / PAGE_SIZE;
+        List<Employee<T>> page = pages.get(pageNumber);
+        if (page == null) {
+            page = loadAround(pageNumber);
+        }
+        int offset = index % PAGE_SIZE;
+        // null only if a live source lost rows before this list was told about it
+        return offset < page.size() ? page.get(offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Answered by the source so the table's selection model never pages through the whole list
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object element) {
+        if (!(element instanceof Employee<?> employee)) {
+            return -1;
+        }
+        return source.indexOf((Employee<T>) employee);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    //Whether the rows follow later database changes
+    public boolean isLive() {
+        return source.isLive();
+    }
+
+    //Publishes an employee that was just added to the source
+    public void employeeAdded(Employee<T> employee) {
+        int index = source.indexOf(employee);
+        resync();
+        if (index < 0) {
+            return;
+        }
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    //Publishes an employee that was just removed from the source (oldIndex taken before the removal)
+    public void employeeRemoved(int oldIndex, Employee<T> employee) {
+        resync();
+        if (oldIndex < 0) {
+            return;
+        }
+        beginChange();
+        nextRemove(oldIndex, employee);
+        endChange();
+    }
+
+    //Publishes an employee that was just changed (oldIndex taken before the change)
+    public void employeeUpdated(int oldIndex, Employee<T> employee) {
+        int newIndex = source.indexOf(employee);
+        resync();
+        beginChange();
+        if (oldIndex >= 0 && oldIndex == newIndex) {
+            nextUpdate(newIndex);
+        } else {
+            // the sort key changed, so the row moves
+            if (oldIndex >= 0) {
+                nextRemove(oldIndex, employee);
+            }
+            if (newIndex >= 0) {
+                nextAdd(newIndex, newIndex + 1);
+            }
+        }
+        endChange();
+    }
+
+    //Publishes changes made to the source by someone else: any row may have moved, so all rows are replaced
+    public void sourceChanged() {
+        int oldSize = size;
+        resync();
+        beginChange();
+        nextReplace(0, size, Collections.nCopies(oldSize, null));
+        endChange();
+    }
+
+    // Drops cached pages (positions may have shifted) and picks up the new size
+    private void resync() {
+        pages.clear();
+        size = source.size();
+    }
+
+    // Fetches the requested page together with its neighbours in a single range request
+    private List<Employee<T>> loadAround(int pageNumber) {
+        int firstPage = Math.max(0, pageNumber - 1);
+        List<Employee<T>> rows = source.page(firstPage * PAGE_SIZE, 3 * PAGE_SIZE);
+        for (int p = firstPage; p <= pageNumber + 1; p++) {
+            int from = Math.min((p - firstPage) * PAGE_SIZE, rows.size());
+            int to = Math.min(from + PAGE_SIZE, rows.size());
+            if (from < to || p == pageNumber) {
+                pages.put(p, rows.subList(from, to));
+            }
+        }
+        return pages.get(pageNumber);
+    }
+}
@@ -14,10 +14,12 @@ import javafx.scene.layout.VBox;
 public class SalaryManagementView extends VBox {
 
     private Button salaryRaiseButton;
+    private Button raisePreviewButton;
     private Button topPaidButton;
     private TextField topNField;
     private Button avgSalaryButton;
     private ComboBox<String> departmentComboBox;
+    private Button statisticsButton;
 
     // Constructor
     public SalaryManagementView() {
@@ -51,6 +53,18 @@ public class SalaryManagementView extends VBox {
         salaryRaiseButton.setOnMouseEntered(e -> salaryRaiseButton.setStyle("-fx-background-color: #7D3C98; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
         salaryRaiseButton.setOnMouseExited(e -> salaryRaiseButton.setStyle("-fx-background-color: #8E44AD; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
 
+        // Dry run of the raise: shows the cost per department without changing any salary
+        raisePreviewButton = new Button("Preview Raise");
+        raisePreviewButton.setStyle("-fx-background-color: #A569BD; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;");
+        raisePreviewButton.setPrefWidth(150);
+
+        raisePreviewButton.setOnMouseEntered(e -> raisePreviewButton.setStyle("-fx-background-color: #8E44AD; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+        raisePreviewButton.setOnMouseExited(e -> raisePreviewButton.setStyle("-fx-background-color: #A569BD; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+
+        HBox raiseBox = new HBox(10);
+        raiseBox.setStyle("-fx-alignment: center-left;");
+        raiseBox.getChildren().addAll(salaryRaiseButton, raisePreviewButton);
+
         // Top paid employees section
         HBox topPaidBox = new HBox(10);
         topPaidBox.setStyle("-fx-alignment: center-left;");
@@ -91,17 +105,31 @@ public class SalaryManagementView extends VBox {
 
         avgSalaryBox.getChildren().addAll(deptLabel, departmentComboBox, avgSalaryButton);
 
+        // Statistics section
+        Label statisticsLabel = new Label("View salary, rating and headcount statistics:");
+        statisticsLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #34495e;");
+
+        statisticsButton = new Button("Show Statistics");
+        statisticsButton.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;");
+        statisticsButton.setPrefWidth(150);
+
+        statisticsButton.setOnMouseEntered(e -> statisticsButton.setStyle("-fx-background-color: #43A047; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+        statisticsButton.setOnMouseExited(e -> statisticsButton.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+
         // Add all to the view with better spacing
         getChildren().addAll(
                 titleLabel,
                 raiseLabel,
-                salaryRaiseButton,
+                raiseBox,
                 new Separator(15),
                 topPaidLabel,
                 topPaidBox,
                 new Separator(15),
                 avgSalaryLabel,
-                avgSalaryBox
+                avgSalaryBox,
+                new Separator(15),
+                statisticsLabel,
+                statisticsButton
         );
     }
 
@@ -126,6 +154,10 @@ public class SalaryManagementView extends VBox {
         return salaryRaiseButton;
     }
 
+    public Button getRaisePreviewButton() {
+        return raisePreviewButton;
+    }
+
     public Button getTopPaidButton() {
         return topPaidButton;
     }
@@ -141,4 +173,8 @@ public class SalaryManagementView extends VBox {
     public ComboBox<String> getDepartmentComboBox() {
         return departmentComboBox;
     }
+
+    public Button getStatisticsButton() {
+        return statisticsButton;
+    }
 }
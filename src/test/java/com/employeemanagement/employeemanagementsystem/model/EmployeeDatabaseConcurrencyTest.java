@@ -0,0 +1,167 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.model.batch.SalaryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress tests of EmployeeDatabase under concurrent writers and readers
+ */
+class EmployeeDatabaseConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20_000;
+    private static final int ID_SPACE = 2_000;
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    static Employee<Integer> employee(int id, Random random) {
+        return new Employee<>(id, "Employee " + id, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                30_000 + random.nextInt(90_000), random.nextInt(6), random.nextInt(40), random.nextBoolean());
+    }
+
+    @Test
+    void disjointWritersLoseNothing() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < OPERATIONS; i++) {
+                int id = thread * OPERATIONS + i;
+                assertTrue(database.addEmployee(employee(id, random)));
+                if (i % 2 == 0) {
+                    assertNotNull(database.updateEmployee(id, new EmployeePatch().salary(1.0)));
+                }
+                if (i % 4 == 0) {
+                    assertTrue(database.deleteEmployee(id));
+                }
+            }
+        });
+
+        assertEquals(THREADS * OPERATIONS * 3 / 4, database.getTotalEmployeeCount());
+        assertIndexesConsistent(database);
+    }
+
+    @Test
+    void contendedWritersKeepIndexesConsistent() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < OPERATIONS; i++) {
+                int id = random.nextInt(ID_SPACE);
+                switch (random.nextInt(4)) {
+                    case 0 -> database.addEmployee(employee(id, random));
+                    case 1 -> database.deleteEmployee(id);
+                    case 2 -> database.updateEmployee(id, new EmployeePatch()
+                            .salary(random.nextInt(100_000))
+                            .department(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]));
+                    default -> database.updateEmployeeDetails(id, "isActive", random.nextBoolean());
+                }
+            }
+        });
+
+        assertIndexesConsistent(database);
+    }
+
+    @Test
+    void readersNeverSeeABatchHalfApplied() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        Random random = new Random(1);
+        for (int id = 0; id < ID_SPACE; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, DEPARTMENTS[id % DEPARTMENTS.length],
+                    1_000, 5, random.nextInt(40), true));
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        List<Throwable> failures = new ArrayList<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    // every employee gets the same raise, so one consistent read sees a single salary
+                    List<Employee<Integer>> sorted = database.getEmployeesSortedBySalary();
+                    double first = sorted.get(0).employeeSalary();
+                    double last = sorted.get(sorted.size() - 1).employeeSalary();
+                    assertEquals(first, last, "a read saw part of a raise run");
+                }
+            } catch (Throwable e) {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 50; i++) {
+            database.applySalaryPolicy(SalaryPolicy.<Integer>percentRaise(0, 1), false);
+        }
+        done.set(true);
+        reader.join();
+
+        assertEquals(List.of(), failures);
+    }
+
+    // Runs the same body on every thread at once, rethrowing the first failure
+    private static void runConcurrently(ThrowingBody body) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int index = thread;
+            futures.add(pool.submit(() -> {
+                start.await();
+                body.run(index);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+    }
+
+    interface ThrowingBody {
+        void run(int thread) throws Exception;
+    }
+
+    // Checks every index, bitmap and aggregate against the stored employees
+    static void assertIndexesConsistent(EmployeeDatabase<Integer> database) {
+        List<Employee<Integer>> all = database.getAllEmployees();
+        int total = all.size();
+        assertEquals(total, database.getEmployeesSortedBySalary().size());
+        assertEquals(total, database.getEmployeesSortedByPerformance().size());
+        assertEquals(total, database.getEmployeesSortedByExperience().size());
+        assertEquals(total, database.findEmployeesByName("employee").size());
+        assertEquals(total, database.countEmployees(null, null));
+
+        EmployeeStatistics statistics = database.getStatistics();
+        assertEquals(statistics.activeCount(), database.getActiveEmployeeCount());
+        Map<EEmployeeDepartment, Integer> counts = new HashMap<>();
+        for (Employee<Integer> employee : all) {
+            counts.merge(employee.employeeDepartment(), 1, Integer::sum);
+            assertEquals(employee, database.getEmployee(employee.employeeId()));
+        }
+        for (EEmployeeDepartment department : DEPARTMENTS) {
+            int count = counts.getOrDefault(department, 0);
+            assertEquals(count, database.findEmployeesByDepartment(department).size());
+            assertEquals(count, database.getDepartmentAggregate(department).headcount());
+            EmployeeStatistics.DepartmentStatistics figures = statistics.departments().get(department);
+            double salarySum = figures == null ? 0 : figures.salary().sum();
+            assertEquals(salarySum, database.getDepartmentAggregate(department).salarySum(), 1e-6 * (1 + salarySum));
+        }
+
+        List<Employee<Integer>> bySalary = database.getEmployeesSortedBySalary();
+        for (int i = 1; i < bySalary.size(); i++) {
+            assertTrue(bySalary.get(i - 1).employeeSalary() >= bySalary.get(i).employeeSalary());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.model.events.ChangeRingBuffer;
+import com.employeemanagement.employeemanagementsystem.model.events.EmployeeChange;
+import com.employeemanagement.employeemanagementsystem.model.storage.StorageMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of single-threaded EmployeeDatabase updates
+ */
+class EmployeeDatabaseTest {
+
+    private static Employee<Integer> employee(int id) {
+        return new Employee<>(id, "Employee " + id, EEmployeeDepartment.IT, 1_000 + id, 3, 5, true);
+    }
+
+    private static EmployeeDatabase<Integer> databaseOf(int count) {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        for (int id = 0; id < count; id++) {
+            database.addEmployee(employee(id));
+        }
+        return database;
+    }
+
+    @Test
+    void invalidPatchChangesNothing() {
+        EmployeeDatabase<Integer> database = databaseOf(10);
+        List<EmployeePatch> invalid = List.of(
+                new EmployeePatch().salary(2_000).name(null),
+                new EmployeePatch().salary(2_000).department(null),
+                new EmployeePatch().salary(-1),
+                new EmployeePatch().salary(Double.NaN),
+                new EmployeePatch().salary(2_000).rating(7),
+                new EmployeePatch().salary(2_000).experience(-3));
+        for (EmployeePatch patch : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> database.updateEmployee(4, patch));
+        }
+
+        assertEquals(employee(4), database.getEmployee(4));
+        assertEquals(10, database.getEmployeesSortedBySalary().size());
+        assertEquals(4, database.getSortedPosition(EEmployeeSortOrder.SALARY, 5));
+        assertEquals(10, database.getDepartmentAggregate(EEmployeeDepartment.IT).headcount());
+        assertEquals(Set.of(EEmployeeField.NAME), database.updateEmployee(4, new EmployeePatch().name("Valid")));
+    }
+
+    @Test
+    void invalidFieldValuesAreRejectedByName() {
+        EmployeeDatabase<Integer> database = databaseOf(3);
+        assertFalse(database.updateEmployeeDetails(1, "employeeName", null));
+        assertFalse(database.updateEmployeeDetails(1, "employeeSalary", null));
+        assertFalse(database.updateEmployeeDetails(1, "employeeSalary", "high"));
+        assertFalse(database.updateEmployeeDetails(1, "employeeSalary", -5.0));
+        assertFalse(database.updateEmployeeDetails(1, "performanceRating", Double.POSITIVE_INFINITY));
+        assertFalse(database.updateEmployeeDetails(1, "unknown", 1));
+        assertEquals(employee(1), database.getEmployee(1));
+
+        assertTrue(database.updateEmployeeDetails(1, "employeeSalary", 5.0));
+        assertEquals(5.0, database.getEmployee(1).employeeSalary());
+    }
+
+    @Test
+    void invalidNewEmployeesAreRejectedBeforeAnythingChanges() {
+        EmployeeDatabase<Integer> database = databaseOf(3);
+        List<Employee<Integer>> invalid = List.of(
+                new Employee<>(10, "Negative", EEmployeeDepartment.IT, -1, 3, 5, true),
+                new Employee<>(11, "Not a number", EEmployeeDepartment.IT, Double.NaN, 3, 5, true),
+                new Employee<>(12, "Endless", EEmployeeDepartment.IT, Double.POSITIVE_INFINITY, 3, 5, true),
+                new Employee<>(13, "Too new", EEmployeeDepartment.IT, 1_000, 3, -1, true),
+                new Employee<>(14, "No department", null, 1_000, 3, 5, true),
+                new Employee<>(15, " ", EEmployeeDepartment.IT, 1_000, 3, 5, true));
+        for (Employee<Integer> employee : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> database.addEmployee(employee));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> database.addEmployees(List.of(employee(20), employee(21), invalid.get(1))));
+
+        assertEquals(3, database.getTotalEmployeeCount());
+        assertNull(database.getEmployee(20));
+        assertEquals(employee(1).employeeSalary(), database.calculateAverageSalaryByDepartment("IT"));
+    }
+
+    @Test
+    void columnarAggregatesFollowEveryMutation() {
+        EmployeeDatabase<Integer> columnar = new EmployeeDatabase<>(StorageMode.COLUMNAR);
+        EmployeeDatabase<Integer> objects = new EmployeeDatabase<>();
+        for (EmployeeDatabase<Integer> database : List.of(columnar, objects)) {
+            for (int id = 0; id < 200; id++) {
+                database.addEmployee(new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5],
+                        1_000 + id, 3, 5, id % 3 != 0));
+            }
+            for (int id = 0; id < 200; id += 7) {
+                database.deleteEmployee(id);
+            }
+            database.updateEmployee(8, new EmployeePatch().department(EEmployeeDepartment.HR).salary(9_000));
+            database.updateEmployee(9, new EmployeePatch().active(false));
+            database.giveSalaryRaiseToHighPerformers();
+            database.addEmployee(new Employee<>(0, "Reused row", EEmployeeDepartment.IT, 4_000, 4, 2, true));
+        }
+
+        assertEquals(objects.getActiveEmployeeCount(), columnar.getActiveEmployeeCount());
+        for (EEmployeeDepartment department : EEmployeeDepartment.values()) {
+            assertEquals(objects.calculateAverageSalaryByDepartment(department.name()),
+                    columnar.calculateAverageSalaryByDepartment(department.name()), 1e-6);
+        }
+    }
+
+    @Test
+    void subscribersSeeEveryChangeInWriteOrder() {
+        EmployeeDatabase<Integer> database = databaseOf(3);
+        List<EmployeeChange<Integer>> received = new CopyOnWriteArrayList<>();
+        try (ChangeRingBuffer.Subscription ignored = database.subscribe("test", received::addAll)) {
+            database.addEmployee(employee(3));
+            database.updateEmployee(3, new EmployeePatch().salary(7_000).active(false));
+            database.updateEmployee(3, new EmployeePatch().salary(7_000)); // changes nothing, publishes nothing
+            database.deleteEmployee(3);
+            database.deleteEmployee(3);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (received.size() < 4) {
+                assertTrue(System.nanoTime() < deadline, "events were not delivered");
+                LockSupport.parkNanos(100_000);
+            }
+        }
+        assertEquals(List.of(
+                new EmployeeChange.Added<>(employee(3)),
+                new EmployeeChange.FieldUpdated<>(3, EEmployeeField.SALARY, 1_003.0, 7_000.0),
+                new EmployeeChange.FieldUpdated<>(3, EEmployeeField.ACTIVE, true, false),
+                new EmployeeChange.Deleted<>(employee(3).withEmployeeSalary(7_000).withActive(false))), received);
+    }
+
+    @Test
+    void aBatchIsPublishedAsOneEvent() {
+        EmployeeDatabase<Integer> database = databaseOf(3);
+        List<EmployeeChange<Integer>> received = new CopyOnWriteArrayList<>();
+        try (ChangeRingBuffer.Subscription ignored = database.subscribe("test", received::addAll)) {
+            List<Employee<Integer>> rejected = database.addEmployees(List.of(employee(5), employee(1), employee(6)));
+            assertEquals(List.of(employee(1)), rejected);
+            database.deleteEmployee(5);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (received.size() < 2) {
+                assertTrue(System.nanoTime() < deadline, "events were not delivered");
+                LockSupport.parkNanos(100_000);
+            }
+        }
+        assertEquals(List.of(
+                new EmployeeChange.AddedAll<>(List.of(employee(5), employee(6))),
+                new EmployeeChange.Deleted<>(employee(5))), received);
+        assertEquals(List.of(5, 6), received.get(0).employeeIds());
+    }
+}
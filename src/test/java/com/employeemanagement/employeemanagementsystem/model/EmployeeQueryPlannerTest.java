@@ -0,0 +1,115 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.model.query.EmployeeQuery;
+import com.employeemanagement.employeemanagementsystem.model.query.QueryPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that every access path the query planner picks returns what a brute-force filter, sort and limit would
+ */
+class EmployeeQueryPlannerTest {
+
+    private static final int EMPLOYEES = 1_000;
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    // 200 per department, 20 named Quinn, 10 salaries per 100, 25 per year of experience, 900 active
+    private static Employee<Integer> employee(int id) {
+        String name = id % 50 == 0 ? "Quinn Example " + id : "Employee " + id;
+        return new Employee<>(id, name, DEPARTMENTS[id % DEPARTMENTS.length],
+                1_000 + id * 10, (id % 51) / 10.0, id / 25, id % 10 != 0);
+    }
+
+    private static final EmployeeDatabase<Integer> DATABASE = new EmployeeDatabase<>();
+    private static final List<Employee<Integer>> ALL = IntStream.range(0, EMPLOYEES)
+            .mapToObj(EmployeeQueryPlannerTest::employee)
+            .collect(Collectors.toList());
+
+    static {
+        DATABASE.addEmployees(ALL);
+    }
+
+    @Test
+    void broadFiltersScanEveryone() {
+        assertRunsAs(QueryPlan.Access.FULL_SCAN, new EmployeeQuery().active(true));
+        assertRunsAs(QueryPlan.Access.FULL_SCAN, new EmployeeQuery().salaryBetween(0, 9_000).ratingBetween(1, 5));
+        assertRunsAs(QueryPlan.Access.FULL_SCAN, new EmployeeQuery().active(true).sortBy(EEmployeeSortOrder.PERFORMANCE));
+    }
+
+    @Test
+    void departmentAndStatusUseTheBitmaps() {
+        assertRunsAs(QueryPlan.Access.BITMAP_INDEX, new EmployeeQuery().department(EEmployeeDepartment.IT));
+        assertRunsAs(QueryPlan.Access.BITMAP_INDEX, new EmployeeQuery().active(false).ratingBetween(2, 5));
+        assertRunsAs(QueryPlan.Access.BITMAP_INDEX, new EmployeeQuery().department(EEmployeeDepartment.HR)
+                .active(true).sortBy(EEmployeeSortOrder.EXPERIENCE));
+    }
+
+    @Test
+    void rareNameTermsUseTheNameIndex() {
+        assertRunsAs(QueryPlan.Access.NAME_INDEX, new EmployeeQuery().nameContains("QUINN"));
+        assertRunsAs(QueryPlan.Access.NAME_INDEX, new EmployeeQuery().nameContains("quinn")
+                .department(EEmployeeDepartment.HR).sortBy(EEmployeeSortOrder.SALARY).limit(3));
+        assertRunsAs(QueryPlan.Access.NAME_INDEX, new EmployeeQuery().nameContains("nobody"));
+    }
+
+    @Test
+    void narrowRangesUseTheirIndex() {
+        assertRunsAs(QueryPlan.Access.SALARY_INDEX, new EmployeeQuery().salaryBetween(1_000, 1_500)
+                .department(EEmployeeDepartment.IT));
+        assertRunsAs(QueryPlan.Access.SALARY_INDEX, new EmployeeQuery().salaryBetween(3_000, 3_200)
+                .sortBy(EEmployeeSortOrder.PERFORMANCE).limit(5));
+        assertRunsAs(QueryPlan.Access.RATING_INDEX, new EmployeeQuery().ratingBetween(4.95, 5).active(true));
+        assertRunsAs(QueryPlan.Access.EXPERIENCE_INDEX, new EmployeeQuery().experienceBetween(39, 39)
+                .ratingBetween(0, 5).sortBy(EEmployeeSortOrder.SALARY));
+    }
+
+    @Test
+    void smallLimitsWalkTheSortOrder() {
+        assertRunsAs(QueryPlan.Access.SORTED_INDEX_WALK, new EmployeeQuery().sortBy(EEmployeeSortOrder.SALARY).limit(10));
+        assertRunsAs(QueryPlan.Access.SORTED_INDEX_WALK, new EmployeeQuery().active(true)
+                .department(EEmployeeDepartment.IT).sortBy(EEmployeeSortOrder.SALARY).limit(5));
+        assertRunsAs(QueryPlan.Access.SORTED_INDEX_WALK, new EmployeeQuery().active(false)
+                .sortBy(EEmployeeSortOrder.PERFORMANCE).limit(7));
+        assertRunsAs(QueryPlan.Access.SORTED_INDEX_WALK, new EmployeeQuery().department(EEmployeeDepartment.FINANCE)
+                .sortBy(EEmployeeSortOrder.EXPERIENCE).limit(0));
+    }
+
+    //Checks the planned access path, then compares the query's results with a brute-force run over every employee
+    private static void assertRunsAs(QueryPlan.Access expected, EmployeeQuery query) {
+        assertEquals(expected, DATABASE.explain(query).access());
+
+        List<Employee<Integer>> results = DATABASE.query(query);
+        List<Employee<Integer>> matches = ALL.stream().filter(query::matches).collect(Collectors.toList());
+        assertTrue(results.stream().allMatch(query::matches));
+        assertEquals(results.size(), new HashSet<>(results).size(), "duplicates");
+        assertEquals(Math.min(matches.size(), query.getLimit()), results.size());
+        if (query.getSortOrder() == null) {
+            assertTrue(matches.containsAll(results));
+            return;
+        }
+        // employees sharing a sort value may come in any order, so the values are compared
+        ToDoubleFunction<Employee<Integer>> key = sortKey(query.getSortOrder());
+        List<Double> expectedKeys = matches.stream()
+                .map(key::applyAsDouble)
+                .sorted(Comparator.reverseOrder())
+                .limit(query.getLimit())
+                .collect(Collectors.toList());
+        assertEquals(expectedKeys, results.stream().map(key::applyAsDouble).collect(Collectors.toList()));
+    }
+
+    private static ToDoubleFunction<Employee<Integer>> sortKey(EEmployeeSortOrder sortOrder) {
+        return switch (sortOrder) {
+            case EXPERIENCE -> Employee::yearsOfExperience;
+            case SALARY -> Employee::employeeSalary;
+            case PERFORMANCE -> Employee::performanceRating;
+        };
+    }
+}
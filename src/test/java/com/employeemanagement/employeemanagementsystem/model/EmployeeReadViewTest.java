@@ -0,0 +1,152 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.model.batch.RaiseSummary;
+import com.employeemanagement.employeemanagementsystem.model.batch.SalaryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of point-in-time reads through EmployeeReadView
+ */
+class EmployeeReadViewTest {
+
+    private static final int EMPLOYEES = 20_000;
+
+    private static EmployeeDatabase<Integer> databaseOf(int count) {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        for (int id = 0; id < count; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id,
+                    EEmployeeDepartment.values()[id % EEmployeeDepartment.values().length], 1_000, 4, id % 40, true));
+        }
+        return database;
+    }
+
+    @Test
+    void viewIsIsolatedFromAConcurrentSalaryBatch() throws Exception {
+        EmployeeDatabase<Integer> database = databaseOf(EMPLOYEES);
+        try (EmployeeReadView<Integer> view = database.openReadView()) {
+            CompletableFuture<RaiseSummary> raise = CompletableFuture.supplyAsync(() ->
+                    database.applySalaryPolicy(SalaryPolicy.percentRaise(0, 10), false));
+            long seen = 0;
+            for (Employee<Integer> employee : view) {
+                assertEquals(1_000, employee.employeeSalary(), "the view saw part of the raise");
+                seen++;
+            }
+            assertEquals(EMPLOYEES, seen);
+            assertEquals(EMPLOYEES, raise.get(1, TimeUnit.MINUTES).count());
+            assertEquals(1_000, view.getEmployee(7).employeeSalary());
+            assertEquals(1_100, database.getEmployee(7).employeeSalary(), 1e-9);
+        }
+        assertEquals(0, database.readViewHistorySize());
+    }
+
+    @Test
+    void viewKeepsDeletedAndHidesAddedEmployees() {
+        EmployeeDatabase<Integer> database = databaseOf(100);
+        try (EmployeeReadView<Integer> view = database.openReadView()) {
+            database.deleteEmployee(3);
+            database.addEmployee(new Employee<>(500, "New", EEmployeeDepartment.IT, 1, 1, 1, true));
+            database.updateEmployee(4, new EmployeePatch().name("Renamed"));
+
+            List<Employee<Integer>> shown = view.employees().toList();
+            assertEquals(100, shown.size());
+            assertTrue(shown.stream().anyMatch(employee -> employee.employeeId() == 3));
+            assertTrue(shown.stream().noneMatch(employee -> employee.employeeId() == 500));
+            assertEquals("Employee 4", view.getEmployee(4).employeeName());
+            assertNull(view.getEmployee(500));
+        }
+        assertEquals(0, database.readViewHistorySize());
+    }
+
+    @Test
+    void viewsOpenedDuringBatchesAlwaysSeeWholeBatches() throws Exception {
+        EmployeeDatabase<Integer> database = databaseOf(2_000);
+        CompletableFuture<Void> raises = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 30; i++) {
+                database.applySalaryPolicy(SalaryPolicy.percentRaise(0, 1), false);
+            }
+        });
+        while (!raises.isDone()) {
+            try (EmployeeReadView<Integer> view = database.openReadView()) {
+                double salary = view.getEmployee(0).employeeSalary();
+                assertTrue(view.employees().allMatch(employee -> employee.employeeSalary() == salary));
+            }
+        }
+        raises.get();
+        assertEquals(0, database.readViewHistorySize());
+    }
+
+    @Test
+    void sortedStreamKeepsTheOrderAsOfItsStart() {
+        EmployeeDatabase<Integer> database = databaseOf(1_000);
+        for (int id = 0; id < 1_000; id++) {
+            database.updateEmployee(id, new EmployeePatch().salary(10_000 + id)); // distinct: one possible order
+        }
+        List<Employee<Integer>> expected = database.getEmployeesSortedBySalary();
+
+        List<Employee<Integer>> streamed;
+        try (Stream<Employee<Integer>> stream = database.getSortedView(EEmployeeSortOrder.SALARY).stream()) {
+            Iterator<Employee<Integer>> iterator = stream.iterator();
+            List<Employee<Integer>> read = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                read.add(iterator.next());
+            }
+            database.updateEmployee(100, new EmployeePatch().salary(1_000_000)); // not read yet, moved above
+            database.updateEmployee(999, new EmployeePatch().salary(1)); // read, moved below
+            database.updateEmployee(500, new EmployeePatch().salary(10_200.5)); // not read yet, moved further down
+            database.deleteEmployee(50);
+            database.addEmployee(new Employee<>(5_000, "New", EEmployeeDepartment.IT, 10_600, 4, 1, true));
+            iterator.forEachRemaining(read::add);
+            streamed = read;
+        }
+        assertEquals(expected.stream().map(Employee::employeeId).toList(),
+                streamed.stream().map(Employee::employeeId).toList());
+        assertEquals(10_100, streamed.stream().filter(employee -> employee.employeeId() == 100)
+                .findFirst().orElseThrow().employeeSalary());
+        assertEquals(0, database.readViewHistorySize());
+    }
+
+    @Test
+    void sortedStreamGivesEveryEmployeeOnceWhileSalariesChange() throws Exception {
+        EmployeeDatabase<Integer> database = databaseOf(EMPLOYEES);
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            Random random = new Random(3);
+            while (!done.get()) {
+                database.updateEmployee(random.nextInt(EMPLOYEES), new EmployeePatch().salary(random.nextInt(5_000)));
+            }
+        });
+        try {
+            for (int round = 0; round < 5; round++) {
+                List<Employee<Integer>> streamed;
+                try (Stream<Employee<Integer>> stream = database.getSortedView(EEmployeeSortOrder.SALARY).stream()) {
+                    streamed = stream.toList();
+                }
+                assertEquals(EMPLOYEES, streamed.size());
+                Set<Integer> ids = new HashSet<>();
+                streamed.forEach(employee -> assertTrue(ids.add(employee.employeeId()), "given twice"));
+                Comparator<Employee<Integer>> bySalary = Comparator.comparingDouble(Employee::employeeSalary);
+                for (int i = 1; i < streamed.size(); i++) {
+                    assertTrue(bySalary.compare(streamed.get(i - 1), streamed.get(i)) >= 0, "out of order");
+                }
+            }
+        } finally {
+            done.set(true);
+            writer.get(1, TimeUnit.MINUTES);
+        }
+        assertEquals(0, database.readViewHistorySize());
+    }
+}
@@ -0,0 +1,89 @@
+package com.employeemanagement.employeemanagementsystem.model.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of event delivery through ChangeRingBuffer
+ */
+class ChangeRingBufferTest {
+
+    @Test
+    void claimedEventsKeepTheirPlaceBeforeLaterOnes() {
+        ChangeRingBuffer<Integer> ring = new ChangeRingBuffer<>(16, 16);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        try (ChangeRingBuffer.Subscription ignored = ring.subscribe("test", received::addAll)) {
+            long first = ring.claim(3);
+            ring.publish(4); // published before the claimed events are filled in
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+            assertEquals(List.of(), received);
+
+            for (int i = 0; i < 3; i++) {
+                ring.publish(first + i, i + 1);
+            }
+            awaitSize(received, 4);
+            assertEquals(List.of(1, 2, 3, 4), received);
+        }
+    }
+
+    @Test
+    void slowSubscriberJoiningAfterTheRingWrappedLosesNothing() {
+        ChangeRingBuffer<Integer> ring = new ChangeRingBuffer<>(8, 2);
+        for (int i = 0; i < 20; i++) {
+            ring.publish(-1); // nobody listens yet: the ring wraps freely
+        }
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        try (ChangeRingBuffer.Subscription ignored = ring.subscribe("slow", batch -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            received.addAll(batch);
+        })) {
+            List<Integer> published = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                ring.publish(i);
+                published.add(i);
+            }
+            awaitSize(received, published.size());
+            assertEquals(published, received);
+        }
+    }
+
+    @Test
+    void idleSubscriberParksUntilTheNextEvent() {
+        ChangeRingBuffer<Integer> ring = new ChangeRingBuffer<>(16, 16);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Thread> subscriber = new AtomicReference<>();
+        try (ChangeRingBuffer.Subscription ignored = ring.subscribe("idle", batch -> {
+            subscriber.set(Thread.currentThread());
+            received.addAll(batch);
+        })) {
+            ring.publish(1);
+            awaitSize(received, 1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (subscriber.get().getState() != Thread.State.WAITING) { // parked with no timeout
+                assertTrue(System.nanoTime() < deadline, "the idle subscriber kept polling");
+                LockSupport.parkNanos(100_000);
+            }
+
+            ring.publish(2);
+            awaitSize(received, 2);
+            assertEquals(List.of(1, 2), received);
+        }
+    }
+
+    // Waits until a subscriber received the given number of events
+    static void awaitSize(List<?> received, int size) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < size) {
+            assertTrue(System.nanoTime() < deadline, "events were not delivered");
+            LockSupport.parkNanos(100_000);
+        }
+    }
+}
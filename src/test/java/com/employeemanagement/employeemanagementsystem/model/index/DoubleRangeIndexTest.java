@@ -0,0 +1,121 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the sorted order kept by DoubleRangeIndex
+ */
+class DoubleRangeIndexTest {
+
+    private static final int ROWS = 10_000;
+
+    @Test
+    void pagesAndPositionsMatchTheDescendingOrderWhileItChanges() {
+        DoubleRangeIndex<Integer> index = new DoubleRangeIndex<>();
+        double[] values = new double[ROWS];
+        Random random = new Random(7);
+        for (int row = 0; row < ROWS; row++) {
+            values[row] = random.nextInt(1_000);
+            index.add(values[row], row, row);
+        }
+
+        for (int round = 0; round < 20; round++) {
+            int row = random.nextInt(ROWS);
+            double newValue = random.nextInt(1_000);
+            index.move(values[row], newValue, row, row);
+            values[row] = newValue;
+
+            // pages near the top and deep down, and positions, all match the full order
+            List<Integer> top = index.descendingPage(0, 50);
+            List<Integer> deep = index.descendingPage(ROWS - 50, 50);
+            List<Integer> all = index.descending();
+            assertEquals(ROWS, index.size());
+            assertEquals(all.subList(0, 50), top);
+            assertEquals(all.subList(ROWS - 50, ROWS), deep);
+            assertEquals(all.subList(0, 50), index.descendingPage(0, 50));
+            for (int position : new int[] {0, 17, 4_000, ROWS - 1}) {
+                int element = all.get(position);
+                assertEquals(position, index.descendingPosition(values[element], element));
+            }
+        }
+    }
+
+    @Test
+    void positionsAreFoundAtBothEnds() {
+        DoubleRangeIndex<Integer> index = new DoubleRangeIndex<>();
+        for (int row = 0; row < ROWS; row++) {
+            index.add(row, row, row);
+        }
+        index.add(ROWS, ROWS, ROWS);
+        assertEquals(0, index.descendingPosition(ROWS, ROWS));
+        assertEquals(ROWS, index.descendingPosition(0, 0));
+        assertEquals(-1, index.descendingPosition(5, 6));
+        assertEquals(List.of(ROWS, ROWS - 1), index.descendingPage(0, 2));
+        assertEquals(List.of(), index.descendingPage(ROWS + 1, 10));
+    }
+
+    @Test
+    void deepPagesStayExactWhileTheTopChurns() throws InterruptedException {
+        // stable rows hold the values 0..ROWS-1; churning rows keep moving above all of them
+        int churning = 1_000;
+        int writers = 2;
+        DoubleRangeIndex<Integer> index = new DoubleRangeIndex<>();
+        for (int row = 0; row < ROWS; row++) {
+            index.add(row, row, row);
+        }
+        double[] values = new double[ROWS + churning];
+        for (int row = ROWS; row < ROWS + churning; row++) {
+            values[row] = 2 * ROWS + row;
+            index.add(values[row], row, row);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int first = ROWS + w;
+            threads.add(Thread.ofPlatform().start(() -> {
+                Random random = new Random(first);
+                while (running.get()) {
+                    int row = first + writers * random.nextInt(churning / writers);
+                    double newValue = 2 * ROWS + random.nextInt(ROWS);
+                    index.move(values[row], newValue, row, row);
+                    values[row] = newValue;
+                }
+            }));
+        }
+        int offset = churning + ROWS / 2; // half way down the stable rows
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                // a row being moved is briefly missing, so the page may start up to `writers` rows lower
+                List<Integer> page = index.descendingPage(offset, 100);
+                int top = page.get(0);
+                int expectedTop = ROWS - 1 - ROWS / 2;
+                assertTrue(top <= expectedTop && top >= expectedTop - writers, "page starts at " + top);
+                for (int i = 0; i < page.size(); i++) {
+                    assertEquals(top - i, page.get(i));
+                }
+                int position = index.descendingPosition(expectedTop, expectedTop);
+                assertTrue(position <= offset && position >= offset - writers, "position " + position);
+                int counted = index.count(2 * ROWS, 4 * ROWS, Integer.MAX_VALUE);
+                assertTrue(counted <= churning && counted >= churning - writers, "counted " + counted);
+            }
+        } finally {
+            running.set(false);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        List<Integer> all = index.descending();
+        assertEquals(ROWS + churning, all.size());
+        assertEquals(all.subList(offset, offset + 100), index.descendingPage(offset, 100));
+        assertEquals(ROWS - 1 - ROWS / 2, index.descendingPage(offset, 1).get(0));
+    }
+}
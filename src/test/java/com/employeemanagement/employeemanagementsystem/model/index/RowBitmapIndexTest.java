@@ -0,0 +1,87 @@
+package com.employeemanagement.employeemanagementsystem.model.index;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of RowBitmapIndex under writers that own disjoint rows, as EmployeeDatabase's stripes do
+ */
+class RowBitmapIndexTest {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+    private static final int WRITERS = 4;
+    private static final int ROWS_PER_WRITER = 2_000;
+
+    @Test
+    void movesAreSeenWholeAndEndConsistent() throws Exception {
+        RowBitmapIndex<Integer> index = new RowBitmapIndex<>();
+        int rows = WRITERS * ROWS_PER_WRITER;
+        EEmployeeDepartment[] department = new EEmployeeDepartment[rows];
+        boolean[] active = new boolean[rows];
+        for (int row = 0; row < rows; row++) {
+            department[row] = DEPARTMENTS[row % DEPARTMENTS.length];
+            active[row] = row % 2 == 0;
+            index.add(row, row, department[row], active[row]);
+        }
+
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int first = w * ROWS_PER_WRITER;
+            Random random = new Random(w);
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    int row = first + random.nextInt(ROWS_PER_WRITER);
+                    switch (random.nextInt(3)) {
+                        case 0 -> {
+                            EEmployeeDepartment moved = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+                            index.changeDepartment(row, department[row], moved);
+                            department[row] = moved;
+                        }
+                        case 1 -> {
+                            active[row] = !active[row];
+                            index.changeActive(row, active[row]);
+                        }
+                        default -> { // delete and re-add under the same row, as a reused row would be
+                            index.remove(row, department[row], active[row]);
+                            index.add(row, row, department[row], active[row]);
+                        }
+                    }
+                }
+            }));
+        }
+        CompletableFuture<Void> all = CompletableFuture.allOf(writers.toArray(new CompletableFuture[0]));
+        while (!all.isDone()) {
+            // at most one row per writer is between its removal and its re-add, and none is counted twice
+            int total = index.count(null, null);
+            assertTrue(total <= rows && total >= rows - WRITERS, "rows counted: " + total);
+            int byDepartment = index.departmentCounts(null).values().stream().mapToInt(Integer::intValue).sum();
+            assertTrue(byDepartment <= rows, "a department move was seen halfway");
+            for (Integer element : index.select(null, true)) {
+                assertNotNull(element, "a row with its bit set had no element");
+            }
+        }
+        all.get(1, TimeUnit.MINUTES);
+
+        assertEquals(rows, index.count(null, null));
+        for (EEmployeeDepartment dept : DEPARTMENTS) {
+            for (Boolean status : new Boolean[] {null, true, false}) {
+                List<Integer> expected = new ArrayList<>();
+                for (int row = 0; row < rows; row++) {
+                    if (department[row] == dept && (status == null || active[row] == status)) {
+                        expected.add(row);
+                    }
+                }
+                assertEquals(expected, index.select(dept, status));
+                assertEquals(expected.size(), index.count(dept, status));
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.employeemanagement.employeemanagementsystem.model.io;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of exporting employees and importing them again, and of the rows an import rejects
+ */
+class EmployeeImporterTest {
+
+    private static final String HEADER = "id,name,department,salary,rating,experience,active\n";
+
+    private static List<Employee<Integer>> roster() {
+        return List.of(
+                new Employee<>(1, "Ada Lovelace", EEmployeeDepartment.IT, 5_000.5, 4.5, 12, true),
+                new Employee<>(2, "Smith, John", EEmployeeDepartment.HR, 0, 0, 0, false),
+                new Employee<>(3, "Dwayne \"The Rock\" Johnson", EEmployeeDepartment.MARKETING, 1e7, 5, 40, true),
+                new Employee<>(4, "Zoë Ångström 山田", EEmployeeDepartment.FINANCE, 3_210.25, 2.75, 3, true),
+                new Employee<>(5, "Two\nLines", EEmployeeDepartment.RECRUITMENT, 42, 1, 1, false));
+    }
+
+    private static EmployeeImporter<Integer> importerInto(EmployeeDatabase<Integer> database) {
+        return new EmployeeImporter<>(database, Integer::valueOf, 2, 2); // small batches: several chunks in flight
+    }
+
+    private static String export(List<Employee<Integer>> employees, ExportFormat format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long rows = EmployeeExporter.export(employees.stream(), Channels.newChannel(bytes), format, StandardCharsets.UTF_8);
+        assertEquals(employees.size(), rows);
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportedFilesImportToTheSameEmployees() throws IOException {
+        for (ExportFormat format : List.of(ExportFormat.CSV, ExportFormat.JSON_LINES)) {
+            String file = export(roster(), format);
+            EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+            ImportResult result = importerInto(database).importFrom(new StringReader(file),
+                    format == ExportFormat.CSV ? ImportFormat.CSV : ImportFormat.JSON);
+
+            assertEquals(roster().size(), result.imported(), format + ": " + result.errors());
+            assertEquals(0, result.failed());
+            assertEquals(new HashSet<>(roster()), new HashSet<>(database.getAllEmployees()), format.name());
+        }
+    }
+
+    @Test
+    void badRowsAreReportedAndSkipped() throws IOException {
+        String file = HEADER
+                + "1,Valid,IT,1000,3,2,true\n"
+                + "2,Negative,IT,-1,3,2,true\n"
+                + "3,Not a number,IT,NaN,3,2,true\n"
+                + "4,Endless,IT,Infinity,3,2,true\n"
+                + "5,Too good,IT,1000,5.5,2,true\n"
+                + "6,Too new,IT,1000,3,-2,true\n"
+                + "7,Nowhere,SALES,1000,3,2,true\n"
+                + "8,,IT,1000,3,2,true\n"
+                + "9,Short row,IT,1000\n"
+                + "1,Duplicate,IT,1000,3,2,true\n"
+                + "10,Also valid,HR,2000,4,6,false\n";
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        ImportResult result = importerInto(database).importFrom(new StringReader(file), ImportFormat.CSV);
+
+        assertEquals(2, result.imported());
+        assertEquals(9, result.failed());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L),
+                result.errors().stream().map(ImportResult.RowError::line).collect(Collectors.toList()));
+        assertEquals(2, database.getTotalEmployeeCount());
+        assertEquals("Valid", database.getEmployee(1).employeeName());
+    }
+
+    @Test
+    void strayQuoteRejectsOnlyItsOwnRow() throws IOException {
+        StringBuilder file = new StringBuilder(HEADER);
+        file.append("1,\"Unclosed,IT,1000,3,2,true\n");
+        int valid = CsvRecordReader.MAX_RECORD_LINES * 2; // the open quote would otherwise swallow all of them
+        for (int id = 2; id < 2 + valid; id++) {
+            file.append(id).append(",Employee ").append(id).append(",IT,1000,3,2,true\n");
+        }
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        ImportResult result = importerInto(database).importFrom(new StringReader(file.toString()), ImportFormat.CSV);
+
+        assertEquals(valid, result.imported());
+        assertEquals(List.of(new ImportResult.RowError(2, "Unterminated quoted field")), result.errors());
+        assertNull(database.getEmployee(1));
+    }
+
+    @Test
+    void quotedFieldsMaySpanLines() throws IOException {
+        String file = HEADER
+                + "1,\"First\nSecond\",IT,1000,3,2,true\n"
+                + "2,After,IT,1000,3,2,true\n";
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        ImportResult result = importerInto(database).importFrom(new StringReader(file), ImportFormat.CSV);
+
+        assertEquals(2, result.imported());
+        assertEquals("First\nSecond", database.getEmployee(1).employeeName());
+    }
+}
@@ -0,0 +1,84 @@
+package com.employeemanagement.employeemanagementsystem.model.mvcc;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the before-images kept by VersionStore
+ */
+class VersionStoreTest {
+
+    private static Employee<Integer> employee(int id, double salary) {
+        return new Employee<>(id, "Employee " + id, EEmployeeDepartment.HR, salary, 3, 5, true);
+    }
+
+    @Test
+    void viewSeesTheOldestBeforeImageNewerThanIt() {
+        VersionStore<Integer> versions = new VersionStore<>(4);
+        long view = versions.open();
+        long first = versions.beginWrite(0);
+        versions.recordBefore(first, 1, employee(1, 100), 0);
+        versions.endWrite(0);
+        long second = versions.beginWrite(0);
+        versions.recordBefore(second, 1, employee(1, 200), 0);
+        versions.endWrite(0);
+
+        assertEquals(100, versions.at(1, view).before().employeeSalary());
+        assertEquals(200, versions.at(1, first).before().employeeSalary());
+        assertNull(versions.at(1, second));
+        assertNull(versions.at(2, view));
+    }
+
+    @Test
+    void beforeImagesAreDroppedOnceNoViewNeedsThem() {
+        VersionStore<Integer> versions = new VersionStore<>(4);
+        long older = versions.open();
+        long write = versions.beginWrite(1);
+        versions.recordBefore(write, 1, employee(1, 100), 0);
+        versions.endWrite(1);
+        long newer = versions.open();
+        write = versions.beginWrite(1);
+        versions.recordBefore(write, 2, employee(2, 100), 1);
+        versions.endWrite(1);
+
+        versions.close(older); // the newer view still needs the second before-image only
+        assertNull(versions.at(1, older));
+        assertNotNull(versions.at(2, newer));
+        assertEquals(1, versions.historySize());
+        versions.close(newer);
+        assertEquals(0, versions.historySize());
+    }
+
+    @Test
+    void beforeImageRecordedAfterTheLastViewClosedIsDropped() {
+        VersionStore<Integer> versions = new VersionStore<>(4);
+        long view = versions.open();
+        long write = versions.beginWrite(2);
+        assertTrue(versions.isRecording());
+        versions.close(view); // closes between the writer's check and its record
+        versions.recordBefore(write, 1, employee(1, 100), 0);
+        versions.endWrite(2);
+        assertEquals(0, versions.historySize());
+    }
+
+    @Test
+    void journalListsBeforeImagesInRecordOrder() {
+        VersionStore<Integer> versions = new VersionStore<>(4);
+        long view = versions.open();
+        VersionStore.Recorded<Integer> start = versions.journal();
+        for (int id = 0; id < 3; id++) {
+            long write = versions.beginWrite(id);
+            versions.recordBefore(write, id, employee(id, 100), id);
+            versions.endWrite(id);
+        }
+        int id = 0;
+        for (VersionStore.Recorded<Integer> recorded = start.next(); recorded != null; recorded = recorded.next()) {
+            assertEquals(id++, recorded.employeeId());
+        }
+        assertEquals(3, id);
+        versions.close(view);
+    }
+}
@@ -0,0 +1,77 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of writing and loading EmployeeSnapshot files
+ */
+class EmployeeSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotRoundTrips() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        EmployeeDatabase<Integer> database = databaseOf(500);
+        EmployeeSnapshot.write(file, IdCodec.INTEGER, database, 1234);
+
+        EmployeeDatabase<Integer> loaded = new EmployeeDatabase<>();
+        assertEquals(1234, EmployeeSnapshot.load(file, IdCodec.INTEGER, loaded));
+        assertEquals(500, loaded.getTotalEmployeeCount());
+        for (Employee<Integer> employee : database.getAllEmployees()) {
+            assertEquals(employee.toString(), loaded.getEmployee(employee.employeeId()).toString());
+        }
+        assertFalse(Files.exists(directory.resolve("employees.snapshot.tmp")));
+    }
+
+    @Test
+    void missingSnapshotLoadsNothing() throws IOException {
+        EmployeeDatabase<Integer> loaded = new EmployeeDatabase<>();
+        assertEquals(0, EmployeeSnapshot.load(directory.resolve("none"), IdCodec.INTEGER, loaded));
+        assertEquals(0, loaded.getTotalEmployeeCount());
+    }
+
+    @Test
+    void corruptSnapshotAddsNoEmployee() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        EmployeeSnapshot.write(file, IdCodec.INTEGER, databaseOf(500), 0);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01; // inside a name or number: still decodes, fails the checksum
+        Files.write(file, bytes);
+
+        EmployeeDatabase<Integer> loaded = new EmployeeDatabase<>();
+        assertThrows(IOException.class, () -> EmployeeSnapshot.load(file, IdCodec.INTEGER, loaded));
+        assertEquals(0, loaded.getTotalEmployeeCount());
+    }
+
+    @Test
+    void truncatedSnapshotAddsNoEmployee() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        EmployeeSnapshot.write(file, IdCodec.INTEGER, databaseOf(500), 0);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length * 2 / 3));
+
+        EmployeeDatabase<Integer> loaded = new EmployeeDatabase<>();
+        assertThrows(IOException.class, () -> EmployeeSnapshot.load(file, IdCodec.INTEGER, loaded));
+        assertEquals(0, loaded.getTotalEmployeeCount());
+    }
+
+    private static EmployeeDatabase<Integer> databaseOf(int count) {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        for (int id = 0; id < count; id++) {
+            database.addEmployee(WriteAheadLogTest.employee(id));
+        }
+        return database;
+    }
+}
@@ -0,0 +1,94 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.EmployeeIdAllocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that IDs handed out before a crash are never handed out again after a restart
+ */
+class IdReservationFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void noIdIsReusedAfterACrash() throws Exception {
+        Path file = directory.resolve("employee-ids.dat");
+        Set<Integer> handedOut = new HashSet<>();
+        for (int run = 0; run < 3; run++) {
+            // every run "crashes": the allocator is dropped without any shutdown, only the file survives
+            EmployeeIdAllocator allocator = new EmployeeIdAllocator();
+            allocator.attach(new IdReservationFile(file));
+            List<CompletableFuture<List<Integer>>> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                threads.add(CompletableFuture.supplyAsync(() -> {
+                    List<Integer> ids = new ArrayList<>();
+                    for (int i = 0; i < 500; i++) {
+                        if (i % 50 == 0) {
+                            ids.addAll(allocator.allocateBlock(EmployeeIdAllocator.RESERVATION_SIZE / 3).toList());
+                        } else {
+                            ids.add(allocator.allocate());
+                        }
+                    }
+                    return ids;
+                }));
+            }
+            for (CompletableFuture<List<Integer>> thread : threads) {
+                for (int id : thread.join()) {
+                    assertTrue(handedOut.add(id), "ID " + id + " was handed out twice");
+                }
+            }
+            assertTrue(new IdReservationFile(file).load() >= allocator.peek(), "reserved past every ID");
+        }
+    }
+
+    @Test
+    void idsTypedByHandMoveTheSequenceAcrossRestarts() throws IOException {
+        Path file = directory.resolve("employee-ids.dat");
+        EmployeeIdAllocator allocator = new EmployeeIdAllocator();
+        allocator.attach(new IdReservationFile(file));
+        allocator.observe(50_000); // e.g. an employee added with a typed ID
+        int last = allocator.allocate();
+        assertEquals(50_001, last);
+
+        EmployeeIdAllocator restarted = new EmployeeIdAllocator();
+        restarted.attach(new IdReservationFile(file));
+        assertTrue(restarted.allocate() > last);
+    }
+
+    @Test
+    void missingFileStartsAtTheFirstId() throws IOException {
+        IdReservationFile reservations = new IdReservationFile(directory.resolve("missing.dat"));
+        assertEquals(0, reservations.load());
+        EmployeeIdAllocator allocator = new EmployeeIdAllocator();
+        allocator.attach(reservations);
+        assertEquals(EmployeeIdAllocator.FIRST_ID, allocator.allocate());
+        assertEquals(EmployeeIdAllocator.FIRST_ID + 1 + EmployeeIdAllocator.RESERVATION_SIZE, reservations.load());
+    }
+
+    @Test
+    void damagedFilesAreRefused() throws IOException {
+        Path file = directory.resolve("employee-ids.dat");
+        new IdReservationFile(file).save(123_456);
+        byte[] bytes = Files.readAllBytes(file);
+
+        bytes[6] ^= 1; // a bit of the limit
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> new IdReservationFile(file).load());
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> new IdReservationFile(file).load());
+    }
+}
@@ -0,0 +1,266 @@
+package com.employeemanagement.employeemanagementsystem.model.persistence;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePatch;
+import com.employeemanagement.employeemanagementsystem.model.batch.SalaryPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of WriteAheadLog replay, torn-tail recovery and compaction
+ */
+class WriteAheadLogTest {
+
+    private static final WriteAheadLog.Options OPTIONS =
+            new WriteAheadLog.Options(Duration.ofMillis(1), 4096, false, true);
+
+    @TempDir
+    Path directory;
+
+    static Employee<Integer> employee(int id) {
+        return new Employee<>(id, "Employee " + id, EEmployeeDepartment.IT, 1_000 + id, 3, id % 40, true);
+    }
+
+    @Test
+    void replayRestoresAddsUpdatesAndDeletes() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database)) {
+            database.setMutationLog(log);
+            for (int id = 0; id < 100; id++) {
+                database.addEmployee(employee(id));
+            }
+            database.updateEmployee(5, new EmployeePatch().name("Renamed").salary(42));
+            database.deleteEmployee(7);
+            database.applySalaryPolicy(SalaryPolicy.percentRaise(0, 10), false);
+        }
+
+        EmployeeDatabase<Integer> restored = reopen(file, 0);
+        assertEquals(99, restored.getTotalEmployeeCount());
+        assertNull(restored.getEmployee(7));
+        assertEquals("Renamed", restored.getEmployee(5).employeeName());
+        for (Employee<Integer> employee : database.getAllEmployees()) {
+            Employee<Integer> copy = restored.getEmployee(employee.employeeId());
+            assertEquals(employee.employeeName(), copy.employeeName());
+            assertEquals(employee.employeeSalary(), copy.employeeSalary());
+        }
+    }
+
+    @Test
+    void tornTailIsTruncatedAndLoggingResumes() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database)) {
+            database.setMutationLog(log);
+            for (int id = 0; id < 10; id++) {
+                database.addEmployee(employee(id));
+            }
+        }
+        long intact = Files.size(file);
+        // a crash in the middle of the next record: a frame header promising more than was written
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 9, 9}));
+        }
+
+        EmployeeDatabase<Integer> restored = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, restored)) {
+            assertEquals(intact, Files.size(file));
+            assertEquals(10, restored.getTotalEmployeeCount());
+            restored.setMutationLog(log);
+            restored.addEmployee(employee(10));
+        }
+        assertEquals(11, reopen(file, 0).getTotalEmployeeCount());
+    }
+
+    @Test
+    void corruptPayloadEndsReplay() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database)) {
+            database.setMutationLog(log);
+            for (int id = 0; id < 3; id++) {
+                database.addEmployee(employee(id));
+            }
+        }
+        // flip the last byte: the last record fails its checksum
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            last.put(0, (byte) (last.get(0) ^ 0xFF)).rewind();
+            channel.write(last, channel.size() - 1);
+        }
+        assertEquals(2, reopen(file, 0).getTotalEmployeeCount());
+    }
+
+    @Test
+    void tornSalaryBatchIsDroppedWhole() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database)) {
+            database.setMutationLog(log);
+            for (int id = 0; id < 100; id++) {
+                database.addEmployee(employee(id));
+            }
+        }
+        long beforeBatch = Files.size(file);
+        EmployeeDatabase<Integer> reopened = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, reopened)) {
+            reopened.setMutationLog(log);
+            reopened.applySalaryPolicy(SalaryPolicy.percentRaise(0, 10), false);
+        }
+        long afterBatch = Files.size(file);
+        assertTrue(afterBatch - beforeBatch < 100 * 20, "the batch was not logged as one record");
+        assertEquals(1_100, reopen(file, 0).getEmployee(0).employeeSalary(), 1e-9);
+
+        // a crash halfway through writing the batch: none of its raises may come back
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(beforeBatch + (afterBatch - beforeBatch) / 2);
+        }
+        EmployeeDatabase<Integer> restored = reopen(file, 0);
+        assertEquals(100, restored.getTotalEmployeeCount());
+        for (int id = 0; id < 100; id++) {
+            assertEquals(employee(id).employeeSalary(), restored.getEmployee(id).employeeSalary());
+        }
+    }
+
+    @Test
+    void tornUpdateIsDroppedWhole() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database)) {
+            database.setMutationLog(log);
+            database.addEmployee(employee(1));
+        }
+        long beforeUpdate = Files.size(file);
+        EmployeeDatabase<Integer> reopened = new EmployeeDatabase<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, reopened)) {
+            reopened.setMutationLog(log);
+            reopened.updateEmployee(1, new EmployeePatch().name("Moved").department(EEmployeeDepartment.HR)
+                    .salary(9_000).active(false));
+        }
+        long afterUpdate = Files.size(file);
+        Employee<Integer> updated = reopen(file, 0).getEmployee(1);
+        assertEquals(new Employee<>(1, "Moved", EEmployeeDepartment.HR, 9_000, 3, 1, false), updated);
+
+        // a crash halfway through writing the update: none of its fields may come back
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(afterUpdate - 1);
+        }
+        assertEquals(employee(1), reopen(file, 0).getEmployee(1));
+    }
+
+    @Test
+    void truncateBeforeKeepsOnlyTheLaterRecords() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        long checkpoint;
+        try (WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database)) {
+            database.setMutationLog(log);
+            for (int id = 0; id < 50; id++) {
+                database.addEmployee(employee(id));
+            }
+            checkpoint = log.checkpointLsn();
+            for (int id = 50; id < 60; id++) {
+                database.addEmployee(employee(id));
+            }
+            long before = Files.size(file);
+            log.truncateBefore(checkpoint);
+            assertTrue(Files.size(file) < before);
+            database.addEmployee(employee(60)); // appends go to the compacted file
+        }
+
+        EmployeeDatabase<Integer> tail = reopen(file, checkpoint);
+        assertEquals(11, tail.getTotalEmployeeCount());
+        assertNotNull(tail.getEmployee(50));
+        assertNull(tail.getEmployee(49));
+        // replaying from before the compaction point would miss records
+        assertThrows(IOException.class, () -> reopen(file, 0));
+    }
+
+    @Test
+    void failedLogRejectsMutationsBeforeTheyApply() {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        database.addEmployee(employee(1));
+        database.setMutationLog(new FailedLog());
+
+        assertThrows(UncheckedIOException.class, () -> database.addEmployee(employee(2)));
+        assertThrows(UncheckedIOException.class, () -> database.updateEmployee(1, new EmployeePatch().salary(5)));
+        assertThrows(UncheckedIOException.class, () -> database.deleteEmployee(1));
+        assertThrows(UncheckedIOException.class,
+                () -> database.applySalaryPolicy(SalaryPolicy.percentRaise(0, 10), false));
+
+        assertEquals(1, database.getTotalEmployeeCount());
+        assertNull(database.getEmployee(2));
+        assertEquals(employee(1).employeeSalary(), database.getEmployee(1).employeeSalary());
+        assertEquals(1, database.getEmployeesSortedBySalary().size());
+    }
+
+    @Test
+    void closedLogRejectsMutations() throws IOException {
+        Path file = directory.resolve("employees.wal");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        WriteAheadLog<Integer> log = WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database);
+        database.setMutationLog(log);
+        log.close();
+        assertThrows(IllegalStateException.class, () -> database.addEmployee(employee(1)));
+        assertEquals(0, database.getTotalEmployeeCount());
+    }
+
+    // Replays a log into a new database
+    private static EmployeeDatabase<Integer> reopen(Path file, long fromLsn) throws IOException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        WriteAheadLog.open(file, IdCodec.INTEGER, OPTIONS, database, fromLsn).close();
+        return database;
+    }
+
+    // A log whose flusher fails right after a writer checked it: the check passes, the append throws
+    private static final class FailedLog implements MutationLog<Integer> {
+
+        @Override
+        public long logAdd(Employee<Integer> employee) {
+            throw failure();
+        }
+
+        @Override
+        public long logUpdate(Integer employeeId, EmployeePatch changes) {
+            throw failure();
+        }
+
+        @Override
+        public long logDelete(Integer employeeId) {
+            throw failure();
+        }
+
+        @Override
+        public long logSalaryBatch(List<Integer> employeeIds, double[] newSalaries) {
+            throw failure();
+        }
+
+        @Override
+        public void ensureWritable() {
+        }
+
+        @Override
+        public void awaitDurable(long ticket) {
+            throw new AssertionError("applied without a record");
+        }
+
+        private static UncheckedIOException failure() {
+            return new UncheckedIOException(new IOException("disk full"));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.employeemanagement.employeemanagementsystem.model.query;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the criteria an EmployeeQuery checks
+ */
+class EmployeeQueryTest {
+
+    private static final Employee<Integer> ADA =
+            new Employee<>(1, "Ada Lovelace", EEmployeeDepartment.IT, 5_000, 4.5, 12, true);
+
+    @Test
+    void anEmptyQueryMatchesEveryone() {
+        EmployeeQuery query = new EmployeeQuery();
+        assertTrue(query.matches(ADA));
+        assertFalse(query.hasSalaryRange());
+        assertFalse(query.hasRatingRange());
+        assertFalse(query.hasExperienceRange());
+        assertFalse(query.hasLimit());
+    }
+
+    @Test
+    void rangesIncludeTheirBounds() {
+        assertTrue(new EmployeeQuery().salaryBetween(5_000, 5_000).matches(ADA));
+        assertTrue(new EmployeeQuery().ratingBetween(4.5, 5).matches(ADA));
+        assertTrue(new EmployeeQuery().experienceBetween(0, 12).matches(ADA));
+        assertFalse(new EmployeeQuery().salaryBetween(5_000.01, 9_000).matches(ADA));
+        assertFalse(new EmployeeQuery().ratingBetween(0, 4.49).matches(ADA));
+        assertFalse(new EmployeeQuery().experienceBetween(13, 40).matches(ADA));
+        assertTrue(new EmployeeQuery().salaryBetween(0, 1).hasSalaryRange());
+    }
+
+    @Test
+    void everyCriterionMustHold() {
+        EmployeeQuery query = new EmployeeQuery()
+                .department(EEmployeeDepartment.IT)
+                .nameContains("LOVE")
+                .salaryBetween(1_000, 9_000)
+                .active(true);
+        assertTrue(query.matches(ADA));
+        assertFalse(query.active(false).matches(ADA));
+        assertFalse(new EmployeeQuery().department(EEmployeeDepartment.HR).matches(ADA));
+        assertFalse(new EmployeeQuery().nameContains("grace").matches(ADA));
+    }
+
+    @Test
+    void negativeLimitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeQuery().limit(-1));
+        assertTrue(new EmployeeQuery().limit(0).hasLimit());
+    }
+}
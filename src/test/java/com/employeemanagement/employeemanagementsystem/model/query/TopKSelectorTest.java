@@ -0,0 +1,53 @@
+package com.employeemanagement.employeemanagementsystem.model.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that TopKSelector keeps the same elements a full sort would
+ */
+class TopKSelectorTest {
+
+    private static final Comparator<Integer> HIGHEST_FIRST = Comparator.reverseOrder();
+
+    private static List<Integer> randomValues(int count, long seed) {
+        Random random = new Random(seed);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(random.nextInt(500)); // repeats included
+        }
+        return values;
+    }
+
+    private static List<Integer> sortedPrefix(List<Integer> values, int k) {
+        List<Integer> sorted = new ArrayList<>(values);
+        sorted.sort(HIGHEST_FIRST);
+        return sorted.subList(0, Math.min(k, sorted.size()));
+    }
+
+    @Test
+    void selectionMatchesAFullSort() {
+        List<Integer> values = randomValues(10_000, 1);
+        for (int k : new int[]{0, 1, 10, 999, 10_000, 20_000}) {
+            assertEquals(sortedPrefix(values, k), TopKSelector.select(values, k, HIGHEST_FIRST), "k = " + k);
+        }
+    }
+
+    @Test
+    void parallelChunksMergeToTheSameResult() {
+        List<Integer> values = randomValues(100_000, 2);
+        List<Integer> parallel = values.parallelStream().collect(TopKSelector.topK(50, HIGHEST_FIRST));
+        assertEquals(sortedPrefix(values, 50), parallel);
+    }
+
+    @Test
+    void negativeKIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKSelector<>(-1, HIGHEST_FIRST));
+    }
+}
@@ -0,0 +1,96 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of ConcurrentIntMap growth, removal and lock-free reads
+ */
+class ConcurrentIntMapTest {
+
+    @Test
+    void behavesLikeAHashMapThroughResizesAndRemovals() {
+        ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(50_000) - 1_000; // includes 0 and negative keys
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = "v" + i;
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, new HashMap<>(map));
+        for (int key = -1_000; key < 49_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(5));
+    }
+
+    @Test
+    void removedKeysCanBeAddedBackAndTombstonesDoNotGrowTheTable() {
+        ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+        for (int key = 1; key <= 1_000; key++) {
+            map.put(key, "v" + key);
+        }
+        long bytes = map.sizeInBytes();
+        for (int round = 0; round < 100; round++) { // the add-then-delete pattern of fresh employee IDs
+            for (int key = 1_001 + round * 1_000; key <= 2_000 + round * 1_000; key++) {
+                map.put(key, "v" + key);
+                assertEquals("v" + key, map.remove(key));
+            }
+        }
+        assertEquals(1_000, map.size());
+        assertTrue(map.sizeInBytes() <= bytes * 2, "tombstones were kept through rehashes");
+        map.remove(7);
+        assertNull(map.get(7));
+        map.put(7, "back");
+        assertEquals("back", map.get(7));
+        assertEquals(1_000, map.size());
+    }
+
+    @Test
+    void readersAlwaysFindKeysThatStayWhileTheTableGrows() throws Exception {
+        ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+        for (int key = 1; key <= 1_000; key++) {
+            map.put(key, "v" + key);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int key = 1_001; key <= 300_000; key++) {
+                map.put(key, "v" + key); // grows every segment several times
+                if (key % 3 == 0) {
+                    map.remove(key - 1);
+                }
+            }
+            done.set(true);
+        });
+        Random random = new Random(5);
+        while (!done.get()) {
+            int key = 1 + random.nextInt(1_000);
+            assertEquals("v" + key, map.get(key), "a stable key was lost during a resize");
+        }
+        writer.get(1, TimeUnit.MINUTES);
+        for (int key = 1_001; key <= 300_000; key++) {
+            String value = map.get(key);
+            if ((key + 1) % 3 == 0 && key + 1 <= 300_000) {
+                assertNull(value);
+            } else {
+                assertEquals("v" + key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.employeemanagement.employeemanagementsystem.model.storage;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeePageSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of writing a MappedEmployeeFile, opening it again and refusing damaged files
+ */
+class MappedEmployeeFileTest {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    @TempDir
+    Path directory;
+
+    private static List<Employee<Integer>> roster(int count) {
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = switch (i % 4) {
+                case 0 -> "Employee " + i;
+                case 1 -> "Zoë Ångström " + i;
+                case 2 -> "山田 太郎 " + i;
+                default -> "😀 " + i; // four UTF-8 bytes, two chars
+            };
+            employees.add(new Employee<>(10_000 - i, name, DEPARTMENTS[i % DEPARTMENTS.length],
+                    1_000 + i * 1.5, (i % 51) / 10.0, i % 40, i % 3 != 0));
+        }
+        return employees;
+    }
+
+    @Test
+    void writtenRosterOpensWithTheSameEmployees() throws IOException {
+        Path file = directory.resolve("roster.emp");
+        List<Employee<Integer>> employees = roster(5_000);
+        MappedEmployeeFile.write(file, employees);
+
+        try (MappedEmployeeFile roster = MappedEmployeeFile.open(file)) {
+            assertEquals(employees.size(), roster.size());
+            MappedEmployeeFile.Record record = roster.record();
+            for (int i = 0; i < employees.size(); i++) {
+                assertEquals(employees.get(i), record.at(i).toEmployee());
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> record.at(employees.size()));
+
+            assertEquals(employees.stream().filter(Employee::isActive).count(), roster.activeCount());
+            for (EEmployeeDepartment department : DEPARTMENTS) {
+                double expected = employees.stream().filter(e -> e.employeeDepartment() == department)
+                        .mapToDouble(Employee::employeeSalary).average().orElse(0);
+                assertEquals(expected, roster.averageSalary(department), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void pageSourceReadsPagesAndFindsPositions() throws IOException {
+        Path file = directory.resolve("roster.emp");
+        List<Employee<Integer>> employees = roster(3_000);
+        MappedEmployeeFile.write(file, employees);
+
+        try (MappedEmployeeFile roster = MappedEmployeeFile.open(file)) {
+            EmployeePageSource<Integer> source = roster.asPageSource();
+            assertEquals(3_000, source.size());
+            assertEquals(employees.subList(2_000, 2_100), source.page(2_000, 100));
+            assertEquals(employees.subList(2_950, 3_000), source.page(2_950, 100)); // cut at the end
+            assertEquals(List.of(), source.page(5_000, 10));
+            assertEquals(employees.subList(0, 5), source.page(-3, 5));
+            assertEquals(employees, source.stream().collect(Collectors.toList()));
+
+            assertEquals(0, source.indexOf(employees.get(0)));
+            assertEquals(2_999, source.indexOf(employees.get(2_999)));
+            assertEquals(-1, source.indexOf(new Employee<>(1, "Absent", EEmployeeDepartment.IT, 1, 1, 1, true)));
+        }
+    }
+
+    @Test
+    void emptyRosterRoundTrips() throws IOException {
+        Path file = directory.resolve("empty.emp");
+        MappedEmployeeFile.write(file, List.of());
+        try (MappedEmployeeFile roster = MappedEmployeeFile.open(file)) {
+            assertEquals(0, roster.size());
+            assertEquals(0, roster.activeCount());
+            assertEquals(0, roster.averageSalary(EEmployeeDepartment.IT));
+        }
+    }
+
+    @Test
+    void damagedHeadersAreRefused() throws IOException {
+        Path file = directory.resolve("roster.emp");
+        MappedEmployeeFile.write(file, roster(10));
+        byte[] valid = Files.readAllBytes(file);
+
+        assertRefused(file, withInt(valid, 0, 0x12345678)); // magic
+        assertRefused(file, withInt(valid, 4, 2)); // version
+        assertRefused(file, withInt(valid, 8, 11)); // count disagrees with where the heap starts
+        assertRefused(file, withInt(valid, 8, -1));
+        assertRefused(file, withInt(valid, 12, 64)); // record size
+        assertRefused(file, new byte[0]);
+        assertRefused(file, "not a roster file at all, just some text".getBytes());
+    }
+
+    @Test
+    void truncatedFilesAreRefused() throws IOException {
+        Path file = directory.resolve("roster.emp");
+        MappedEmployeeFile.write(file, roster(100));
+        long length = Files.size(file);
+        for (long cut : new long[]{length - 1, length / 2, 40, 31}) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(cut);
+            }
+            assertThrows(IOException.class, () -> MappedEmployeeFile.open(file), "cut at " + cut);
+        }
+    }
+
+    private static byte[] withInt(byte[] bytes, int offset, int value) {
+        byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, value);
+        return copy;
+    }
+
+    private static void assertRefused(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+        assertThrows(IOException.class, () -> MappedEmployeeFile.open(file));
+    }
+}